@@ -36,6 +36,8 @@ dependencies {
     implementation("com.auth0:java-jwt:4.4.0")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.7.0")
     implementation("io.jsonwebtoken:jjwt-api:0.11.5")
+    // API do driver (PGConnection) usada no LISTEN/NOTIFY do feed de solicitações públicas
+    implementation("org.postgresql:postgresql")
 
     // Lombok
     compileOnly("org.projectlombok:lombok")
@@ -45,7 +47,6 @@ dependencies {
     developmentOnly("org.springframework.boot:spring-boot-devtools")
 
     // Runtime
-    runtimeOnly("org.postgresql:postgresql")
     runtimeOnly("com.h2database:h2")
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.11.5")
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.11.5")
@@ -0,0 +1,47 @@
+package com.jusconnect.backend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Escolhe o custo do BCrypt de acordo com o hardware em que a aplicação está rodando.
+ * Mede um custo de referência barato e extrapola (cada incremento dobra o tempo), retornando
+ * o maior custo dentro dos limites cujo tempo estimado não ultrapassa o alvo configurado.
+ */
+public final class BCryptCostCalibrator {
+
+    private static final Logger log = LoggerFactory.getLogger(BCryptCostCalibrator.class);
+
+    private static final int CUSTO_REFERENCIA = 8;
+    private static final int AMOSTRAS = 3;
+
+    private BCryptCostCalibrator() {
+    }
+
+    public static int calibrar(long alvoMillis, int custoMinimo, int custoMaximo) {
+        BCryptPasswordEncoder referencia = new BCryptPasswordEncoder(CUSTO_REFERENCIA);
+        referencia.encode("calibracao"); // aquecimento do JIT
+
+        long melhorNanos = Long.MAX_VALUE;
+        for (int i = 0; i < AMOSTRAS; i++) {
+            long inicio = System.nanoTime();
+            referencia.encode("calibracao");
+            melhorNanos = Math.min(melhorNanos, System.nanoTime() - inicio);
+        }
+        double millisReferencia = melhorNanos / 1_000_000.0;
+
+        int custo = custoMinimo;
+        while (custo < custoMaximo && estimar(millisReferencia, custo + 1) <= alvoMillis) {
+            custo++;
+        }
+
+        log.info("BCrypt calibrado: custo {} (~{} ms por hash, alvo {} ms)",
+                custo, Math.round(estimar(millisReferencia, custo)), alvoMillis);
+        return custo;
+    }
+
+    private static double estimar(double millisReferencia, int custo) {
+        return millisReferencia * Math.pow(2, custo - CUSTO_REFERENCIA);
+    }
+}
@@ -6,15 +6,15 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import io.jsonwebtoken.Claims;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -31,13 +31,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             token = authHeader.substring(7);
         }
 
-        if (token != null && jwtUtil.isTokenValid(token)) {
-            Claims claims = jwtUtil.parseAllClaims(token);
-            String email = claims.getSubject();
-            // Você pode adicionar mais informações do usuário aqui, se desejar
-            User principal = new User(email, "", Collections.emptyList());
+        // Token é verificado uma única vez; os controllers recebem o principal via argument resolver
+        UsuarioAutenticado principal = token != null ? jwtUtil.parseUsuario(token) : null;
+        if (principal != null) {
+            List<SimpleGrantedAuthority> authorities = principal.getRole() != null
+                    ? List.of(new SimpleGrantedAuthority("ROLE_" + principal.getRole()))
+                    : Collections.emptyList();
             UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+                    new UsernamePasswordAuthenticationToken(principal, null, authorities);
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
@@ -1,8 +1,11 @@
 package com.jusconnect.backend.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -12,17 +15,23 @@ import java.time.Instant;
 import java.util.Date;
 
 @Component
-public class JwtUtil {
+public class JwtUtil implements MeterBinder {
 
     private final SecretKey secretKey;
     private final long expirationSeconds;
+    private final JwtParser parser;
+    private final TokenCache tokenCache;
 
     public JwtUtil(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration-seconds:3600}") long expirationSeconds
+            @Value("${jwt.expiration-seconds:3600}") long expirationSeconds,
+            @Value("${jwt.cache.max-size:10000}") int cacheMaxSize
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expirationSeconds = expirationSeconds;
+        // JwtParser é imutável e thread-safe, pode ser reutilizado entre requisições
+        this.parser = Jwts.parserBuilder().setSigningKey(secretKey).build();
+        this.tokenCache = new TokenCache(cacheMaxSize);
     }
 
     public String generateTokenForAdvogado(Long advogadoId, String email) {
@@ -49,21 +58,45 @@ public class JwtUtil {
                 .compact();
     }
 
-    public boolean isTokenValid(String token) {
+    /**
+     * Valida assinatura e expiração uma única vez e devolve o principal tipado.
+     * Retorna null se o token for inválido ou expirado.
+     */
+    public UsuarioAutenticado parseUsuario(String token) {
+        UsuarioAutenticado cached = tokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
         try {
             Claims claims = parseAllClaims(token);
             Date expiration = claims.getExpiration();
-            return expiration != null && expiration.after(new Date());
+            if (expiration == null || !expiration.after(new Date())) {
+                return null;
+            }
+            String role = claims.get("role", String.class);
+            Long id = UsuarioAutenticado.ROLE_ADVOGADO.equals(role)
+                    ? claims.get("aid", Long.class)
+                    : claims.get("cid", Long.class);
+            UsuarioAutenticado usuario = new UsuarioAutenticado(claims.getSubject(), role, id);
+            tokenCache.put(token, usuario, expiration.getTime());
+            return usuario;
         } catch (Exception e) {
-            return false;
+            return null;
         }
     }
 
     public Claims parseAllClaims(String token) {
-        return Jwts.parserBuilder()
-            .setSigningKey(secretKey)
-            .build()
+        return parser
             .parseClaimsJws(token)
             .getBody();
     }
+
+    public TokenCache getTokenCache() {
+        return tokenCache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        tokenCache.bindTo(registry);
+    }
 }
@@ -0,0 +1,166 @@
+package com.jusconnect.backend.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limitador de tentativas de login em memória, por CPF e por endereço remoto.
+ * Cada chave tem um token bucket; os buckets ficam em mapas LRU divididos em faixas (lock striping)
+ * para reduzir contenção. A memória é limitada pelo número máximo de chaves e entradas ociosas
+ * são descartadas ao acessar a faixa.
+ */
+@Component
+public class LoginRateLimiter implements MeterBinder {
+
+    private static final int FAIXAS = 64;
+
+    private final Buckets porCpf;
+    private final Buckets porIp;
+
+    public LoginRateLimiter(
+            @Value("${security.login-throttle.cpf.capacity:5}") int cpfCapacity,
+            @Value("${security.login-throttle.cpf.refill-per-minute:5}") int cpfRefillPerMinute,
+            @Value("${security.login-throttle.ip.capacity:20}") int ipCapacity,
+            @Value("${security.login-throttle.ip.refill-per-minute:20}") int ipRefillPerMinute,
+            @Value("${security.login-throttle.max-entries:100000}") int maxEntries,
+            @Value("${security.login-throttle.idle-minutes:15}") long idleMinutes
+    ) {
+        long idleNanos = TimeUnit.MINUTES.toNanos(idleMinutes);
+        this.porCpf = new Buckets(cpfCapacity, cpfRefillPerMinute, maxEntries, idleNanos);
+        this.porIp = new Buckets(ipCapacity, ipRefillPerMinute, maxEntries, idleNanos);
+    }
+
+    /**
+     * Consome uma tentativa para o IP e para o CPF.
+     * Retorna 0 se o login pode prosseguir, ou o número de segundos até a próxima tentativa permitida.
+     */
+    public long tryAcquire(String cpf, String remoteAddress) {
+        long esperaIp = porIp.tryConsume(remoteAddress);
+        if (esperaIp > 0) {
+            return esperaIp;
+        }
+        return porCpf.tryConsume(cpf);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        porCpf.bindTo(registry, "cpf");
+        porIp.bindTo(registry, "ip");
+    }
+
+    private static final class Bucket {
+        double tokens;
+        long ultimoAcessoNanos;
+
+        Bucket(double tokens, long agora) {
+            this.tokens = tokens;
+            this.ultimoAcessoNanos = agora;
+        }
+    }
+
+    private static final class Buckets {
+
+        private final double capacidade;
+        private final double tokensPorNano;
+        private final long ociosoNanos;
+        private final LinkedHashMap<String, Bucket>[] faixas;
+
+        private final AtomicLong permitidos = new AtomicLong();
+        private final AtomicLong bloqueados = new AtomicLong();
+
+        @SuppressWarnings("unchecked")
+        Buckets(int capacidade, int recargaPorMinuto, int maxEntradas, long ociosoNanos) {
+            this.capacidade = capacidade;
+            this.tokensPorNano = recargaPorMinuto / (double) TimeUnit.MINUTES.toNanos(1);
+            this.ociosoNanos = ociosoNanos;
+            int maxPorFaixa = Math.max(1, maxEntradas / FAIXAS);
+            this.faixas = new LinkedHashMap[FAIXAS];
+            for (int i = 0; i < FAIXAS; i++) {
+                faixas[i] = new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                        return size() > maxPorFaixa;
+                    }
+                };
+            }
+        }
+
+        long tryConsume(String chave) {
+            if (chave == null) {
+                chave = "";
+            }
+            LinkedHashMap<String, Bucket> faixa = faixas[(chave.hashCode() & 0x7fffffff) % FAIXAS];
+            long agora = System.nanoTime();
+            synchronized (faixa) {
+                removerOciosos(faixa, agora);
+
+                Bucket bucket = faixa.get(chave);
+                if (bucket == null) {
+                    bucket = new Bucket(capacidade, agora);
+                    faixa.put(chave, bucket);
+                } else {
+                    double recarga = (agora - bucket.ultimoAcessoNanos) * tokensPorNano;
+                    bucket.tokens = Math.min(capacidade, bucket.tokens + recarga);
+                    bucket.ultimoAcessoNanos = agora;
+                }
+
+                if (bucket.tokens >= 1) {
+                    bucket.tokens -= 1;
+                    permitidos.incrementAndGet();
+                    return 0;
+                }
+                bloqueados.incrementAndGet();
+                double nanosAteProximo = (1 - bucket.tokens) / tokensPorNano;
+                return Math.max(1, (long) Math.ceil(nanosAteProximo / TimeUnit.SECONDS.toNanos(1)));
+            }
+        }
+
+        // Mapa em ordem de acesso: as entradas mais antigas ficam no início
+        private void removerOciosos(LinkedHashMap<String, Bucket> faixa, long agora) {
+            Iterator<Bucket> it = faixa.values().iterator();
+            while (it.hasNext()) {
+                if (agora - it.next().ultimoAcessoNanos < ociosoNanos) {
+                    break;
+                }
+                it.remove();
+            }
+        }
+
+        int tamanho() {
+            int total = 0;
+            for (LinkedHashMap<String, Bucket> faixa : faixas) {
+                synchronized (faixa) {
+                    total += faixa.size();
+                }
+            }
+            return total;
+        }
+
+        void bindTo(MeterRegistry registry, String tipo) {
+            FunctionCounter.builder("auth.login.throttle", permitidos, AtomicLong::get)
+                    .tag("key", tipo)
+                    .tag("result", "allowed")
+                    .description("Tentativas de login liberadas pelo limitador")
+                    .register(registry);
+            FunctionCounter.builder("auth.login.throttle", bloqueados, AtomicLong::get)
+                    .tag("key", tipo)
+                    .tag("result", "rejected")
+                    .description("Tentativas de login bloqueadas pelo limitador")
+                    .register(registry);
+            Gauge.builder("auth.login.throttle.entries", this, Buckets::tamanho)
+                    .tag("key", tipo)
+                    .description("Chaves monitoradas pelo limitador de login")
+                    .register(registry);
+        }
+    }
+}
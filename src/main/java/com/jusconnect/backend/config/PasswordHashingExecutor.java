@@ -0,0 +1,140 @@
+package com.jusconnect.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool dedicado e limitado para o trabalho de BCrypt (login, cadastro e troca de senha).
+ * Mantém o custo de CPU do hashing fora das threads do Tomcat: quando a fila enche, a chamada
+ * falha imediatamente com {@link PasswordHashingRejectedException} em vez de acumular requisições,
+ * preservando a capacidade dos demais endpoints.
+ */
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final long retryAfterSeconds;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejeicoes;
+
+    public PasswordHashingExecutor(
+            BCryptPasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${security.password-hashing.threads:0}") int threads,
+            @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password-hashing.timeout-ms:5000}") long timeoutMillis,
+            @Value("${security.password-hashing.retry-after-seconds:1}") long retryAfterSeconds
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger contador = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + contador.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("password.hash.duration")
+                .tag("operation", "encode")
+                .description("Tempo de execução do BCrypt no pool dedicado")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash.duration")
+                .tag("operation", "matches")
+                .description("Tempo de execução do BCrypt no pool dedicado")
+                .register(meterRegistry);
+        this.rejeicoes = Counter.builder("password.hash.rejected")
+                .description("Operações de hashing rejeitadas por saturação do pool")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue.size", executor, e -> e.getQueue().size())
+                .description("Operações de hashing aguardando na fila")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Threads executando BCrypt no momento")
+                .register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return executar(() -> encodeTimer.recordCallable(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return executar(() -> matchesTimer.recordCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    // Hash em texto puro (legado) ou com custo inferior ao configurado deve ser regerado
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || !isBCrypt(encodedPassword)) {
+            return true;
+        }
+        try {
+            return passwordEncoder.upgradeEncoding(encodedPassword);
+        } catch (IllegalArgumentException e) {
+            return true;
+        }
+    }
+
+    public static boolean isBCrypt(String encodedPassword) {
+        return encodedPassword.startsWith("$2a") || encodedPassword.startsWith("$2b") || encodedPassword.startsWith("$2y");
+    }
+
+    private <T> T executar(Callable<T> tarefa) {
+        Future<T> future;
+        try {
+            future = executor.submit(tarefa);
+        } catch (RejectedExecutionException e) {
+            rejeicoes.increment();
+            throw new PasswordHashingRejectedException(
+                    "Serviço temporariamente sobrecarregado. Tente novamente em instantes.", retryAfterSeconds);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejeicoes.increment();
+            throw new PasswordHashingRejectedException(
+                    "Serviço temporariamente sobrecarregado. Tente novamente em instantes.", retryAfterSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Hashing de senha interrompido", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Falha no hashing de senha", e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,15 @@
+package com.jusconnect.backend.config;
+
+import lombok.Getter;
+
+// Lançada quando o pool de hashing de senha está saturado; os controllers respondem 503 com Retry-After
+@Getter
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingRejectedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -1,6 +1,8 @@
 package com.jusconnect.backend.config;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -16,9 +18,15 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    // strength > 0 fixa o custo; caso contrário ele é calibrado na inicialização para o tempo alvo
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder passwordEncoder(
+            @Value("${security.password-hashing.strength:0}") int strength,
+            @Value("${security.password-hashing.target-ms:250}") long targetMillis,
+            @Value("${security.password-hashing.min-strength:10}") int minStrength,
+            @Value("${security.password-hashing.max-strength:14}") int maxStrength) {
+        int custo = strength > 0 ? strength : BCryptCostCalibrator.calibrar(targetMillis, minStrength, maxStrength);
+        return new BCryptPasswordEncoder(custo);
     }
 
     @Bean
@@ -27,6 +35,8 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+            // Dispatch assíncrono do SSE: a requisição original já foi autenticada
+            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
             .requestMatchers(
                 "/swagger-ui.html",
                 "/swagger-ui/**",
@@ -0,0 +1,66 @@
+package com.jusconnect.backend.config;
+
+import java.util.Map;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Sequências de id das entidades com inserção em massa. Com alocação em blocos (pooled-lo), cada
+ * nextval reserva ALOCACAO ids e o Hibernate numera as linhas em memória, o que permite agrupar os
+ * INSERTs em batch; com IDENTITY seria uma ida ao banco por linha.
+ *
+ * Bancos criados quando os ids eram IDENTITY já têm linhas com ids que a sequência recém-criada pelo
+ * ddl-auto ainda vai entregar. Na inicialização, antes de qualquer INSERT, cada sequência é avançada
+ * para além do maior id da tabela. As colunas IDENTITY antigas são "by default" e aceitam o id informado.
+ */
+@Component
+public class SequenciasIds {
+
+    private static final Logger log = LoggerFactory.getLogger(SequenciasIds.class);
+
+    public static final int ALOCACAO = 50;
+
+    public static final String ADVOGADOS = "advogados_seq";
+    public static final String CLIENTES = "clientes_seq";
+    public static final String SOLICITACOES = "solicitacoes_seq";
+
+    private static final Map<String, String> TABELAS = Map.of(
+            ADVOGADOS, "advogados",
+            CLIENTES, "clientes",
+            SOLICITACOES, "solicitacoes");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Dialect dialect;
+
+    // Depender da EntityManagerFactory garante que o ddl-auto já criou as sequências
+    public SequenciasIds(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+    }
+
+    @PostConstruct
+    public void alinhar() {
+        TABELAS.forEach(this::alinhar);
+    }
+
+    private void alinhar(String sequencia, String tabela) {
+        // O bloco que começa em "proximo" é consumido aqui; os anteriores já foram entregues pela sequência,
+        // então um id maior ou igual a ele só pode ter vindo da antiga coluna IDENTITY
+        Long proximo = jdbcTemplate.queryForObject(
+                dialect.getSequenceSupport().getSequenceNextValString(sequencia), Long.class);
+        Long maiorId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + tabela, Long.class);
+        if (maiorId == null || proximo == null || maiorId < proximo) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequencia + " RESTART WITH " + (maiorId + 1));
+        log.info("Sequência {} reiniciada em {} (maior id de {})", sequencia, maiorId + 1, tabela);
+    }
+}
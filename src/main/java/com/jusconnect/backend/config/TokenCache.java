@@ -0,0 +1,200 @@
+package com.jusconnect.backend.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Cache limitado de tokens já verificados, com remoção aproximada do menos usado.
+ * A chave é o SHA-256 do token (o token bruto não fica retido em memória) e cada
+ * entrada expira no "exp" do próprio JWT. Um acerto evita a verificação HMAC e a
+ * desserialização dos claims.
+ *
+ * Fica no caminho de toda requisição autenticada, então não há lock global: o mapa é um
+ * ConcurrentHashMap e o acerto só grava o instante de acesso na própria entrada.
+ *
+ * Cada chave em cache ocupa uma posição de um anel de maxSize posições. Com o anel cheio, a
+ * inserção examina {@link #AMOSTRA_REMOCAO} posições seguidas a partir de uma posição aleatória,
+ * remove a entrada expirada ou a de acesso mais antigo entre elas e ocupa a posição liberada.
+ * A amostra cobre o cache inteiro ao longo do tempo, não só os primeiros buckets do mapa.
+ * Uma posição cuja chave já saiu do mapa (expirada no get ou perdida numa corrida) é reaproveitada
+ * sem remover ninguém.
+ */
+public class TokenCache implements MeterBinder {
+
+    static final int AMOSTRA_REMOCAO = 8;
+
+    private static final class Entrada {
+        private final UsuarioAutenticado usuario;
+        private final long expiraEmMillis;
+        // Gravada antes de a chave ser publicada no anel, para que a posição nunca pareça livre
+        private volatile int posicao = -1;
+        private volatile long ultimoAcesso = System.nanoTime();
+
+        private Entrada(UsuarioAutenticado usuario, long expiraEmMillis) {
+            this.usuario = usuario;
+            this.expiraEmMillis = expiraEmMillis;
+        }
+    }
+
+    private final int maxSize;
+    private final Map<String, Entrada> entradas = new ConcurrentHashMap<>();
+
+    // Chave que ocupa cada posição; a posição está livre quando a entrada da chave não aponta para ela
+    private final AtomicReferenceArray<String> anel;
+    private final AtomicInteger posicoesUsadas = new AtomicInteger();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public TokenCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.anel = new AtomicReferenceArray<>(Math.max(maxSize, 0));
+    }
+
+    public UsuarioAutenticado get(String token) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        String chave = digest(token);
+        Entrada entrada = entradas.get(chave);
+        if (entrada == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (entrada.expiraEmMillis <= System.currentTimeMillis()) {
+            if (entradas.remove(chave, entrada)) {
+                evictions.incrementAndGet();
+            }
+            misses.incrementAndGet();
+            return null;
+        }
+        entrada.ultimoAcesso = System.nanoTime();
+        hits.incrementAndGet();
+        return entrada.usuario;
+    }
+
+    public void put(String token, UsuarioAutenticado usuario, long expiraEmMillis) {
+        if (maxSize <= 0) {
+            return;
+        }
+        String chave = digest(token);
+        Entrada nova = new Entrada(usuario, expiraEmMillis);
+        // Mesmo token verificado em paralelo: a entrada que já está no mapa tem o mesmo conteúdo
+        if (entradas.putIfAbsent(chave, nova) == null) {
+            ocuparPosicao(chave, nova);
+        }
+    }
+
+    public int size() {
+        return entradas.size();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jwt.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .description("Tokens resolvidos pelo cache sem verificar a assinatura")
+                .register(registry);
+        FunctionCounter.builder("jwt.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .description("Tokens que precisaram de verificação completa")
+                .register(registry);
+        FunctionCounter.builder("jwt.cache.evictions", evictions, AtomicLong::get)
+                .description("Entradas removidas por limite de tamanho ou expiração")
+                .register(registry);
+        Gauge.builder("jwt.cache.size", this, TokenCache::size)
+                .description("Quantidade de tokens verificados em cache")
+                .register(registry);
+    }
+
+    // Posição nunca usada enquanto houver; depois, uma livre da amostra ou a liberada pela remoção de uma entrada dela
+    private void ocuparPosicao(String chave, Entrada nova) {
+        if (posicoesUsadas.get() < maxSize) {
+            int posicao = posicoesUsadas.getAndIncrement();
+            if (posicao < maxSize) {
+                nova.posicao = posicao;
+                anel.set(posicao, chave);
+                return;
+            }
+        }
+
+        while (true) {
+            long agora = System.currentTimeMillis();
+            int inicio = ThreadLocalRandom.current().nextInt(maxSize);
+            int escolhida = -1;
+            String chaveEscolhida = null;
+            Entrada entradaEscolhida = null;
+            for (int k = 0; k < Math.min(AMOSTRA_REMOCAO, maxSize); k++) {
+                int posicao = (inicio + k) % maxSize;
+                String ocupante = anel.get(posicao);
+                if (ocupante == null) {
+                    // Posição nova entregue a outra inserção que ainda não gravou a chave
+                    continue;
+                }
+                Entrada entrada = entradas.get(ocupante);
+                if (entrada == null || entrada.posicao != posicao) {
+                    nova.posicao = posicao;
+                    if (anel.compareAndSet(posicao, ocupante, chave)) {
+                        return;
+                    }
+                    continue;
+                }
+                if (entrada.expiraEmMillis <= agora) {
+                    escolhida = posicao;
+                    chaveEscolhida = ocupante;
+                    entradaEscolhida = entrada;
+                    break;
+                }
+                if (entradaEscolhida == null || entrada.ultimoAcesso < entradaEscolhida.ultimoAcesso) {
+                    escolhida = posicao;
+                    chaveEscolhida = ocupante;
+                    entradaEscolhida = entrada;
+                }
+            }
+            // Outra inserção pode ter removido a mesma entrada ou tomado a posição: tenta outra amostra
+            if (entradaEscolhida != null && entradas.remove(chaveEscolhida, entradaEscolhida)) {
+                evictions.incrementAndGet();
+                nova.posicao = escolhida;
+                if (anel.compareAndSet(escolhida, chaveEscolhida, chave)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] hash = md.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.jusconnect.backend.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Principal armazenado no SecurityContext após a validação do JWT.
+ * Carrega o papel (ADVOGADO ou CLIENTE) e o identificador extraído do claim "aid" ou "cid",
+ * evitando que os controllers precisem reler o header e decodificar o token novamente.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class UsuarioAutenticado {
+
+    public static final String ROLE_ADVOGADO = "ADVOGADO";
+    public static final String ROLE_CLIENTE = "CLIENTE";
+
+    private final String email;
+    private final String role;
+    private final Long id;
+
+    public boolean isAdvogado() {
+        return ROLE_ADVOGADO.equals(role) && id != null;
+    }
+
+    public boolean isCliente() {
+        return ROLE_CLIENTE.equals(role) && id != null;
+    }
+
+    // Retorna o id do advogado ou null se o token não for de advogado
+    public Long getAdvogadoId() {
+        return isAdvogado() ? id : null;
+    }
+
+    // Retorna o id do cliente ou null se o token não for de cliente
+    public Long getClienteId() {
+        return isCliente() ? id : null;
+    }
+}
@@ -1,11 +1,11 @@
 package com.jusconnect.backend.controllers;
 
-import java.util.List;
-
-import com.jusconnect.backend.config.JwtUtil;
+import com.jusconnect.backend.config.PasswordHashingRejectedException;
+import com.jusconnect.backend.config.UsuarioAutenticado;
 import com.jusconnect.backend.dtos.AdvogadoRequestDTO;
 import com.jusconnect.backend.dtos.AdvogadoResponseDTO;
 import com.jusconnect.backend.dtos.AdvogadoUpdateDTO;
+import com.jusconnect.backend.dtos.PaginaResponseDTO;
 import com.jusconnect.backend.services.interfaces.AdvogadoServiceInterface;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -18,8 +18,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import io.jsonwebtoken.Claims;
-import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
 
 @RestController
 @RequestMapping("/advogados")
@@ -28,13 +27,16 @@ import jakarta.servlet.http.HttpServletRequest;
 public class AdvogadoController {
 
     private final AdvogadoServiceInterface advogadoService;
-    private final JwtUtil jwtUtil;
 
     @Operation(
         summary = "Listar advogados para busca (cliente)",
-        description = "Retorna todos os perfis de advogados cadastrados em ordem alfabética para o cliente logado.",
+        description = "Retorna os perfis de advogados em ordem alfabética para o cliente logado, paginados por cursor. "
+            + "O parâmetro areaAtuacao pode ser repetido para buscar advogados de qualquer uma das áreas. "
+            + "Com facetas=true, a resposta inclui as contagens por área e por tempo na plataforma. "
+            + "Envie o proximoCursor recebido no parâmetro cursor para obter a página seguinte.",
         responses = {
-            @ApiResponse(responseCode = "200", description = "Lista de advogados retornada"),
+            @ApiResponse(responseCode = "200", description = "Página de advogados retornada"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido"),
             @ApiResponse(responseCode = "401", description = "Token não informado ou inválido"),
             @ApiResponse(responseCode = "403", description = "Acesso permitido apenas para clientes"),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
@@ -42,25 +44,63 @@ public class AdvogadoController {
     )
     @GetMapping
     public ResponseEntity<?> listarAdvogadosParaBusca(
-            HttpServletRequest request,
-            @RequestParam(value = "areaAtuacao", required = false) String areaAtuacao,
-            @RequestParam(value = "tempoMinMeses", required = false) Integer tempoMinMeses) {
+            UsuarioAutenticado usuario,
+            @RequestParam(value = "areaAtuacao", required = false) List<String> areasAtuacao,
+            @RequestParam(value = "tempoMinMeses", required = false) Integer tempoMinMeses,
+            @RequestParam(value = "tamanho", required = false) Integer tamanho,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "facetas", defaultValue = "false") boolean facetas) {
         try {
-            String authHeader = request.getHeader("Authorization");
-            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            if (usuario == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não informado ou inválido");
             }
 
-            String token = authHeader.substring(7);
-            Claims claims = jwtUtil.parseAllClaims(token);
-            String role = claims.get("role", String.class);
-
-            if (!"CLIENTE".equals(role)) {
+            if (!usuario.isCliente()) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Apenas clientes podem listar advogados para busca");
             }
 
-            List<AdvogadoResponseDTO> advogados = advogadoService.buscarAdvogados(areaAtuacao, tempoMinMeses);
+            PaginaResponseDTO<AdvogadoResponseDTO> advogados =
+                    advogadoService.buscarAdvogados(areasAtuacao, tempoMinMeses, tamanho, cursor, facetas);
+            return ResponseEntity.ok(advogados);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Erro interno do servidor");
+        }
+    }
+
+    @Operation(
+        summary = "Buscar advogados por texto (cliente)",
+        description = "Busca textual ranqueada sobre nome, área de atuação e autodescrição, paginada por cursor. "
+            + "Envie o proximoCursor recebido no parâmetro cursor para obter a página seguinte.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Página de advogados retornada em ordem de relevância"),
+            @ApiResponse(responseCode = "400", description = "Texto da busca ausente ou cursor inválido"),
+            @ApiResponse(responseCode = "401", description = "Token não informado ou inválido"),
+            @ApiResponse(responseCode = "403", description = "Acesso permitido apenas para clientes"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        }
+    )
+    @GetMapping("/busca")
+    public ResponseEntity<?> buscarPorTexto(
+            UsuarioAutenticado usuario,
+            @RequestParam(value = "q", required = false) String consulta,
+            @RequestParam(value = "tamanho", required = false) Integer tamanho,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        try {
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não informado ou inválido");
+            }
+
+            if (!usuario.isCliente()) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Apenas clientes podem buscar advogados");
+            }
+
+            PaginaResponseDTO<AdvogadoResponseDTO> advogados =
+                    advogadoService.buscarAdvogadosPorTexto(consulta, tamanho, cursor);
             return ResponseEntity.ok(advogados);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Erro interno do servidor");
         }
@@ -82,6 +122,9 @@ public class AdvogadoController {
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (PasswordHashingRejectedException e) {
+            // Respondida com 503 e Retry-After pelo ValidationExceptionHandler
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Erro interno do servidor");
         }
@@ -98,16 +141,13 @@ public class AdvogadoController {
         }
     )
     @GetMapping("/me")
-    public ResponseEntity<?> visualizarMeuPerfil(HttpServletRequest request) {
+    public ResponseEntity<?> visualizarMeuPerfil(UsuarioAutenticado usuario) {
         try {
-            String authHeader = request.getHeader("Authorization");
-            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            if (usuario == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não informado ou inválido");
             }
 
-            String token = authHeader.substring(7);
-            Claims claims = jwtUtil.parseAllClaims(token);
-            Long advogadoId = claims.get("aid", Long.class);
+            Long advogadoId = usuario.getAdvogadoId();
 
             if (advogadoId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não contém identificador de advogado");
@@ -135,16 +175,14 @@ public class AdvogadoController {
     )
     @PutMapping("/me")
     public ResponseEntity<?> atualizarMeuPerfil(
-            HttpServletRequest request,
+            UsuarioAutenticado usuario,
             @Valid @RequestBody AdvogadoUpdateDTO updateRequest) {
         try {
-            String authHeader = request.getHeader("Authorization");
-            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            if (usuario == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não informado ou inválido");
             }
-            String token = authHeader.substring(7);
-            Claims claims = jwtUtil.parseAllClaims(token);
-            Long advogadoId = claims.get("aid", Long.class);
+
+            Long advogadoId = usuario.getAdvogadoId();
             if (advogadoId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não contém identificador de advogado");
             }
@@ -154,6 +192,9 @@ public class AdvogadoController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (PasswordHashingRejectedException e) {
+            // Respondida com 503 e Retry-After pelo ValidationExceptionHandler
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Erro interno do servidor");
         }
@@ -171,16 +212,13 @@ public class AdvogadoController {
         }
     )
     @DeleteMapping("/me")
-    public ResponseEntity<?> deletarMeuPerfil(HttpServletRequest request) {
+    public ResponseEntity<?> deletarMeuPerfil(UsuarioAutenticado usuario) {
         try {
-            String authHeader = request.getHeader("Authorization");
-            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            if (usuario == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não informado ou inválido");
             }
 
-            String token = authHeader.substring(7);
-            Claims claims = jwtUtil.parseAllClaims(token);
-            Long advogadoId = claims.get("aid", Long.class);
+            Long advogadoId = usuario.getAdvogadoId();
 
             if (advogadoId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não contém identificador de advogado");
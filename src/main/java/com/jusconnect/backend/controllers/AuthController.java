@@ -1,51 +1,67 @@
 package com.jusconnect.backend.controllers;
 
 import com.jusconnect.backend.config.JwtUtil;
+import com.jusconnect.backend.config.LoginRateLimiter;
+import com.jusconnect.backend.config.PasswordHashingExecutor;
+import com.jusconnect.backend.config.UsuarioAutenticado;
 import com.jusconnect.backend.dtos.LoginRequestDTO;
 import com.jusconnect.backend.dtos.LoginResponseDTO;
-import com.jusconnect.backend.models.Advogado;
-import com.jusconnect.backend.models.Cliente;
 import com.jusconnect.backend.repositories.AdvogadoRepository;
 import com.jusconnect.backend.repositories.ClienteRepository;
+import com.jusconnect.backend.repositories.CredencialRepository;
+import com.jusconnect.backend.repositories.projections.CredencialProjection;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
-// ...existing code...
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 
 @RestController
 @RequestMapping("/auth")
 @RequiredArgsConstructor
 public class AuthController {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthController.class);
+
+    private final CredencialRepository credencialRepository;
     private final AdvogadoRepository advogadoRepository;
     private final ClienteRepository clienteRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final JwtUtil jwtUtil;
+    private final LoginRateLimiter loginRateLimiter;
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequestDTO request) {
-        // Tenta autenticar como Advogado
-        Advogado advogado = advogadoRepository.findByCpf(request.getCpf()).orElse(null);
-        if (advogado != null && passwordMatches(request.getSenha(), advogado.getSenha())) {
-                String token = jwtUtil.generateTokenForAdvogado(advogado.getId(), advogado.getEmail());
-                return ResponseEntity.ok(LoginResponseDTO.builder()
-                    .role("ADVOGADO")
-                    .token(token)
-                    .build());
+    public ResponseEntity<?> login(@Valid @RequestBody LoginRequestDTO request, HttpServletRequest httpRequest) {
+        // Bloqueia antes de qualquer consulta ao banco ou trabalho de BCrypt
+        long retryAfter = loginRateLimiter.tryAcquire(request.getCpf(), httpRequest.getRemoteAddr());
+        if (retryAfter > 0) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                    .body("Muitas tentativas de login. Tente novamente mais tarde.");
         }
 
-        // Tenta autenticar como Cliente
-        Cliente cliente = clienteRepository.findByCpf(request.getCpf()).orElse(null);
-        if (cliente != null && passwordMatches(request.getSenha(), cliente.getSenha())) {
-                String token = jwtUtil.generateTokenForCliente(cliente.getId(), cliente.getEmail());
-                return ResponseEntity.ok(LoginResponseDTO.builder()
-                    .role("CLIENTE")
-                    .token(token)
-                    .build());
+        // Uma única consulta resolve o CPF como Advogado e/ou Cliente (advogado primeiro)
+        for (CredencialProjection credencial : credencialRepository.findByCpf(request.getCpf())) {
+            // Pool de hashing saturado resulta em 503 via ValidationExceptionHandler
+            if (!passwordMatches(request.getSenha(), credencial.getSenha())) {
+                continue;
+            }
+            atualizarHashSeNecessario(credencial, request.getSenha());
+
+            String token = UsuarioAutenticado.ROLE_ADVOGADO.equals(credencial.getRole())
+                    ? jwtUtil.generateTokenForAdvogado(credencial.getId(), credencial.getEmail())
+                    : jwtUtil.generateTokenForCliente(credencial.getId(), credencial.getEmail());
+            return ResponseEntity.ok(LoginResponseDTO.builder()
+                .role(credencial.getRole())
+                .token(token)
+                .build());
         }
 
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("CPF ou senha inválidos");
@@ -53,11 +69,30 @@ public class AuthController {
 
     private boolean passwordMatches(String raw, String stored) {
         if (stored == null) return false;
+        if (PasswordHashingExecutor.isBCrypt(stored)) {
+            try {
+                return passwordHashingExecutor.matches(raw, stored);
+            } catch (IllegalArgumentException ignored) {}
+        }
+        return MessageDigest.isEqual(
+                stored.getBytes(StandardCharsets.UTF_8), raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Senha em texto puro ou com custo desatualizado é regerada com o custo atual após login bem-sucedido
+    private void atualizarHashSeNecessario(CredencialProjection credencial, String raw) {
+        if (!passwordHashingExecutor.needsRehash(credencial.getSenha())) {
+            return;
+        }
         try {
-            if (stored.startsWith("$2a") || stored.startsWith("$2b") || stored.startsWith("$2y")) {
-                return passwordEncoder.matches(raw, stored);
+            String novoHash = passwordHashingExecutor.encode(raw);
+            if (UsuarioAutenticado.ROLE_ADVOGADO.equals(credencial.getRole())) {
+                advogadoRepository.atualizarSenha(credencial.getId(), novoHash);
+            } else {
+                clienteRepository.atualizarSenha(credencial.getId(), novoHash);
             }
-        } catch (Exception ignored) {}
-        return stored.equals(raw);
+        } catch (RuntimeException e) {
+            // Falha no rehash não impede o login; será tentado novamente no próximo acesso
+            log.warn("Não foi possível atualizar o hash da senha ({} {})", credencial.getRole(), credencial.getId(), e);
+        }
     }
 }
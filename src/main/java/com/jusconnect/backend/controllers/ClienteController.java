@@ -1,6 +1,7 @@
 package com.jusconnect.backend.controllers;
 
-import com.jusconnect.backend.config.JwtUtil;
+import com.jusconnect.backend.config.PasswordHashingRejectedException;
+import com.jusconnect.backend.config.UsuarioAutenticado;
 import com.jusconnect.backend.dtos.ClienteRequestDTO;
 import com.jusconnect.backend.dtos.ClienteResponseDTO;
 import com.jusconnect.backend.dtos.ClienteUpdateDTO;
@@ -9,15 +10,12 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import io.jsonwebtoken.Claims;
-
 @RestController
 @RequestMapping("/clientes")
 @RequiredArgsConstructor
@@ -25,7 +23,6 @@ import io.jsonwebtoken.Claims;
 public class ClienteController {
 
 	private final ClienteServiceInterface clienteService;
-	private final JwtUtil jwtUtil;
 
 	@Operation(
 		summary = "Cadastrar novo cliente",
@@ -43,6 +40,9 @@ public class ClienteController {
 			return ResponseEntity.status(HttpStatus.CREATED).body(response);
 		} catch (IllegalArgumentException e) {
 			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+		} catch (PasswordHashingRejectedException e) {
+			// Respondida com 503 e Retry-After pelo ValidationExceptionHandler
+			throw e;
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Erro interno do servidor");
 		}
@@ -59,16 +59,13 @@ public class ClienteController {
 		}
 	)
 	@GetMapping("/me")
-	public ResponseEntity<?> visualizarMeuPerfil(HttpServletRequest request) {
+	public ResponseEntity<?> visualizarMeuPerfil(UsuarioAutenticado usuario) {
 		try {
-			String authHeader = request.getHeader("Authorization");
-			if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+			if (usuario == null) {
 				return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não informado ou inválido");
 			}
 
-			String token = authHeader.substring(7);
-			Claims claims = jwtUtil.parseAllClaims(token);
-			Long clienteId = claims.get("cid", Long.class);
+			Long clienteId = usuario.getClienteId();
 
 			if (clienteId == null) {
 				return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não contém identificador de cliente");
@@ -96,16 +93,14 @@ public class ClienteController {
     )
     @PutMapping("/me")
     public ResponseEntity<?> atualizarMeuPerfil(
-            HttpServletRequest request,
+            UsuarioAutenticado usuario,
             @Valid @RequestBody ClienteUpdateDTO updateRequest) {
         try {
-            String authHeader = request.getHeader("Authorization");
-            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            if (usuario == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não informado ou inválido");
             }
-            String token = authHeader.substring(7);
-            Claims claims = jwtUtil.parseAllClaims(token);
-            Long clienteId = claims.get("cid", Long.class);
+
+            Long clienteId = usuario.getClienteId();
             if (clienteId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não contém identificador de cliente");
             }
@@ -115,6 +110,9 @@ public class ClienteController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (PasswordHashingRejectedException e) {
+            // Respondida com 503 e Retry-After pelo ValidationExceptionHandler
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Erro interno do servidor");
         }
@@ -132,16 +130,13 @@ public class ClienteController {
         }
     )
     @DeleteMapping("/me")
-    public ResponseEntity<?> deletarMeuPerfil(HttpServletRequest request) {
+    public ResponseEntity<?> deletarMeuPerfil(UsuarioAutenticado usuario) {
         try {
-            String authHeader = request.getHeader("Authorization");
-            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            if (usuario == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não informado ou inválido");
             }
 
-            String token = authHeader.substring(7);
-            Claims claims = jwtUtil.parseAllClaims(token);
-            Long clienteId = claims.get("cid", Long.class);
+            Long clienteId = usuario.getClienteId();
 
             if (clienteId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não contém identificador de cliente");
@@ -1,22 +1,37 @@
 package com.jusconnect.backend.controllers;
-import com.jusconnect.backend.config.JwtUtil;
+import com.jusconnect.backend.config.UsuarioAutenticado;
+import com.jusconnect.backend.dtos.ContagemSolicitacoesDTO;
+import com.jusconnect.backend.dtos.FiltroSolicitacoesDTO;
+import com.jusconnect.backend.dtos.PaginaResponseDTO;
+import com.jusconnect.backend.dtos.ReservaSolicitacaoDTO;
+import com.jusconnect.backend.dtos.RespostaLoteRequestDTO;
+import com.jusconnect.backend.dtos.ResultadoDestinatarioDTO;
+import com.jusconnect.backend.dtos.ResultadoRespostaDTO;
+import com.jusconnect.backend.dtos.SolicitacaoMultiplaRequestDTO;
 import com.jusconnect.backend.dtos.SolicitacaoRequestDTO;
 import com.jusconnect.backend.dtos.SolicitacaoResponseDTO;
 import com.jusconnect.backend.dtos.SolicitacaoUpdateDTO;
+import com.jusconnect.backend.enums.StatusSolicitacao;
+import com.jusconnect.backend.services.eventos.SolicitacoesPublicasStream;
+import com.jusconnect.backend.services.exceptions.SolicitacaoJaRespondidaException;
+import com.jusconnect.backend.services.exceptions.SolicitacaoReservadaException;
 import com.jusconnect.backend.services.interfaces.SolicitacaoServiceInterface;
 
-import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -26,7 +41,7 @@ import java.util.List;
 public class SolicitacaoController {
 
     private final SolicitacaoServiceInterface solicitacaoService;
-    private final JwtUtil jwtUtil;
+    private final SolicitacoesPublicasStream solicitacoesPublicasStream;
 
     @Operation(
         summary = "Criar nova solicitação",
@@ -40,20 +55,16 @@ public class SolicitacaoController {
     )
     @PostMapping
     public ResponseEntity<?> criarSolicitacao(
-            HttpServletRequest request,
+            UsuarioAutenticado usuario,
             @Valid @RequestBody SolicitacaoRequestDTO requestDTO) {
         try {
-            String authHeader = request.getHeader("Authorization");
-            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            if (usuario == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não informado ou inválido");
             }
 
-            String token = authHeader.substring(7);
-            Claims claims = jwtUtil.parseAllClaims(token);
-            Long clienteId = claims.get("cid", Long.class);
-            String role = claims.get("role", String.class);
+            Long clienteId = usuario.getClienteId();
 
-            if (clienteId == null || !"CLIENTE".equals(role)) {
+            if (clienteId == null) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Apenas clientes podem criar solicitações");
             }
 
@@ -71,33 +82,84 @@ public class SolicitacaoController {
         }
     }
 
+    @Operation(
+        summary = "Enviar solicitação a vários advogados",
+        description = "Cliente envia a mesma demanda, como solicitações direcionadas, a até 20 advogados de uma vez. "
+                + "Cada advogado tem seu resultado, na ordem enviada, com o código que a criação individual teria "
+                + "(201, 400 ou 404) e a solicitação criada ou o motivo da falha.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Envio processado; ver o resultado de cada advogado"),
+            @ApiResponse(responseCode = "400", description = "Lista de advogados vazia, acima do limite ou descrição ausente"),
+            @ApiResponse(responseCode = "403", description = "Usuário não é cliente"),
+            @ApiResponse(responseCode = "404", description = "Cliente não encontrado"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        }
+    )
+    @PostMapping("/em-lote")
+    public ResponseEntity<?> criarSolicitacoes(
+            UsuarioAutenticado usuario,
+            @Valid @RequestBody SolicitacaoMultiplaRequestDTO requestDTO) {
+        try {
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não informado ou inválido");
+            }
+
+            Long clienteId = usuario.getClienteId();
+
+            if (clienteId == null) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Apenas clientes podem criar solicitações");
+            }
+
+            requestDTO.setClienteId(clienteId);
+
+            List<ResultadoDestinatarioDTO> response = solicitacaoService.criarSolicitacoes(requestDTO);
+            return ResponseEntity.ok(response);
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Erro interno do servidor");
+        }
+    }
+
     @Operation(
         summary = "Listar solicitações do cliente",
-        description = "Retorna todas as solicitações feitas por um cliente específico.",
+        description = "Retorna as solicitações feitas pelo cliente autenticado, da mais recente para a mais antiga, em páginas por cursor. Aceita filtro por um ou mais status e por intervalo de data de criação (criadaDe/criadaAte, inclusive).",
         responses = {
             @ApiResponse(responseCode = "200", description = "Lista de solicitações retornada"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou intervalo de datas inválido"),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
         }
     )
     @GetMapping("/minhas")
-    public ResponseEntity<?> listarMinhasSolicitacoes(HttpServletRequest request) {
+    public ResponseEntity<?> listarMinhasSolicitacoes(
+            UsuarioAutenticado usuario,
+            @RequestParam(value = "status", required = false) List<StatusSolicitacao> status,
+            @RequestParam(value = "criadaDe", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate criadaDe,
+            @RequestParam(value = "criadaAte", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate criadaAte,
+            @RequestParam(value = "tamanho", required = false) Integer tamanho,
+            @RequestParam(value = "cursor", required = false) String cursor) {
         try {
-            String authHeader = request.getHeader("Authorization");
-            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            if (usuario == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não informado ou inválido");
             }
 
-            String token = authHeader.substring(7);
-            Claims claims = jwtUtil.parseAllClaims(token);
-            Long clienteId = claims.get("cid", Long.class);
-            String role = claims.get("role", String.class);
+            Long clienteId = usuario.getClienteId();
 
-            if (clienteId == null || !"CLIENTE".equals(role)) {
+            if (clienteId == null) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Acesso negado");
             }
 
-            List<SolicitacaoResponseDTO> response = solicitacaoService.listarSolicitacoesCliente(clienteId);
+            FiltroSolicitacoesDTO filtro = FiltroSolicitacoesDTO.builder()
+                    .status(status)
+                    .criadaDe(criadaDe)
+                    .criadaAte(criadaAte)
+                    .tamanho(tamanho)
+                    .cursor(cursor)
+                    .build();
+            PaginaResponseDTO<SolicitacaoResponseDTO> response = solicitacaoService.listarSolicitacoesCliente(clienteId, filtro);
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Erro interno do servidor");
         }
@@ -110,25 +172,22 @@ public class SolicitacaoController {
             @ApiResponse(responseCode = "200", description = "Solicitação cancelada com sucesso"),
             @ApiResponse(responseCode = "400", description = "Solicitação não pode ser cancelada"),
             @ApiResponse(responseCode = "404", description = "Solicitação não encontrada"),
+            @ApiResponse(responseCode = "409", description = "Solicitação respondida pelo advogado antes do cancelamento"),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
         }
     )
     @DeleteMapping("/{solicitacaoId}")
     public ResponseEntity<?> cancelarSolicitacao(
-            HttpServletRequest request,
+            UsuarioAutenticado usuario,
             @PathVariable Long solicitacaoId) {
         try {
-            String authHeader = request.getHeader("Authorization");
-            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            if (usuario == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não informado ou inválido");
             }
 
-            String token = authHeader.substring(7);
-            Claims claims = jwtUtil.parseAllClaims(token);
-            Long clienteId = claims.get("cid", Long.class);
-            String role = claims.get("role", String.class);
+            Long clienteId = usuario.getClienteId();
 
-            if (clienteId == null || !"CLIENTE".equals(role)) {
+            if (clienteId == null) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Acesso negado");
             }
 
@@ -136,6 +195,8 @@ public class SolicitacaoController {
             return ResponseEntity.ok("Solicitação cancelada com sucesso");
         } catch (EntityNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (SolicitacaoJaRespondidaException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         } catch (Exception e) {
@@ -145,31 +206,43 @@ public class SolicitacaoController {
 
     @Operation(
         summary = "Listar solicitações do advogado",
-        description = "Retorna todas as solicitações direcionadas a um advogado específico.",
+        description = "Retorna as solicitações direcionadas ao advogado autenticado, da mais recente para a mais antiga, em páginas por cursor. Aceita filtro por um ou mais status e por intervalo de data de criação (criadaDe/criadaAte, inclusive).",
         responses = {
             @ApiResponse(responseCode = "200", description = "Lista de solicitações retornada"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou intervalo de datas inválido"),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
         }
     )
     @GetMapping("/para-mim")
-    public ResponseEntity<?> listarSolicitacoesParaMim(HttpServletRequest request) {
+    public ResponseEntity<?> listarSolicitacoesParaMim(
+            UsuarioAutenticado usuario,
+            @RequestParam(value = "status", required = false) List<StatusSolicitacao> status,
+            @RequestParam(value = "criadaDe", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate criadaDe,
+            @RequestParam(value = "criadaAte", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate criadaAte,
+            @RequestParam(value = "tamanho", required = false) Integer tamanho,
+            @RequestParam(value = "cursor", required = false) String cursor) {
         try {
-            String authHeader = request.getHeader("Authorization");
-            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            if (usuario == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não informado ou inválido");
             }
 
-            String token = authHeader.substring(7);
-            Claims claims = jwtUtil.parseAllClaims(token);
-            Long advogadoId = claims.get("aid", Long.class);
-            String role = claims.get("role", String.class);
+            Long advogadoId = usuario.getAdvogadoId();
 
-            if (advogadoId == null || !"ADVOGADO".equals(role)) {
+            if (advogadoId == null) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Acesso negado");
             }
 
-            List<SolicitacaoResponseDTO> response = solicitacaoService.listarSolicitacoesAdvogado(advogadoId);
+            FiltroSolicitacoesDTO filtro = FiltroSolicitacoesDTO.builder()
+                    .status(status)
+                    .criadaDe(criadaDe)
+                    .criadaAte(criadaAte)
+                    .tamanho(tamanho)
+                    .cursor(cursor)
+                    .build();
+            PaginaResponseDTO<SolicitacaoResponseDTO> response = solicitacaoService.listarSolicitacoesAdvogado(advogadoId, filtro);
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Erro interno do servidor");
         }
@@ -177,30 +250,234 @@ public class SolicitacaoController {
 
     @Operation(
         summary = "Listar solicitações públicas",
-        description = "Retorna todas as solicitações públicas pendentes visíveis para todos os advogados.",
+        description = "Retorna as solicitações públicas pendentes, da mais recente para a mais antiga, em páginas por cursor. Aceita filtro por intervalo de data de criação (criadaDe/criadaAte, inclusive). Solicitações com reserva ativa vêm marcadas como reservadas. A marcação vem de um índice em memória de cada instância: uma reserva feita por outra instância pode levar até o intervalo da varredura (solicitacoes.reserva.varredura-ms) para aparecer. A resposta continua protegida pela reserva gravada no banco e devolve 409 nesse caso.",
         responses = {
             @ApiResponse(responseCode = "200", description = "Lista de solicitações públicas retornada"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou intervalo de datas inválido"),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
         }
     )
     @GetMapping("/publicas")
-    public ResponseEntity<?> listarSolicitacoesPublicas(HttpServletRequest request) {
+    public ResponseEntity<?> listarSolicitacoesPublicas(
+            UsuarioAutenticado usuario,
+            @RequestParam(value = "criadaDe", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate criadaDe,
+            @RequestParam(value = "criadaAte", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate criadaAte,
+            @RequestParam(value = "tamanho", required = false) Integer tamanho,
+            @RequestParam(value = "cursor", required = false) String cursor) {
         try {
-            String authHeader = request.getHeader("Authorization");
-            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            if (usuario == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não informado ou inválido");
             }
 
-            String token = authHeader.substring(7);
-            Claims claims = jwtUtil.parseAllClaims(token);
-            String role = claims.get("role", String.class);
-
-            if (!"ADVOGADO".equals(role)) {
+            if (!usuario.isAdvogado()) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Apenas advogados podem visualizar solicitações públicas");
             }
 
-            List<SolicitacaoResponseDTO> response = solicitacaoService.listarSolicitacoesPublicas();
+            FiltroSolicitacoesDTO filtro = FiltroSolicitacoesDTO.builder()
+                    .criadaDe(criadaDe)
+                    .criadaAte(criadaAte)
+                    .tamanho(tamanho)
+                    .cursor(cursor)
+                    .build();
+            PaginaResponseDTO<SolicitacaoResponseDTO> response = solicitacaoService.listarSolicitacoesPublicas(usuario.getAdvogadoId(), filtro);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Erro interno do servidor");
+        }
+    }
+
+    @Operation(
+        summary = "Listar histórico de solicitações",
+        description = "Retorna as solicitações encerradas antigas que foram movidas para o histórico: as do cliente "
+                + "autenticado ou as respondidas pelo advogado autenticado. Mesma ordem, paginação por cursor e "
+                + "filtros de GET /solicitacoes/minhas.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Página do histórico retornada"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou intervalo de datas inválido"),
+            @ApiResponse(responseCode = "401", description = "Token não informado ou inválido"),
+            @ApiResponse(responseCode = "403", description = "Token sem perfil de cliente ou advogado"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        }
+    )
+    @GetMapping("/historico")
+    public ResponseEntity<?> listarHistorico(
+            UsuarioAutenticado usuario,
+            @RequestParam(value = "status", required = false) List<StatusSolicitacao> status,
+            @RequestParam(value = "criadaDe", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate criadaDe,
+            @RequestParam(value = "criadaAte", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate criadaAte,
+            @RequestParam(value = "tamanho", required = false) Integer tamanho,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        try {
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não informado ou inválido");
+            }
+
+            FiltroSolicitacoesDTO filtro = FiltroSolicitacoesDTO.builder()
+                    .status(status)
+                    .criadaDe(criadaDe)
+                    .criadaAte(criadaAte)
+                    .tamanho(tamanho)
+                    .cursor(cursor)
+                    .build();
+            PaginaResponseDTO<SolicitacaoResponseDTO> response;
+
+            if (usuario.isCliente()) {
+                response = solicitacaoService.listarHistoricoCliente(usuario.getClienteId(), filtro);
+            } else if (usuario.isAdvogado()) {
+                response = solicitacaoService.listarHistoricoAdvogado(usuario.getAdvogadoId(), filtro);
+            } else {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Acesso negado");
+            }
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Erro interno do servidor");
+        }
+    }
+
+    @Operation(
+        summary = "Contar solicitações por status",
+        description = "Retorna quantas solicitações há em cada status: as do cliente autenticado ou as direcionadas "
+                + "ao advogado autenticado. Uma única consulta agregada, leve o bastante para atualizar os contadores "
+                + "da interface com frequência. Solicitações já movidas para o histórico não entram na contagem.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Contagem por status retornada"),
+            @ApiResponse(responseCode = "401", description = "Token não informado ou inválido"),
+            @ApiResponse(responseCode = "403", description = "Token sem perfil de cliente ou advogado"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        }
+    )
+    @GetMapping("/contagem")
+    public ResponseEntity<?> contarSolicitacoes(UsuarioAutenticado usuario) {
+        try {
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não informado ou inválido");
+            }
+
+            ContagemSolicitacoesDTO response;
+
+            if (usuario.isCliente()) {
+                response = solicitacaoService.contarSolicitacoesCliente(usuario.getClienteId());
+            } else if (usuario.isAdvogado()) {
+                response = solicitacaoService.contarSolicitacoesAdvogado(usuario.getAdvogadoId());
+            } else {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Acesso negado");
+            }
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Erro interno do servidor");
+        }
+    }
+
+    @Operation(
+        summary = "Acompanhar solicitações públicas em tempo real",
+        description = "Stream SSE do feed público. Envia \"criada\" quando uma solicitação pública é criada e "
+                + "\"removida\" quando ela é respondida ou cancelada. Reconexões com o cabeçalho Last-Event-ID "
+                + "recebem os eventos perdidos; se não for possível, recebem \"reinicio\" e devem recarregar "
+                + "GET /solicitacoes/publicas.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Stream de eventos aberto"),
+            @ApiResponse(responseCode = "401", description = "Token não informado ou inválido"),
+            @ApiResponse(responseCode = "403", description = "Apenas advogados podem acompanhar o feed"),
+            @ApiResponse(responseCode = "503", description = "Limite de conexões do feed atingido")
+        }
+    )
+    @GetMapping(value = "/publicas/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> acompanharSolicitacoesPublicas(
+            UsuarioAutenticado usuario,
+            @RequestHeader(value = "Last-Event-ID", required = false) String ultimoEventoId) {
+        if (usuario == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        if (!usuario.isAdvogado()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        try {
+            return ResponseEntity.ok()
+                    // Evita que proxies reversos (ex.: nginx) acumulem os eventos em buffer
+                    .header("X-Accel-Buffering", "no")
+                    .body(solicitacoesPublicasStream.assinar(ultimoEventoId));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+        }
+    }
+
+    @Operation(
+        summary = "Reservar solicitação pública",
+        description = "Advogado reserva uma solicitação pública pendente por alguns minutos. Enquanto a reserva "
+                + "estiver ativa, apenas ele pode respondê-la e os demais a veem como reservada. "
+                + "Chamar novamente renova a reserva.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Reserva obtida ou renovada"),
+            @ApiResponse(responseCode = "400", description = "Solicitação não é pública"),
+            @ApiResponse(responseCode = "404", description = "Solicitação não encontrada"),
+            @ApiResponse(responseCode = "409", description = "Solicitação já respondida ou reservada por outro advogado"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        }
+    )
+    @PostMapping("/{solicitacaoId}/reserva")
+    public ResponseEntity<?> reservarSolicitacao(
+            UsuarioAutenticado usuario,
+            @PathVariable Long solicitacaoId) {
+        try {
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não informado ou inválido");
+            }
+
+            Long advogadoId = usuario.getAdvogadoId();
+
+            if (advogadoId == null) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Apenas advogados podem reservar solicitações");
+            }
+
+            ReservaSolicitacaoDTO response = solicitacaoService.reservarSolicitacao(solicitacaoId, advogadoId);
             return ResponseEntity.ok(response);
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (SolicitacaoReservadaException | SolicitacaoJaRespondidaException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Erro interno do servidor");
+        }
+    }
+
+    @Operation(
+        summary = "Liberar reserva",
+        description = "Advogado desiste da reserva de uma solicitação pública antes de ela expirar.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Reserva liberada"),
+            @ApiResponse(responseCode = "404", description = "Reserva não encontrada"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        }
+    )
+    @DeleteMapping("/{solicitacaoId}/reserva")
+    public ResponseEntity<?> liberarReserva(
+            UsuarioAutenticado usuario,
+            @PathVariable Long solicitacaoId) {
+        try {
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não informado ou inválido");
+            }
+
+            Long advogadoId = usuario.getAdvogadoId();
+
+            if (advogadoId == null) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Acesso negado");
+            }
+
+            solicitacaoService.liberarReserva(solicitacaoId, advogadoId);
+            return ResponseEntity.ok("Reserva liberada com sucesso");
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Erro interno do servidor");
         }
@@ -208,31 +485,29 @@ public class SolicitacaoController {
 
     @Operation(
         summary = "Responder solicitação",
-        description = "Advogado aceita ou recusa uma solicitação.",
+        description = "Advogado aceita ou recusa uma solicitação. Em respostas simultâneas à mesma solicitação "
+                + "pública, apenas a primeira é aplicada; as demais recebem 409.",
         responses = {
             @ApiResponse(responseCode = "200", description = "Solicitação respondida com sucesso"),
-            @ApiResponse(responseCode = "400", description = "Status inválido ou solicitação já respondida"),
+            @ApiResponse(responseCode = "400", description = "Status inválido ou solicitação direcionada a outro advogado"),
             @ApiResponse(responseCode = "404", description = "Solicitação não encontrada"),
+            @ApiResponse(responseCode = "409", description = "Solicitação já respondida, cancelada ou reservada por outro advogado"),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
         }
     )
     @PutMapping("/{solicitacaoId}/responder")
     public ResponseEntity<?> responderSolicitacao(
-            HttpServletRequest request,
+            UsuarioAutenticado usuario,
             @PathVariable Long solicitacaoId,
             @Valid @RequestBody SolicitacaoUpdateDTO updateRequest) {
         try {
-            String authHeader = request.getHeader("Authorization");
-            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            if (usuario == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não informado ou inválido");
             }
 
-            String token = authHeader.substring(7);
-            Claims claims = jwtUtil.parseAllClaims(token);
-            Long advogadoId = claims.get("aid", Long.class);
-            String role = claims.get("role", String.class);
+            Long advogadoId = usuario.getAdvogadoId();
 
-            if (advogadoId == null || !"ADVOGADO".equals(role)) {
+            if (advogadoId == null) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Apenas advogados podem responder solicitações");
             }
 
@@ -240,6 +515,10 @@ public class SolicitacaoController {
             return ResponseEntity.ok(response);
         } catch (EntityNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (SolicitacaoReservadaException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (SolicitacaoJaRespondidaException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         } catch (Exception e) {
@@ -247,6 +526,40 @@ public class SolicitacaoController {
         }
     }
 
+    @Operation(
+        summary = "Responder solicitações em lote",
+        description = "Advogado aceita ou recusa até 100 solicitações de uma vez. Cada decisão é validada e "
+                + "aplicada individualmente: o resultado traz, na ordem enviada, o código que a resposta "
+                + "individual teria (200, 400, 404 ou 409) e, em caso de falha, o motivo.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Lote processado; ver o resultado de cada decisão"),
+            @ApiResponse(responseCode = "400", description = "Lote vazio, acima do limite ou com decisões incompletas"),
+            @ApiResponse(responseCode = "403", description = "Usuário não é advogado"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        }
+    )
+    @PutMapping("/responder-em-lote")
+    public ResponseEntity<?> responderEmLote(
+            UsuarioAutenticado usuario,
+            @Valid @RequestBody RespostaLoteRequestDTO request) {
+        try {
+            if (usuario == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não informado ou inválido");
+            }
+
+            Long advogadoId = usuario.getAdvogadoId();
+
+            if (advogadoId == null) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Apenas advogados podem responder solicitações");
+            }
+
+            List<ResultadoRespostaDTO> response = solicitacaoService.responderEmLote(advogadoId, request.getDecisoes());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Erro interno do servidor");
+        }
+    }
+
     @Operation(
         summary = "Visualizar solicitação específica - Cliente",
         description = "Cliente visualiza detalhes de uma solicitação que ele criou.",
@@ -259,26 +572,19 @@ public class SolicitacaoController {
     )
    @GetMapping("/{solicitacaoId}")
     public ResponseEntity<?> visualizarSolicitacao(
-            HttpServletRequest request,
+            UsuarioAutenticado usuario,
             @PathVariable Long solicitacaoId) {
         try {
-            String authHeader = request.getHeader("Authorization");
-            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            if (usuario == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token não informado ou inválido");
             }
 
-            String token = authHeader.substring(7);
-            Claims claims = jwtUtil.parseAllClaims(token);
-            String role = claims.get("role", String.class);
-            Long clienteId = claims.get("cid", Long.class);
-            Long advogadoId = claims.get("aid", Long.class);
-
             SolicitacaoResponseDTO response;
             
-            if ("CLIENTE".equals(role) && clienteId != null) {
-                response = solicitacaoService.visualizarSolicitacaoCliente(solicitacaoId, clienteId);
-            } else if ("ADVOGADO".equals(role) && advogadoId != null) {
-                response = solicitacaoService.visualizarSolicitacaoAdvogado(solicitacaoId, advogadoId);
+            if (usuario.isCliente()) {
+                response = solicitacaoService.visualizarSolicitacaoCliente(solicitacaoId, usuario.getClienteId());
+            } else if (usuario.isAdvogado()) {
+                response = solicitacaoService.visualizarSolicitacaoAdvogado(solicitacaoId, usuario.getAdvogadoId());
             } else {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Acesso negado");
             }
@@ -3,6 +3,8 @@ package com.jusconnect.backend.dtos;
 import jakarta.validation.constraints.*;
 import lombok.*;
 
+import java.util.List;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -32,4 +34,7 @@ public class AdvogadoRequestDTO {
     @NotBlank(message = "Área de atuação é obrigatória")
     private String area_de_atuacao;
 
+    // Áreas adicionais; a área principal é area_de_atuacao
+    private List<String> areas_de_atuacao;
+
 }
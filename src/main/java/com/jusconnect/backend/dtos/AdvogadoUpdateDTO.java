@@ -3,6 +3,8 @@ package com.jusconnect.backend.dtos;
 import jakarta.validation.constraints.Email;
 import lombok.*;
 
+import java.util.List;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,4 +23,7 @@ public class AdvogadoUpdateDTO {
     private String autodescricao;
     
     private String area_de_atuacao;
+
+    // Áreas adicionais; a área principal é area_de_atuacao
+    private List<String> areas_de_atuacao;
 }
@@ -0,0 +1,19 @@
+package com.jusconnect.backend.dtos;
+
+import java.util.Map;
+
+import com.jusconnect.backend.enums.StatusSolicitacao;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContagemSolicitacoesDTO {
+
+    // Todos os status, na ordem do enum; os que não têm solicitações aparecem com 0
+    private Map<StatusSolicitacao, Long> porStatus;
+
+    private long total;
+}
@@ -0,0 +1,18 @@
+package com.jusconnect.backend.dtos;
+
+import com.jusconnect.backend.enums.StatusSolicitacao;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DecisaoRespostaDTO {
+
+    @NotNull(message = "Informe a solicitação")
+    private Long solicitacaoId;
+
+    @NotNull(message = "Status é obrigatório")
+    private StatusSolicitacao status; // ACEITA ou RECUSADA
+}
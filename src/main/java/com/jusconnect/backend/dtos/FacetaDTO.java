@@ -0,0 +1,18 @@
+package com.jusconnect.backend.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FacetaDTO {
+
+    // Id do valor quando ele existe como registro (por exemplo, a área de atuação)
+    private Long id;
+    private String valor;
+    private long quantidade;
+}
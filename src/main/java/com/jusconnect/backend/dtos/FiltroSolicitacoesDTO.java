@@ -0,0 +1,25 @@
+package com.jusconnect.backend.dtos;
+
+import com.jusconnect.backend.enums.StatusSolicitacao;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Filtros e paginação das caixas de solicitações (minhas, para-mim e públicas)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FiltroSolicitacoesDTO {
+
+    // Vazio ou nulo = todos os status
+    private List<StatusSolicitacao> status;
+
+    // Intervalo de dataCriacao, com os dois dias inclusive
+    private LocalDate criadaDe;
+    private LocalDate criadaAte;
+
+    private Integer tamanho;
+    private String cursor;
+}
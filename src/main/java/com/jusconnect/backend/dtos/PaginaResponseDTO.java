@@ -0,0 +1,24 @@
+package com.jusconnect.backend.dtos;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaginaResponseDTO<T> {
+
+    private List<T> itens;
+
+    // Cursor opaco para a próxima página; null quando não há mais resultados
+    private String proximoCursor;
+
+    // Contagens por faceta (nome da faceta -> valores), presentes apenas quando solicitadas
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, List<FacetaDTO>> facetas;
+}
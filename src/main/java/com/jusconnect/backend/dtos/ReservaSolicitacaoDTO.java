@@ -0,0 +1,16 @@
+package com.jusconnect.backend.dtos;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservaSolicitacaoDTO {
+
+    private Long solicitacaoId;
+    private Long advogadoId;
+    private LocalDateTime expiraEm;
+}
@@ -0,0 +1,19 @@
+package com.jusconnect.backend.dtos;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RespostaLoteRequestDTO {
+
+    @NotEmpty(message = "Informe ao menos uma decisão")
+    @Size(max = 100, message = "No máximo 100 decisões por lote")
+    private List<@Valid DecisaoRespostaDTO> decisoes;
+}
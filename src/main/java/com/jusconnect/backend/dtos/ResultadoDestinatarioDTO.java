@@ -0,0 +1,19 @@
+package com.jusconnect.backend.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+// Resultado do envio a um advogado; "codigo" segue o status HTTP que a criação individual teria
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResultadoDestinatarioDTO {
+
+    private Long advogadoId;
+    private Boolean sucesso;
+    private Integer codigo;
+    private SolicitacaoResponseDTO solicitacao;
+    private String erro;
+}
@@ -0,0 +1,20 @@
+package com.jusconnect.backend.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.jusconnect.backend.enums.StatusSolicitacao;
+import lombok.*;
+
+// Resultado de uma decisão do lote; "codigo" segue o status HTTP que a resposta individual teria
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResultadoRespostaDTO {
+
+    private Long solicitacaoId;
+    private Boolean sucesso;
+    private Integer codigo;
+    private StatusSolicitacao status;
+    private String erro;
+}
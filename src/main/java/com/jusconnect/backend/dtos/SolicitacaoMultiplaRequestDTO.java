@@ -0,0 +1,29 @@
+package com.jusconnect.backend.dtos;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+// Mesma demanda enviada, como solicitações direcionadas, a vários advogados
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SolicitacaoMultiplaRequestDTO {
+
+    @NotEmpty(message = "Informe ao menos um advogado")
+    @Size(max = 20, message = "No máximo 20 advogados por envio")
+    private List<@NotNull Long> advogadoIds;
+
+    @NotBlank(message = "Descrição da demanda é obrigatória")
+    private String descricao;
+
+    @JsonIgnore
+    private Long clienteId;
+}
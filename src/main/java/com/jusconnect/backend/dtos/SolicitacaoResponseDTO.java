@@ -1,5 +1,6 @@
 package com.jusconnect.backend.dtos;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.jusconnect.backend.enums.StatusSolicitacao;
 import lombok.*;
 import java.time.LocalDateTime;
@@ -26,4 +27,12 @@ public class SolicitacaoResponseDTO {
     // Dados do advogado
     private Long advogadoId;
     private String advogadoNome;
+
+    // Reserva ativa (apenas em solicitações públicas pendentes, vistas por advogados)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean reservada;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean reservadaPorMim;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LocalDateTime reservaExpiraEm;
 }
\ No newline at end of file
@@ -4,7 +4,8 @@ public enum StatusSolicitacao {
     PENDENTE("Aguardando resposta do advogado"),
     ACEITA("Solicitação aceita pelo advogado"),
     RECUSADA("Solicitação recusada pelo advogado"),
-    CANCELADA("Solicitação cancelada pelo cliente");
+    CANCELADA("Solicitação cancelada pelo cliente"),
+    EXPIRADA("Solicitação expirada sem resposta");
 
     private final String descricao;
 
@@ -1,25 +1,40 @@
 package com.jusconnect.backend.models;
 
+import com.jusconnect.backend.config.SequenciasIds;
 import lombok.*;
 import jakarta.persistence.*;
+import java.text.Normalizer;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 @Data
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "advogados")
+@Table(name = "advogados", indexes = {
+    @Index(name = "idx_advogados_data_cadastro", columnList = "data_cadastro"),
+    @Index(name = "idx_advogados_nome_ordenacao_id", columnList = "nome_ordenacao, id")
+})
 
 public class Advogado {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SequenciasIds.ADVOGADOS)
+    @SequenceGenerator(name = SequenciasIds.ADVOGADOS, sequenceName = SequenciasIds.ADVOGADOS, allocationSize = SequenciasIds.ALOCACAO)
     private Long id;
 
     @Column(nullable = false)
     private String nome;
 
+    // Chave da listagem em ordem de nome, derivada de nome; nula só em linhas anteriores à coluna,
+    // até o preenchimento na inicialização
+    @Column(name = "nome_ordenacao")
+    private String nomeOrdenacao;
+
     @Column(nullable = false, unique = true, length = 11)
     private String cpf;
 
@@ -35,10 +50,24 @@ public class Advogado {
     @Column(nullable = false)
     private String autodescricao;
 
+    // Rótulo de exibição com os nomes canônicos das áreas, separados por vírgula
     @Column(nullable = false)
     private String area_de_atuacao;
 
-    @Column(nullable = false)
+    // Áreas canônicas do advogado; os filtros de busca usam esta associação pelo id da área
+    @ManyToMany
+    @JoinTable(
+        name = "advogado_areas",
+        joinColumns = @JoinColumn(name = "advogado_id"),
+        inverseJoinColumns = @JoinColumn(name = "area_id"),
+        indexes = @Index(name = "idx_advogado_areas_area", columnList = "area_id, advogado_id")
+    )
+    @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Set<AreaAtuacao> areas = new HashSet<>();
+
+    @Column(name = "data_cadastro", nullable = false)
     private LocalDateTime dataCadastro;
 
     @PrePersist
@@ -46,5 +75,53 @@ public class Advogado {
         if (dataCadastro == null) {
             dataCadastro = LocalDateTime.now();
         }
+        nomeOrdenacao = chaveOrdenacao(nome);
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        nomeOrdenacao = chaveOrdenacao(nome);
+    }
+
+    // Letras latinas sem decomposição em letra + acento, grafadas em ASCII
+    private static final Map<Character, String> LETRAS_SEM_DECOMPOSICAO = Map.ofEntries(
+            Map.entry('æ', "ae"), Map.entry('œ', "oe"), Map.entry('ß', "ss"), Map.entry('þ', "th"),
+            Map.entry('ł', "l"), Map.entry('ø', "o"), Map.entry('đ', "d"), Map.entry('ð', "d"),
+            Map.entry('ħ', "h"), Map.entry('ı', "i"), Map.entry('ŧ', "t"), Map.entry('ŋ', "n"));
+
+    // Separa as palavras na chave: menor que qualquer letra
+    private static final char SEPARADOR_PALAVRAS = '0';
+
+    // Sem acentos, minúsculas e apenas letras e dígitos ASCII: nesse alfabeto a ordem do banco, em qualquer
+    // collation, é a mesma da comparação de Strings do índice em memória. Espaços e pontuação seriam ignorados
+    // por muitas collations, então cada sequência de espaços vira SEPARADOR_PALAVRAS: "Ana Souza" ("ana0souza")
+    // fica antes de "Anabela". A demais pontuação é descartada. A chave de uma chave é ela mesma, o que permite
+    // normalizar de novo o cursor sem saber se ele traz o nome ou a chave
+    public static String chaveOrdenacao(String nome) {
+        if (nome == null) {
+            return "";
+        }
+        String semAcentos = Normalizer.normalize(nome, Normalizer.Form.NFKD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+
+        StringBuilder chave = new StringBuilder(semAcentos.length());
+        boolean novaPalavra = false;
+        for (int i = 0; i < semAcentos.length(); i++) {
+            char c = semAcentos.charAt(i);
+            String grafia = c >= 'a' && c <= 'z' ? String.valueOf(c)
+                    : c >= '0' && c <= '9' ? String.valueOf(c)
+                    : LETRAS_SEM_DECOMPOSICAO.get(c);
+            if (grafia != null) {
+                if (novaPalavra && chave.length() > 0) {
+                    chave.append(SEPARADOR_PALAVRAS);
+                }
+                novaPalavra = false;
+                chave.append(grafia);
+            } else if (Character.isWhitespace(c)) {
+                novaPalavra = true;
+            }
+        }
+        return chave.toString();
     }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.jusconnect.backend.models;
+
+import lombok.*;
+import jakarta.persistence.*;
+import java.util.Locale;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "areas_atuacao")
+public class AreaAtuacao {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Nome de exibição canônico (primeira grafia cadastrada)
+    @Column(nullable = false)
+    private String nome;
+
+    // Chave de deduplicação: minúsculas, sem espaços nas bordas e com espaços internos simples
+    @Column(name = "nome_normalizado", nullable = false, unique = true)
+    private String nomeNormalizado;
+
+    public static String normalizar(String nome) {
+        if (nome == null) {
+            return null;
+        }
+        String normalizado = nome.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return normalizado.isEmpty() ? null : normalizado;
+    }
+}
@@ -1,5 +1,6 @@
 package com.jusconnect.backend.models;
 
+import com.jusconnect.backend.config.SequenciasIds;
 import lombok.*;
 import jakarta.persistence.*;
 
@@ -13,7 +14,8 @@ import jakarta.persistence.*;
 public class Cliente {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SequenciasIds.CLIENTES)
+    @SequenceGenerator(name = SequenciasIds.CLIENTES, sequenceName = SequenciasIds.CLIENTES, allocationSize = SequenciasIds.ALOCACAO)
     private Long id;
     
     @Column(nullable = false)
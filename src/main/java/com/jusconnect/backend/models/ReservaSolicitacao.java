@@ -0,0 +1,28 @@
+package com.jusconnect.backend.models;
+
+import lombok.*;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Reserva temporária de uma solicitação pública por um advogado.
+// Uma linha por solicitação, só com ids: a tabela fica pequena e a disputa se resolve pela chave primária.
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "reservas_solicitacoes", indexes = {
+    @Index(name = "idx_reservas_solicitacoes_expira_em", columnList = "expira_em")
+})
+public class ReservaSolicitacao {
+
+    @Id
+    @Column(name = "solicitacao_id")
+    private Long solicitacaoId;
+
+    @Column(name = "advogado_id", nullable = false)
+    private Long advogadoId;
+
+    @Column(name = "expira_em", nullable = false)
+    private LocalDateTime expiraEm;
+}
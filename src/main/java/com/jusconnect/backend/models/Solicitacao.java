@@ -1,5 +1,6 @@
 package com.jusconnect.backend.models;
 
+import com.jusconnect.backend.config.SequenciasIds;
 import com.jusconnect.backend.enums.StatusSolicitacao;
 import lombok.*;
 import jakarta.persistence.*;
@@ -10,24 +11,34 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "solicitacoes")
+@Table(name = "solicitacoes", indexes = {
+    // Caixas paginadas por (data_criacao DESC, id DESC), com e sem filtro de status
+    @Index(name = "idx_solicitacoes_cliente_data", columnList = "cliente_id, data_criacao, id"),
+    @Index(name = "idx_solicitacoes_cliente_status_data", columnList = "cliente_id, status, data_criacao, id"),
+    @Index(name = "idx_solicitacoes_advogado_data", columnList = "advogado_id, data_criacao, id"),
+    @Index(name = "idx_solicitacoes_advogado_status_data", columnList = "advogado_id, status, data_criacao, id"),
+    @Index(name = "idx_solicitacoes_publica_status_data", columnList = "publica, status, data_criacao, id"),
+    // Expiração: pendentes mais antigas primeiro
+    @Index(name = "idx_solicitacoes_status_data", columnList = "status, data_criacao, id")
+})
 public class Solicitacao {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SequenciasIds.SOLICITACOES)
+    @SequenceGenerator(name = SequenciasIds.SOLICITACOES, sequenceName = SequenciasIds.SOLICITACOES, allocationSize = SequenciasIds.ALOCACAO)
     private Long id;
 
     @Column(nullable = false, columnDefinition = "TEXT")
     private String descricao;
 
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Column(name = "status", nullable = false)
     private StatusSolicitacao status;
 
-    @Column(nullable = false)
+    @Column(name = "publica", nullable = false)
     private Boolean publica; // true = visível para todos advogados, false = apenas para o advogado específico
 
-    @Column(nullable = false)
+    @Column(name = "data_criacao", nullable = false)
     private LocalDateTime dataCriacao;
 
     @Column
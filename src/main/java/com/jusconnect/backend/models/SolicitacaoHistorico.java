@@ -0,0 +1,48 @@
+package com.jusconnect.backend.models;
+
+import com.jusconnect.backend.enums.StatusSolicitacao;
+import lombok.*;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Solicitação encerrada movida para fora da tabela principal pelo arquivamento.
+// Mantém o id original; cliente e advogado ficam só como ids, sem chave estrangeira, como num arquivo.
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "solicitacoes_historico", indexes = {
+    @Index(name = "idx_solicitacoes_historico_cliente_data", columnList = "cliente_id, data_criacao, id"),
+    @Index(name = "idx_solicitacoes_historico_advogado_data", columnList = "advogado_id, data_criacao, id")
+})
+public class SolicitacaoHistorico {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String descricao;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private StatusSolicitacao status;
+
+    @Column(name = "publica", nullable = false)
+    private Boolean publica;
+
+    @Column(name = "data_criacao", nullable = false)
+    private LocalDateTime dataCriacao;
+
+    @Column(name = "data_resposta")
+    private LocalDateTime dataResposta;
+
+    @Column(name = "cliente_id", nullable = false)
+    private Long clienteId;
+
+    @Column(name = "advogado_id")
+    private Long advogadoId;
+
+    @Column(name = "arquivada_em", nullable = false)
+    private LocalDateTime arquivadaEm;
+}
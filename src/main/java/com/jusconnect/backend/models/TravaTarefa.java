@@ -0,0 +1,25 @@
+package com.jusconnect.backend.models;
+
+import lombok.*;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Trava de uma tarefa agendada entre as instâncias: quem detém a linha não expirada executa a tarefa.
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "travas_tarefas")
+public class TravaTarefa {
+
+    @Id
+    @Column(name = "nome", length = 100)
+    private String nome;
+
+    @Column(name = "dono", nullable = false, length = 100)
+    private String dono;
+
+    @Column(name = "expira_em", nullable = false)
+    private LocalDateTime expiraEm;
+}
@@ -0,0 +1,47 @@
+package com.jusconnect.backend.repositories;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.jusconnect.backend.models.Advogado;
+import com.jusconnect.backend.repositories.projections.ResultadoBuscaTextualProjection;
+
+/**
+ * Busca textual de advogados no PostgreSQL.
+ * Usa a coluna gerada busca_textual (tsvector, configuração portuguese) e seu índice GIN,
+ * criados por {@link com.jusconnect.backend.services.search.PostgresBuscaTextualAdvogados}.
+ * A ordenação é por relevância decrescente e id, e a página seguinte parte do último par (relevância, id).
+ */
+@Repository
+public interface AdvogadoBuscaTextualRepository extends org.springframework.data.repository.Repository<Advogado, Long> {
+
+    @Query(value = """
+            SELECT r.id AS id, r.relevancia AS relevancia FROM (
+                SELECT a.id AS id, CAST(ts_rank_cd(a.busca_textual, q) AS double precision) AS relevancia
+                FROM advogados a, websearch_to_tsquery('portuguese', :consulta) q
+                WHERE a.busca_textual @@ q
+            ) r
+            ORDER BY r.relevancia DESC, r.id
+            LIMIT :limite
+            """, nativeQuery = true)
+    List<ResultadoBuscaTextualProjection> buscar(@Param("consulta") String consulta,
+                                                 @Param("limite") int limite);
+
+    @Query(value = """
+            SELECT r.id AS id, r.relevancia AS relevancia FROM (
+                SELECT a.id AS id, CAST(ts_rank_cd(a.busca_textual, q) AS double precision) AS relevancia
+                FROM advogados a, websearch_to_tsquery('portuguese', :consulta) q
+                WHERE a.busca_textual @@ q
+            ) r
+            WHERE r.relevancia < :relevancia OR (r.relevancia = :relevancia AND r.id > :id)
+            ORDER BY r.relevancia DESC, r.id
+            LIMIT :limite
+            """, nativeQuery = true)
+    List<ResultadoBuscaTextualProjection> buscarAposCursor(@Param("consulta") String consulta,
+                                                           @Param("relevancia") double relevancia,
+                                                           @Param("id") long id,
+                                                           @Param("limite") int limite);
+}
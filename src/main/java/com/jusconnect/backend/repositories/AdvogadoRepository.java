@@ -1,18 +1,107 @@
 package com.jusconnect.backend.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import com.jusconnect.backend.models.Advogado;
+import com.jusconnect.backend.repositories.projections.AdvogadoAreaProjection;
+import com.jusconnect.backend.repositories.projections.AdvogadoIndiceProjection;
+import com.jusconnect.backend.repositories.projections.AdvogadoNomeOrdenacaoProjection;
+import com.jusconnect.backend.repositories.projections.AdvogadoPerfilProjection;
+import com.jusconnect.backend.repositories.projections.ContagemAreaProjection;
+import com.jusconnect.backend.repositories.projections.ContagemFaixaProjection;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface AdvogadoRepository extends JpaRepository<Advogado, Long> {
+public interface AdvogadoRepository extends JpaRepository<Advogado, Long>, JpaSpecificationExecutor<Advogado> {
 
     Optional<Advogado> findByCpf(String cpf);
     boolean existsByCpf(String cpf);
 
-    List<Advogado> findAllByOrderByNomeAsc();
+    // Atualiza apenas o hash da senha, sem carregar a entidade (rehash transparente no login)
+    @Modifying
+    @Transactional
+    @Query("UPDATE Advogado a SET a.senha = :senha WHERE a.id = :id")
+    int atualizarSenha(@Param("id") Long id, @Param("senha") String senha);
+
+    // Leituras de perfil: apenas as colunas do DTO, sem entidade gerenciada nem senha
+    @Query("SELECT a.id AS id, a.nome AS nome, a.cpf AS cpf, a.email AS email, a.telefone AS telefone, "
+            + "a.autodescricao AS autodescricao, a.area_de_atuacao AS area_de_atuacao FROM Advogado a WHERE a.id = :id")
+    Optional<AdvogadoPerfilProjection> findPerfilById(@Param("id") Long id);
+
+    @Query("SELECT a.id AS id, a.nome AS nome, a.cpf AS cpf, a.email AS email, a.telefone AS telefone, "
+            + "a.autodescricao AS autodescricao, a.area_de_atuacao AS area_de_atuacao FROM Advogado a WHERE a.id IN :ids")
+    List<AdvogadoPerfilProjection> findPerfisByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT a.id AS id, a.nome AS nome, a.area_de_atuacao AS areaDeAtuacao, a.dataCadastro AS dataCadastro FROM Advogado a")
+    List<AdvogadoIndiceProjection> findAllParaIndice();
+
+    @Query("SELECT a.id AS advogadoId, ar.id AS areaId FROM Advogado a JOIN a.areas ar")
+    List<AdvogadoAreaProjection> findAllAreasParaIndice();
+
+    // Facetas da busca enquanto o índice em memória não está pronto: contagem por área,
+    // com ou sem o corte de tempo mínimo
+    @Query("SELECT ar.id AS areaId, COUNT(a) AS quantidade FROM Advogado a JOIN a.areas ar GROUP BY ar.id")
+    List<ContagemAreaProjection> countPorArea();
+
+    @Query("SELECT ar.id AS areaId, COUNT(a) AS quantidade FROM Advogado a JOIN a.areas ar "
+            + "WHERE a.dataCadastro <= :corte GROUP BY ar.id")
+    List<ContagemAreaProjection> countPorAreaCadastradosAte(@Param("corte") LocalDateTime corte);
+
+    // Contagem por faixa de data de cadastro: faixa i = (limite i, limite i - 1], da mais recente para a
+    // mais antiga. O agrupamento fica na consulta externa para que o CASE com parâmetros não se repita no GROUP BY
+    String FAIXA_CADASTRO = "CASE WHEN a.data_cadastro > :limite0 THEN 0 WHEN a.data_cadastro > :limite1 THEN 1 "
+            + "WHEN a.data_cadastro > :limite2 THEN 2 WHEN a.data_cadastro > :limite3 THEN 3 ELSE 4 END";
+
+    @Query(value = "SELECT f.faixa AS faixa, COUNT(*) AS quantidade FROM ("
+            + "SELECT " + FAIXA_CADASTRO + " AS faixa FROM advogados a) f GROUP BY f.faixa", nativeQuery = true)
+    List<ContagemFaixaProjection> countPorFaixaCadastro(@Param("limite0") LocalDateTime limite0,
+                                                        @Param("limite1") LocalDateTime limite1,
+                                                        @Param("limite2") LocalDateTime limite2,
+                                                        @Param("limite3") LocalDateTime limite3);
+
+    @Query(value = "SELECT f.faixa AS faixa, COUNT(*) AS quantidade FROM ("
+            + "SELECT " + FAIXA_CADASTRO + " AS faixa FROM advogados a WHERE EXISTS ("
+            + "SELECT 1 FROM advogado_areas aa WHERE aa.advogado_id = a.id AND aa.area_id IN (:areas))) f "
+            + "GROUP BY f.faixa", nativeQuery = true)
+    List<ContagemFaixaProjection> countPorFaixaCadastroNasAreas(@Param("limite0") LocalDateTime limite0,
+                                                                @Param("limite1") LocalDateTime limite1,
+                                                                @Param("limite2") LocalDateTime limite2,
+                                                                @Param("limite3") LocalDateTime limite3,
+                                                                @Param("areas") Collection<Long> areas);
+
+    // Chaves de ordenação gravadas, para recalcular as nulas (linhas anteriores à coluna) e as de uma regra anterior
+    @Query("SELECT a.id AS id, a.nome AS nome, a.nomeOrdenacao AS nomeOrdenacao FROM Advogado a")
+    List<AdvogadoNomeOrdenacaoProjection> findAllNomesOrdenacao();
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Advogado a SET a.nomeOrdenacao = :nomeOrdenacao WHERE a.id = :id")
+    int atualizarNomeOrdenacao(@Param("id") Long id, @Param("nomeOrdenacao") String nomeOrdenacao);
+
+    // Advogados cadastrados antes da tabela de áreas existir (ainda sem associação). Os de texto vazio
+    // não têm o que migrar e ficam de fora, senão voltariam a cada inicialização
+    @Query("SELECT a.id AS id, a.nome AS nome, a.area_de_atuacao AS areaDeAtuacao, a.dataCadastro AS dataCadastro "
+            + "FROM Advogado a WHERE a.areas IS EMPTY "
+            + "AND a.area_de_atuacao IS NOT NULL AND TRIM(a.area_de_atuacao) <> ''")
+    List<AdvogadoIndiceProjection> findAllSemAreas();
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO advogado_areas (advogado_id, area_id) VALUES (:advogadoId, :areaId)", nativeQuery = true)
+    int vincularArea(@Param("advogadoId") Long advogadoId, @Param("areaId") Long areaId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Advogado a SET a.area_de_atuacao = :rotulo WHERE a.id = :id")
+    int atualizarRotuloArea(@Param("id") Long id, @Param("rotulo") String rotulo);
 
 }
\ No newline at end of file
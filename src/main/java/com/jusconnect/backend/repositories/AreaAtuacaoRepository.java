@@ -0,0 +1,14 @@
+package com.jusconnect.backend.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import com.jusconnect.backend.models.AreaAtuacao;
+
+import java.util.Optional;
+
+@Repository
+public interface AreaAtuacaoRepository extends JpaRepository<AreaAtuacao, Long> {
+
+    Optional<AreaAtuacao> findByNomeNormalizado(String nomeNormalizado);
+
+}
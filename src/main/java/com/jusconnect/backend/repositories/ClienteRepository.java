@@ -1,8 +1,13 @@
 package com.jusconnect.backend.repositories;
 
 import com.jusconnect.backend.models.Cliente;
+import com.jusconnect.backend.repositories.projections.ClientePerfilProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -11,4 +16,15 @@ public interface ClienteRepository extends JpaRepository<Cliente, Long> {
 
     Optional<Cliente> findByCpf(String cpf);
     boolean existsByCpf(String cpf);
+
+    // Leitura de perfil: apenas as colunas do DTO, sem entidade gerenciada nem senha
+    @Query("SELECT c.id AS id, c.nome AS nome, c.cpf AS cpf, c.email AS email, c.telefone AS telefone "
+            + "FROM Cliente c WHERE c.id = :id")
+    Optional<ClientePerfilProjection> findPerfilById(@Param("id") Long id);
+
+    // Atualiza apenas o hash da senha, sem carregar a entidade (rehash transparente no login)
+    @Modifying
+    @Transactional
+    @Query("UPDATE Cliente c SET c.senha = :senha WHERE c.id = :id")
+    int atualizarSenha(@Param("id") Long id, @Param("senha") String senha);
 }
\ No newline at end of file
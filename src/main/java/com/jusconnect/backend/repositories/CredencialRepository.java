@@ -0,0 +1,30 @@
+package com.jusconnect.backend.repositories;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.jusconnect.backend.models.Advogado;
+import com.jusconnect.backend.repositories.projections.CredencialProjection;
+
+/**
+ * Consulta de credenciais unificada para o login.
+ * Resolve o CPF em advogados e clientes numa única ida ao banco, usando o índice único de cpf
+ * de cada tabela. O tipo de domínio declarado é apenas exigência do Spring Data.
+ */
+@Repository
+public interface CredencialRepository extends org.springframework.data.repository.Repository<Advogado, Long> {
+
+    // Advogado vem primeiro, mantendo a precedência do login caso o CPF exista nas duas tabelas
+    @Query(value = """
+            SELECT 'ADVOGADO' AS role, a.id AS id, a.email AS email, a.senha AS senha
+            FROM advogados a WHERE a.cpf = :cpf
+            UNION ALL
+            SELECT 'CLIENTE' AS role, c.id AS id, c.email AS email, c.senha AS senha
+            FROM clientes c WHERE c.cpf = :cpf
+            ORDER BY role
+            """, nativeQuery = true)
+    List<CredencialProjection> findByCpf(@Param("cpf") String cpf);
+}
@@ -0,0 +1,60 @@
+package com.jusconnect.backend.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jusconnect.backend.models.ReservaSolicitacao;
+
+@Repository
+public interface ReservaSolicitacaoRepository extends JpaRepository<ReservaSolicitacao, Long> {
+
+    // Assume a reserva se ela expirou ou já é do mesmo advogado (renovação)
+    @Modifying
+    @Transactional
+    @Query("UPDATE ReservaSolicitacao r SET r.advogadoId = :advogadoId, r.expiraEm = :expiraEm "
+            + "WHERE r.solicitacaoId = :solicitacaoId AND (r.expiraEm <= :agora OR r.advogadoId = :advogadoId)")
+    int assumirSeLivre(@Param("solicitacaoId") Long solicitacaoId,
+                       @Param("advogadoId") Long advogadoId,
+                       @Param("expiraEm") LocalDateTime expiraEm,
+                       @Param("agora") LocalDateTime agora);
+
+    // INSERT direto (sem o SELECT do merge): se outro advogado inseriu antes, a chave primária rejeita
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO reservas_solicitacoes (solicitacao_id, advogado_id, expira_em) "
+            + "VALUES (:solicitacaoId, :advogadoId, :expiraEm)", nativeQuery = true)
+    int inserir(@Param("solicitacaoId") Long solicitacaoId,
+                @Param("advogadoId") Long advogadoId,
+                @Param("expiraEm") LocalDateTime expiraEm);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ReservaSolicitacao r WHERE r.solicitacaoId = :solicitacaoId AND r.advogadoId = :advogadoId")
+    int liberar(@Param("solicitacaoId") Long solicitacaoId, @Param("advogadoId") Long advogadoId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ReservaSolicitacao r WHERE r.solicitacaoId = :solicitacaoId")
+    int removerDaSolicitacao(@Param("solicitacaoId") Long solicitacaoId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ReservaSolicitacao r WHERE r.solicitacaoId IN :solicitacaoIds")
+    int removerDasSolicitacoes(@Param("solicitacaoIds") Collection<Long> solicitacaoIds);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ReservaSolicitacao r WHERE r.expiraEm <= :agora")
+    int removerExpiradas(@Param("agora") LocalDateTime agora);
+
+    @Query("SELECT r FROM ReservaSolicitacao r WHERE r.expiraEm > :agora")
+    List<ReservaSolicitacao> findAtivas(@Param("agora") LocalDateTime agora);
+}
@@ -0,0 +1,60 @@
+package com.jusconnect.backend.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jusconnect.backend.enums.StatusSolicitacao;
+import com.jusconnect.backend.models.SolicitacaoHistorico;
+import com.jusconnect.backend.repositories.projections.SolicitacaoResumoProjection;
+
+@Repository
+public interface SolicitacaoHistoricoRepository extends JpaRepository<SolicitacaoHistorico, Long> {
+
+    // Mesmas colunas das caixas; nomes e contatos vêm das tabelas atuais, por id
+    String SELECT_RESUMO = "SELECT s.id AS id, s.descricao AS descricao, s.status AS status, s.publica AS publica, "
+            + "s.dataCriacao AS dataCriacao, s.dataResposta AS dataResposta, "
+            + "s.clienteId AS clienteId, c.nome AS clienteNome, c.email AS clienteEmail, c.telefone AS clienteTelefone, "
+            + "s.advogadoId AS advogadoId, a.nome AS advogadoNome "
+            + "FROM SolicitacaoHistorico s LEFT JOIN Cliente c ON c.id = s.clienteId "
+            + "LEFT JOIN Advogado a ON a.id = s.advogadoId ";
+
+    @Query(SELECT_RESUMO + "WHERE s.clienteId = :clienteId AND s.status IN :status "
+            + SolicitacaoRepository.FILTRO_PAGINA)
+    List<SolicitacaoResumoProjection> findPaginaDoCliente(@Param("clienteId") Long clienteId,
+                                                          @Param("status") Collection<StatusSolicitacao> status,
+                                                          @Param("de") LocalDateTime de,
+                                                          @Param("ate") LocalDateTime ate,
+                                                          @Param("cursorData") LocalDateTime cursorData,
+                                                          @Param("cursorId") Long cursorId,
+                                                          Limit limite);
+
+    @Query(SELECT_RESUMO + "WHERE s.advogadoId = :advogadoId AND s.status IN :status "
+            + SolicitacaoRepository.FILTRO_PAGINA)
+    List<SolicitacaoResumoProjection> findPaginaDoAdvogado(@Param("advogadoId") Long advogadoId,
+                                                           @Param("status") Collection<StatusSolicitacao> status,
+                                                           @Param("de") LocalDateTime de,
+                                                           @Param("ate") LocalDateTime ate,
+                                                           @Param("cursorData") LocalDateTime cursorData,
+                                                           @Param("cursorId") Long cursorId,
+                                                           Limit limite);
+
+    // Exclusão de conta: sem chave estrangeira para os usuários, o histórico não sai junto sozinho
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SolicitacaoHistorico s WHERE s.clienteId = :clienteId")
+    int deleteByClienteId(@Param("clienteId") Long clienteId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SolicitacaoHistorico s WHERE s.advogadoId = :advogadoId")
+    int deleteByAdvogadoId(@Param("advogadoId") Long advogadoId);
+}
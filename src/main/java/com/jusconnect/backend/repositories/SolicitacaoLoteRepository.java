@@ -0,0 +1,25 @@
+package com.jusconnect.backend.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import com.jusconnect.backend.enums.StatusSolicitacao;
+
+// Operações em lote via JDBC, fora do que o Spring Data deriva
+public interface SolicitacaoLoteRepository {
+
+    record Resposta(Long solicitacaoId, StatusSolicitacao status) {}
+
+    /**
+     * Aplica as respostas do advogado num único batch e numa única transação, com a mesma condição
+     * de {@link SolicitacaoRepository#responderSePendente}. Retorna as linhas afetadas por item (0 = perdeu a disputa).
+     */
+    int[] responderEmLote(List<Resposta> respostas, Long advogadoId, LocalDateTime dataResposta);
+
+    /**
+     * Move para solicitacoes_historico as solicitações informadas que ainda estão com o status dado,
+     * copiando e apagando na mesma transação. Retorna quantas foram movidas.
+     */
+    int arquivar(Collection<Long> ids, StatusSolicitacao status, LocalDateTime arquivadaEm);
+}
@@ -0,0 +1,76 @@
+package com.jusconnect.backend.repositories;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jusconnect.backend.enums.StatusSolicitacao;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class SolicitacaoLoteRepositoryImpl implements SolicitacaoLoteRepository {
+
+    private static final String RESPONDER_SE_PENDENTE = """
+            UPDATE solicitacoes SET status = ?, data_resposta = ?, advogado_id = ?
+            WHERE id = ? AND status = ? AND (advogado_id IS NULL OR advogado_id = ?)
+              AND NOT EXISTS (SELECT 1 FROM reservas_solicitacoes r
+                              WHERE r.solicitacao_id = solicitacoes.id AND r.advogado_id <> ? AND r.expira_em > ?)
+            """;
+
+    private static final String COPIAR_PARA_HISTORICO = """
+            INSERT INTO solicitacoes_historico
+                (id, descricao, status, publica, data_criacao, data_resposta, cliente_id, advogado_id, arquivada_em)
+            SELECT id, descricao, status, publica, data_criacao, data_resposta, cliente_id, advogado_id, :arquivadaEm
+            FROM solicitacoes WHERE id IN (:ids) AND status = :status
+            """;
+
+    private static final String APAGAR_ARQUIVADAS =
+            "DELETE FROM solicitacoes WHERE id IN (:ids) AND status = :status";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public int[] responderEmLote(List<Resposta> respostas, Long advogadoId, LocalDateTime dataResposta) {
+        Timestamp agora = Timestamp.valueOf(dataResposta);
+        int[][] porLote = jdbcTemplate.batchUpdate(RESPONDER_SE_PENDENTE, respostas, respostas.size(), (ps, r) -> {
+            ps.setString(1, r.status().name());
+            ps.setTimestamp(2, agora);
+            ps.setLong(3, advogadoId);
+            ps.setLong(4, r.solicitacaoId());
+            ps.setString(5, StatusSolicitacao.PENDENTE.name());
+            ps.setLong(6, advogadoId);
+            ps.setLong(7, advogadoId);
+            ps.setTimestamp(8, agora);
+        });
+        return porLote.length == 0 ? new int[0] : porLote[0];
+    }
+
+    @Override
+    @Transactional
+    public int arquivar(Collection<Long> ids, StatusSolicitacao status, LocalDateTime arquivadaEm) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        NamedParameterJdbcTemplate jdbc = new NamedParameterJdbcTemplate(jdbcTemplate);
+        MapSqlParameterSource parametros = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("status", status.name())
+                .addValue("arquivadaEm", Timestamp.valueOf(arquivadaEm));
+        int copiadas = jdbc.update(COPIAR_PARA_HISTORICO, parametros);
+        int apagadas = jdbc.update(APAGAR_ARQUIVADAS, parametros);
+        if (copiadas != apagadas) {
+            // Uma linha mudou de status entre os dois comandos; desfaz o lote inteiro
+            throw new IllegalStateException("Lote de arquivamento inconsistente: " + copiadas + " copiadas, "
+                    + apagadas + " apagadas");
+        }
+        return apagadas;
+    }
+}
@@ -1,15 +1,111 @@
 package com.jusconnect.backend.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.jusconnect.backend.enums.StatusSolicitacao;
+import com.jusconnect.backend.models.Advogado;
 import com.jusconnect.backend.models.Solicitacao;
+import com.jusconnect.backend.repositories.projections.ContagemStatusProjection;
+import com.jusconnect.backend.repositories.projections.SolicitacaoEstadoProjection;
+import com.jusconnect.backend.repositories.projections.SolicitacaoResumoProjection;
 
 @Repository
-public interface SolicitacaoRepository extends JpaRepository<Solicitacao, Long> {
+public interface SolicitacaoRepository extends JpaRepository<Solicitacao, Long>, SolicitacaoLoteRepository {
+
+    // Colunas das listagens: solicitação, cliente e advogado numa única consulta, sem entidades gerenciadas
+    String SELECT_RESUMO = "SELECT s.id AS id, s.descricao AS descricao, s.status AS status, s.publica AS publica, "
+            + "s.dataCriacao AS dataCriacao, s.dataResposta AS dataResposta, "
+            + "c.id AS clienteId, c.nome AS clienteNome, c.email AS clienteEmail, c.telefone AS clienteTelefone, "
+            + "a.id AS advogadoId, a.nome AS advogadoNome "
+            + "FROM Solicitacao s JOIN s.cliente c LEFT JOIN s.advogado a ";
+
+    // Filtros comuns às caixas: intervalo de criação e keyset em (dataCriacao DESC, id DESC)
+    String FILTRO_PAGINA = "AND s.dataCriacao >= :de AND s.dataCriacao < :ate "
+            + "AND s.dataCriacao <= :cursorData AND (s.dataCriacao < :cursorData OR s.id < :cursorId) "
+            + "ORDER BY s.dataCriacao DESC, s.id DESC";
+
+    // Carrega cliente e advogado no mesmo SELECT, para montar a resposta sem consultas extras
+    @EntityGraph(attributePaths = {"cliente", "advogado"})
+    @Query("SELECT s FROM Solicitacao s WHERE s.id = :id")
+    Optional<Solicitacao> findComParticipantesById(@Param("id") Long id);
+
+    @Query(SELECT_RESUMO + "WHERE c.id = :clienteId AND s.status IN :status " + FILTRO_PAGINA)
+    List<SolicitacaoResumoProjection> findPaginaDoCliente(@Param("clienteId") Long clienteId,
+                                                          @Param("status") Collection<StatusSolicitacao> status,
+                                                          @Param("de") LocalDateTime de,
+                                                          @Param("ate") LocalDateTime ate,
+                                                          @Param("cursorData") LocalDateTime cursorData,
+                                                          @Param("cursorId") Long cursorId,
+                                                          Limit limite);
+
+    @Query(SELECT_RESUMO + "WHERE a.id = :advogadoId AND s.status IN :status " + FILTRO_PAGINA)
+    List<SolicitacaoResumoProjection> findPaginaDoAdvogado(@Param("advogadoId") Long advogadoId,
+                                                           @Param("status") Collection<StatusSolicitacao> status,
+                                                           @Param("de") LocalDateTime de,
+                                                           @Param("ate") LocalDateTime ate,
+                                                           @Param("cursorData") LocalDateTime cursorData,
+                                                           @Param("cursorId") Long cursorId,
+                                                           Limit limite);
+
+    @Query(SELECT_RESUMO + "WHERE s.publica = true AND s.status = :status " + FILTRO_PAGINA)
+    List<SolicitacaoResumoProjection> findPaginaPublicas(@Param("status") StatusSolicitacao status,
+                                                         @Param("de") LocalDateTime de,
+                                                         @Param("ate") LocalDateTime ate,
+                                                         @Param("cursorData") LocalDateTime cursorData,
+                                                         @Param("cursorId") Long cursorId,
+                                                         Limit limite);
+
+    // Contadores das caixas: resolvidos só pelos índices (cliente_id|advogado_id, status, ...), sem ler as linhas
+    @Query("SELECT s.status AS status, COUNT(s) AS quantidade FROM Solicitacao s "
+            + "WHERE s.cliente.id = :clienteId GROUP BY s.status")
+    List<ContagemStatusProjection> countPorStatusDoCliente(@Param("clienteId") Long clienteId);
+
+    @Query("SELECT s.status AS status, COUNT(s) AS quantidade FROM Solicitacao s "
+            + "WHERE s.advogado.id = :advogadoId GROUP BY s.status")
+    List<ContagemStatusProjection> countPorStatusDoAdvogado(@Param("advogadoId") Long advogadoId);
+
+    @Query("SELECT s.id AS id, s.status AS status, s.publica AS publica, a.id AS advogadoId "
+            + "FROM Solicitacao s LEFT JOIN s.advogado a WHERE s.id IN :ids")
+    List<SolicitacaoEstadoProjection> findEstadosByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Transições de estado atômicas: das respostas concorrentes, só uma encontra a linha ainda PENDENTE.
+    // Não há lock pessimista; quem perde recebe 0 linhas afetadas e falha rápido.
+    // Também não responde se outro advogado detém uma reserva ativa da solicitação.
+    @Modifying
+    @Transactional
+    @Query("UPDATE Solicitacao s SET s.status = :status, s.dataResposta = :dataResposta, s.advogado = :advogado "
+            + "WHERE s.id = :id AND s.status = :pendente AND (s.advogado IS NULL OR s.advogado = :advogado) "
+            + "AND NOT EXISTS (SELECT r FROM ReservaSolicitacao r WHERE r.solicitacaoId = s.id "
+            + "AND r.advogadoId <> :advogadoId AND r.expiraEm > :dataResposta)")
+    int responderSePendente(@Param("id") Long id,
+                            @Param("advogado") Advogado advogado,
+                            @Param("advogadoId") Long advogadoId,
+                            @Param("status") StatusSolicitacao status,
+                            @Param("dataResposta") LocalDateTime dataResposta,
+                            @Param("pendente") StatusSolicitacao pendente);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Solicitacao s SET s.status = :cancelada, s.dataResposta = :dataResposta "
+            + "WHERE s.id = :id AND s.cliente.id = :clienteId AND s.status = :pendente")
+    int cancelarSePendente(@Param("id") Long id,
+                           @Param("clienteId") Long clienteId,
+                           @Param("cancelada") StatusSolicitacao cancelada,
+                           @Param("dataResposta") LocalDateTime dataResposta,
+                           @Param("pendente") StatusSolicitacao pendente);
 
     // Buscar solicitações de um cliente específico
     List<Solicitacao> findByClienteId(Long clienteId);
@@ -17,6 +113,31 @@ public interface SolicitacaoRepository extends JpaRepository<Solicitacao, Long>
     // Buscar solicitações direcionadas a um advogado específico
     List<Solicitacao> findByAdvogadoId(Long advogadoId);
 
+    // Expiração em lotes: as mais antigas com o status dado, criadas antes do limite
+    @Query("SELECT s.id AS id, s.status AS status, s.publica AS publica, s.advogado.id AS advogadoId "
+            + "FROM Solicitacao s WHERE s.status = :status AND s.dataCriacao < :limite "
+            + "ORDER BY s.dataCriacao, s.id")
+    List<SolicitacaoEstadoProjection> findEstadosCriadosAntes(@Param("status") StatusSolicitacao status,
+                                                              @Param("limite") LocalDateTime limite,
+                                                              Limit limiteLinhas);
+
+    // Condicional, para não sobrescrever uma resposta gravada entre a seleção do lote e o UPDATE
+    @Modifying
+    @Transactional
+    @Query("UPDATE Solicitacao s SET s.status = :expirada, s.dataResposta = :dataResposta "
+            + "WHERE s.id IN :ids AND s.status = :pendente")
+    int expirarSePendentes(@Param("ids") Collection<Long> ids,
+                           @Param("expirada") StatusSolicitacao expirada,
+                           @Param("dataResposta") LocalDateTime dataResposta,
+                           @Param("pendente") StatusSolicitacao pendente);
+
+    // Ids do lote que o UPDATE de expiração alterou, reconhecidos pela data de resposta gravada por ele
+    @Query("SELECT s.id FROM Solicitacao s "
+            + "WHERE s.id IN :ids AND s.status = :expirada AND s.dataResposta = :dataResposta")
+    List<Long> findIdsExpiradosEm(@Param("ids") Collection<Long> ids,
+                                  @Param("expirada") StatusSolicitacao expirada,
+                                  @Param("dataResposta") LocalDateTime dataResposta);
+
     // Buscar solicitações públicas com status pendente
     List<Solicitacao> findByPublicaTrueAndStatus(StatusSolicitacao status);
 
@@ -27,6 +148,15 @@ public interface SolicitacaoRepository extends JpaRepository<Solicitacao, Long>
     boolean existsByClienteIdAndAdvogadoIdAndStatus(Long clienteId, Long advogadoId, StatusSolicitacao status);
 
     boolean existsByClienteIdAndStatus(Long clienteId, StatusSolicitacao status);
+
+    // Versão em conjunto de existsByClienteIdAndAdvogadoIdAndStatus: quais dos advogados já têm solicitação do cliente
+    @Query("SELECT s.advogado.id FROM Solicitacao s "
+            + "WHERE s.cliente.id = :clienteId AND s.advogado.id IN :advogadoIds AND s.status = :status")
+    Set<Long> findAdvogadoIdsComSolicitacao(@Param("clienteId") Long clienteId,
+                                            @Param("advogadoIds") Collection<Long> advogadoIds,
+                                            @Param("status") StatusSolicitacao status);
+
+    boolean existsByIdAndStatus(Long id, StatusSolicitacao status);
     
     void deleteByClienteId(Long clienteId);
 
@@ -0,0 +1,40 @@
+package com.jusconnect.backend.repositories;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jusconnect.backend.models.TravaTarefa;
+
+@Repository
+public interface TravaTarefaRepository extends JpaRepository<TravaTarefa, String> {
+
+    // Assume a trava se ela expirou ou já é desta instância (renovação)
+    @Modifying
+    @Transactional
+    @Query("UPDATE TravaTarefa t SET t.dono = :dono, t.expiraEm = :expiraEm "
+            + "WHERE t.nome = :nome AND (t.expiraEm <= :agora OR t.dono = :dono)")
+    int assumirSeLivre(@Param("nome") String nome,
+                       @Param("dono") String dono,
+                       @Param("expiraEm") LocalDateTime expiraEm,
+                       @Param("agora") LocalDateTime agora);
+
+    // INSERT direto (sem o SELECT do merge): se outra instância inseriu antes, a chave primária rejeita
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO travas_tarefas (nome, dono, expira_em) VALUES (:nome, :dono, :expiraEm)",
+            nativeQuery = true)
+    int inserir(@Param("nome") String nome,
+                @Param("dono") String dono,
+                @Param("expiraEm") LocalDateTime expiraEm);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TravaTarefa t WHERE t.nome = :nome AND t.dono = :dono")
+    int liberar(@Param("nome") String nome, @Param("dono") String dono);
+}
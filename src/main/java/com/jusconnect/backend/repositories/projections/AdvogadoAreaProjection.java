@@ -0,0 +1,8 @@
+package com.jusconnect.backend.repositories.projections;
+
+// Par (advogado, área) da tabela de associação, usado para montar as listas por área do índice
+public interface AdvogadoAreaProjection {
+
+    Long getAdvogadoId();
+    Long getAreaId();
+}
@@ -0,0 +1,12 @@
+package com.jusconnect.backend.repositories.projections;
+
+import java.time.LocalDateTime;
+
+// Colunas necessárias para montar o índice de busca em memória (sem senha nem autodescrição)
+public interface AdvogadoIndiceProjection {
+
+    Long getId();
+    String getNome();
+    String getAreaDeAtuacao();
+    LocalDateTime getDataCadastro();
+}
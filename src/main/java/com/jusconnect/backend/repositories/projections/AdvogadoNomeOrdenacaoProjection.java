@@ -0,0 +1,9 @@
+package com.jusconnect.backend.repositories.projections;
+
+// Nome e chave de ordenação gravada, para recalcular as chaves ausentes ou de uma regra anterior
+public interface AdvogadoNomeOrdenacaoProjection {
+
+    Long getId();
+    String getNome();
+    String getNomeOrdenacao();
+}
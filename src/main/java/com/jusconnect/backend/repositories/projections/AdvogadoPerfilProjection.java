@@ -0,0 +1,13 @@
+package com.jusconnect.backend.repositories.projections;
+
+// Colunas do perfil público do advogado (sem senha); nomes iguais às propriedades da entidade
+public interface AdvogadoPerfilProjection {
+
+    Long getId();
+    String getNome();
+    String getCpf();
+    String getEmail();
+    String getTelefone();
+    String getAutodescricao();
+    String getArea_de_atuacao();
+}
@@ -0,0 +1,11 @@
+package com.jusconnect.backend.repositories.projections;
+
+// Colunas do perfil do cliente (sem senha)
+public interface ClientePerfilProjection {
+
+    Long getId();
+    String getNome();
+    String getCpf();
+    String getEmail();
+    String getTelefone();
+}
@@ -0,0 +1,8 @@
+package com.jusconnect.backend.repositories.projections;
+
+// Uma linha do GROUP BY área da faceta de áreas: quantos advogados há em cada área
+public interface ContagemAreaProjection {
+
+    Long getAreaId();
+    Long getQuantidade();
+}
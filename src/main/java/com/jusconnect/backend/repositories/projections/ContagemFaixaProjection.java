@@ -0,0 +1,8 @@
+package com.jusconnect.backend.repositories.projections;
+
+// Uma linha do GROUP BY faixa da faceta de tempo na plataforma (0 = cadastro mais recente)
+public interface ContagemFaixaProjection {
+
+    Integer getFaixa();
+    Long getQuantidade();
+}
@@ -0,0 +1,10 @@
+package com.jusconnect.backend.repositories.projections;
+
+import com.jusconnect.backend.enums.StatusSolicitacao;
+
+// Uma linha do GROUP BY status das caixas: quantas solicitações há em cada status
+public interface ContagemStatusProjection {
+
+    StatusSolicitacao getStatus();
+    Long getQuantidade();
+}
@@ -0,0 +1,10 @@
+package com.jusconnect.backend.repositories.projections;
+
+// Dados mínimos para autenticação, independente de o usuário ser advogado ou cliente
+public interface CredencialProjection {
+
+    String getRole();
+    Long getId();
+    String getEmail();
+    String getSenha();
+}
@@ -0,0 +1,7 @@
+package com.jusconnect.backend.repositories.projections;
+
+public interface ResultadoBuscaTextualProjection {
+
+    Long getId();
+    Double getRelevancia();
+}
@@ -0,0 +1,12 @@
+package com.jusconnect.backend.repositories.projections;
+
+import com.jusconnect.backend.enums.StatusSolicitacao;
+
+// Apenas o necessário para validar uma resposta: estado, visibilidade e advogado destinatário
+public interface SolicitacaoEstadoProjection {
+
+    Long getId();
+    StatusSolicitacao getStatus();
+    Boolean getPublica();
+    Long getAdvogadoId();
+}
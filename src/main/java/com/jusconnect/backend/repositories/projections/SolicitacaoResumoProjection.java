@@ -0,0 +1,24 @@
+package com.jusconnect.backend.repositories.projections;
+
+import java.time.LocalDateTime;
+
+import com.jusconnect.backend.enums.StatusSolicitacao;
+
+// Solicitação com os dados de cliente e advogado usados nas listagens, lidos em uma única consulta
+public interface SolicitacaoResumoProjection {
+
+    Long getId();
+    String getDescricao();
+    StatusSolicitacao getStatus();
+    Boolean getPublica();
+    LocalDateTime getDataCriacao();
+    LocalDateTime getDataResposta();
+
+    Long getClienteId();
+    String getClienteNome();
+    String getClienteEmail();
+    String getClienteTelefone();
+
+    Long getAdvogadoId();
+    String getAdvogadoNome();
+}
@@ -0,0 +1,38 @@
+package com.jusconnect.backend.repositories.specifications;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.jusconnect.backend.models.Advogado;
+import com.jusconnect.backend.models.AreaAtuacao;
+
+import jakarta.persistence.criteria.Join;
+
+// Filtros da busca de advogados aplicados no banco, sobre colunas indexadas
+public final class AdvogadoSpecifications {
+
+    private AdvogadoSpecifications() {
+    }
+
+    // Advogados com ao menos uma das áreas (junção pelo id da área na tabela de associação)
+    public static Specification<Advogado> comAlgumaArea(Collection<Long> areaIds) {
+        return (root, query, cb) -> {
+            query.distinct(true);
+            Join<Advogado, AreaAtuacao> areas = root.join("areas");
+            return areas.get("id").in(areaIds);
+        };
+    }
+
+    public static Specification<Advogado> cadastradoAte(LocalDateTime limite) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dataCadastro"), limite);
+    }
+
+    // Keyset: registros posteriores a (nomeOrdenacao, id), a mesma ordem do índice em memória
+    public static Specification<Advogado> aposCursor(String nomeOrdenacao, Long id) {
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("nomeOrdenacao"), nomeOrdenacao),
+                cb.and(cb.equal(root.get("nomeOrdenacao"), nomeOrdenacao), cb.greaterThan(root.get("id"), id)));
+    }
+}
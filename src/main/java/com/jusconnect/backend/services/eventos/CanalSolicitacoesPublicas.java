@@ -0,0 +1,10 @@
+package com.jusconnect.backend.services.eventos;
+
+/**
+ * Transporte dos eventos do feed público entre os nós da aplicação.
+ * Cada nó recebe tudo o que foi publicado, inclusive por ele mesmo, e entrega aos seus assinantes.
+ */
+public interface CanalSolicitacoesPublicas {
+
+    void publicar(EventoSolicitacaoPublica evento);
+}
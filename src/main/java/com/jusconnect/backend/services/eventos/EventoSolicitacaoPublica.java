@@ -0,0 +1,34 @@
+package com.jusconnect.backend.services.eventos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.jusconnect.backend.models.Solicitacao;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento compacto do feed de solicitações públicas.
+ * Cada solicitação entra no feed uma vez e sai uma vez, então o id do evento é derivado da
+ * própria solicitação e é o mesmo em todos os nós, o que permite retomar pelo Last-Event-ID.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EventoSolicitacaoPublica(String id, Tipo tipo, Long solicitacaoId,
+                                       String descricao, LocalDateTime dataCriacao) {
+
+    public enum Tipo { CRIADA, REMOVIDA }
+
+    // Mantém o payload bem abaixo do limite de 8000 bytes do NOTIFY
+    static final int TAMANHO_MAXIMO_DESCRICAO = 280;
+
+    public static EventoSolicitacaoPublica criada(Solicitacao solicitacao) {
+        String descricao = solicitacao.getDescricao();
+        if (descricao != null && descricao.length() > TAMANHO_MAXIMO_DESCRICAO) {
+            descricao = descricao.substring(0, TAMANHO_MAXIMO_DESCRICAO);
+        }
+        return new EventoSolicitacaoPublica(solicitacao.getId() + "-c", Tipo.CRIADA, solicitacao.getId(),
+                descricao, solicitacao.getDataCriacao());
+    }
+
+    public static EventoSolicitacaoPublica removida(Long solicitacaoId) {
+        return new EventoSolicitacaoPublica(solicitacaoId + "-r", Tipo.REMOVIDA, solicitacaoId, null, null);
+    }
+}
@@ -0,0 +1,21 @@
+package com.jusconnect.backend.services.eventos;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Canal dentro do próprio processo, para o H2 e instalações com um único nó.
+ */
+@Component
+@ConditionalOnProperty(name = "solicitacoes.stream.canal", havingValue = "memoria", matchIfMissing = true)
+@RequiredArgsConstructor
+public class MemoriaCanalSolicitacoesPublicas implements CanalSolicitacoesPublicas {
+
+    private final SolicitacoesPublicasStream stream;
+
+    @Override
+    public void publicar(EventoSolicitacaoPublica evento) {
+        stream.entregar(evento);
+    }
+}
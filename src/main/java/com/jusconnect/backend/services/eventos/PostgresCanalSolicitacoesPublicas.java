@@ -0,0 +1,153 @@
+package com.jusconnect.backend.services.eventos;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Canal via LISTEN/NOTIFY do PostgreSQL, para fan-out entre vários nós sem infraestrutura extra.
+ * Uma thread por nó mantém uma conexão dedicada em LISTEN; se ela cair, os assinantes locais
+ * recebem um reinício, pois eventos podem ter sido perdidos durante a reconexão.
+ *
+ * A conexão do LISTEN é aberta pelo DriverManager com a URL e as credenciais de spring.datasource,
+ * fora do pool: ela fica presa enquanto o nó estiver de pé e, tirada do pool, deixaria uma conexão
+ * a menos para as requisições. O NOTIFY continua usando o pool, pois dura uma consulta.
+ */
+@Component
+@ConditionalOnProperty(name = "solicitacoes.stream.canal", havingValue = "postgres")
+public class PostgresCanalSolicitacoesPublicas implements CanalSolicitacoesPublicas {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresCanalSolicitacoesPublicas.class);
+
+    static final String CANAL = "solicitacoes_publicas";
+    private static final int ESPERA_NOTIFICACOES_MS = 5000;
+    private static final long ESPERA_RECONEXAO_MS = 2000;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final SolicitacoesPublicasStream stream;
+
+    private volatile boolean ativo;
+    private Thread ouvinte;
+    // Fechada no desligamento para interromper a espera por notificações
+    private volatile Connection conexaoAtual;
+
+    public PostgresCanalSolicitacoesPublicas(DataSourceProperties dataSourceProperties, JdbcTemplate jdbcTemplate,
+                                             ObjectMapper objectMapper, SolicitacoesPublicasStream stream) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.stream = stream;
+    }
+
+    @Override
+    public void publicar(EventoSolicitacaoPublica evento) {
+        try {
+            String payload = objectMapper.writeValueAsString(evento);
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) rs -> null, CANAL, payload);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Sem o NOTIFY nenhum nó recebe o evento; ao menos os assinantes locais são avisados
+            log.warn("Falha ao publicar evento {} no PostgreSQL: {}", evento.id(), e.getMessage());
+            stream.entregar(evento);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void iniciar() {
+        if (ouvinte != null) {
+            return;
+        }
+        ativo = true;
+        ouvinte = new Thread(this::ouvir, "listen-" + CANAL);
+        ouvinte.setDaemon(true);
+        ouvinte.start();
+    }
+
+    @PreDestroy
+    public synchronized void parar() {
+        ativo = false;
+        if (ouvinte != null) {
+            ouvinte.interrupt();
+        }
+        Connection conexao = conexaoAtual;
+        if (conexao != null) {
+            try {
+                conexao.close();
+            } catch (SQLException e) {
+                log.debug("Falha ao fechar a conexão LISTEN em {}: {}", CANAL, e.getMessage());
+            }
+        }
+    }
+
+    private Connection abrirConexao() throws SQLException {
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+    }
+
+    private void ouvir() {
+        boolean reconexao = false;
+        while (ativo) {
+            try (Connection conexao = abrirConexao()) {
+                conexaoAtual = conexao;
+                if (!ativo) {
+                    return;
+                }
+                conexao.setAutoCommit(true);
+                try (Statement st = conexao.createStatement()) {
+                    st.execute("LISTEN " + CANAL);
+                }
+                if (reconexao) {
+                    stream.reiniciarAssinantes();
+                }
+                PGConnection pg = conexao.unwrap(PGConnection.class);
+                while (ativo) {
+                    PGNotification[] notificacoes = pg.getNotifications(ESPERA_NOTIFICACOES_MS);
+                    if (notificacoes == null) {
+                        continue;
+                    }
+                    for (PGNotification notificacao : notificacoes) {
+                        entregar(notificacao.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!ativo) {
+                    return;
+                }
+                log.warn("Conexão LISTEN em {} perdida: {}", CANAL, e.getMessage());
+                conexaoAtual = null;
+                reconexao = true;
+                try {
+                    Thread.sleep(ESPERA_RECONEXAO_MS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void entregar(String payload) {
+        try {
+            stream.entregar(objectMapper.readValue(payload, EventoSolicitacaoPublica.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Notificação inválida em {}: {}", CANAL, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.jusconnect.backend.services.eventos;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Entrega os eventos do feed de solicitações públicas aos advogados conectados via SSE.
+ * Cada assinante tem uma fila limitada, drenada fora da thread de quem publica; quem não
+ * acompanha o ritmo é desconectado e retoma pelo Last-Event-ID. Os últimos eventos ficam
+ * num histórico circular para essa retomada; se o id já saiu do histórico, o cliente recebe
+ * "reinicio" e deve recarregar GET /solicitacoes/publicas.
+ */
+@Component
+public class SolicitacoesPublicasStream implements MeterBinder {
+
+    static final String EVENTO_REINICIO = "reinicio";
+
+    // Itens da fila; dados nulos representam o heartbeat (comentário SSE)
+    private record Mensagem(String id, String nome, Object dados) {}
+
+    private static final Mensagem HEARTBEAT = new Mensagem(null, null, null);
+    private static final Mensagem REINICIO = new Mensagem(null, EVENTO_REINICIO, "{}");
+
+    private final int capacidadeFila;
+    private final int capacidadeHistorico;
+    private final int maxAssinantes;
+    private final long timeoutMillis;
+    private final Executor entregador;
+
+    // Protege o histórico e a inclusão de assinantes, para que a retomada não perca nem duplique eventos
+    private final Object lock = new Object();
+    private final ArrayDeque<EventoSolicitacaoPublica> historico = new ArrayDeque<>();
+    private final Set<Assinante> assinantes = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong eventos = new AtomicLong();
+    private final AtomicLong desconectadosPorAtraso = new AtomicLong();
+
+    @Autowired
+    public SolicitacoesPublicasStream(
+            @Value("${solicitacoes.stream.capacidade-fila:256}") int capacidadeFila,
+            @Value("${solicitacoes.stream.capacidade-historico:1000}") int capacidadeHistorico,
+            @Value("${solicitacoes.stream.max-assinantes:2000}") int maxAssinantes,
+            @Value("${solicitacoes.stream.timeout-ms:1800000}") long timeoutMillis) {
+        // A escrita no socket bloqueia; com threads virtuais um cliente lento não prende um thread do pool
+        this(capacidadeFila, capacidadeHistorico, maxAssinantes, timeoutMillis,
+                Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    SolicitacoesPublicasStream(int capacidadeFila, int capacidadeHistorico, int maxAssinantes,
+                               long timeoutMillis, Executor entregador) {
+        this.capacidadeFila = capacidadeFila;
+        this.capacidadeHistorico = capacidadeHistorico;
+        this.maxAssinantes = maxAssinantes;
+        this.timeoutMillis = timeoutMillis;
+        this.entregador = entregador;
+    }
+
+    public SseEmitter assinar(String ultimoEventoId) {
+        return assinar(new SseEmitter(timeoutMillis), ultimoEventoId);
+    }
+
+    SseEmitter assinar(SseEmitter emitter, String ultimoEventoId) {
+        if (assinantes.size() >= maxAssinantes) {
+            throw new IllegalStateException("Limite de conexões do feed atingido");
+        }
+
+        Assinante assinante = new Assinante(emitter);
+        emitter.onCompletion(() -> remover(assinante));
+        emitter.onTimeout(() -> remover(assinante));
+        emitter.onError(e -> remover(assinante));
+
+        synchronized (lock) {
+            if (ultimoEventoId != null && !ultimoEventoId.isBlank()) {
+                List<EventoSolicitacaoPublica> perdidos = eventosApos(ultimoEventoId);
+                if (perdidos == null || perdidos.size() > capacidadeFila) {
+                    assinante.fila.offer(REINICIO);
+                } else {
+                    perdidos.forEach(e -> assinante.fila.offer(mensagem(e)));
+                }
+            }
+            assinantes.add(assinante);
+        }
+        assinante.agendar();
+        return emitter;
+    }
+
+    /**
+     * Entrega um evento recebido do canal a todos os assinantes deste nó.
+     */
+    public void entregar(EventoSolicitacaoPublica evento) {
+        List<Assinante> atrasados = new ArrayList<>();
+        synchronized (lock) {
+            if (historico.size() >= capacidadeHistorico) {
+                historico.removeFirst();
+            }
+            historico.addLast(evento);
+            Mensagem mensagem = mensagem(evento);
+            for (Assinante assinante : assinantes) {
+                if (!assinante.fila.offer(mensagem)) {
+                    atrasados.add(assinante);
+                }
+            }
+        }
+        eventos.incrementAndGet();
+
+        for (Assinante assinante : atrasados) {
+            desconectadosPorAtraso.incrementAndGet();
+            encerrar(assinante);
+        }
+        assinantes.forEach(Assinante::agendar);
+    }
+
+    /**
+     * Avisa todos os assinantes de que eventos podem ter sido perdidos (ex.: queda do canal).
+     */
+    public void reiniciarAssinantes() {
+        synchronized (lock) {
+            historico.clear();
+        }
+        for (Assinante assinante : assinantes) {
+            if (!assinante.fila.offer(REINICIO)) {
+                encerrar(assinante);
+            }
+        }
+        assinantes.forEach(Assinante::agendar);
+    }
+
+    // Mantém a conexão viva em proxies que derrubam conexões ociosas e detecta clientes que já saíram
+    @Scheduled(fixedDelayString = "${solicitacoes.stream.heartbeat-ms:15000}",
+            initialDelayString = "${solicitacoes.stream.heartbeat-ms:15000}")
+    public void enviarHeartbeat() {
+        for (Assinante assinante : assinantes) {
+            // Fila cheia já garante tráfego; não há por que competir com eventos reais
+            if (assinante.fila.offer(HEARTBEAT)) {
+                assinante.agendar();
+            }
+        }
+    }
+
+    public int getAssinantes() {
+        return assinantes.size();
+    }
+
+    @PreDestroy
+    public void encerrarTodos() {
+        assinantes.forEach(this::encerrar);
+        if (entregador instanceof ExecutorService executor) {
+            executor.shutdown();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("solicitacoes.stream.assinantes", this, SolicitacoesPublicasStream::getAssinantes)
+                .description("Conexões SSE abertas no feed de solicitações públicas")
+                .register(registry);
+        FunctionCounter.builder("solicitacoes.stream.eventos", eventos, AtomicLong::get)
+                .description("Eventos do feed público entregues a este nó")
+                .register(registry);
+        FunctionCounter.builder("solicitacoes.stream.desconexoes", desconectadosPorAtraso, AtomicLong::get)
+                .tag("motivo", "fila-cheia")
+                .description("Assinantes desconectados por não acompanharem o ritmo dos eventos")
+                .register(registry);
+    }
+
+    // Eventos posteriores ao id informado, ou null se o id não está mais no histórico
+    private List<EventoSolicitacaoPublica> eventosApos(String ultimoEventoId) {
+        List<EventoSolicitacaoPublica> posteriores = new ArrayList<>();
+        boolean encontrado = false;
+        for (EventoSolicitacaoPublica evento : historico) {
+            if (encontrado) {
+                posteriores.add(evento);
+            } else if (evento.id().equals(ultimoEventoId)) {
+                encontrado = true;
+            }
+        }
+        return encontrado ? posteriores : null;
+    }
+
+    private static Mensagem mensagem(EventoSolicitacaoPublica evento) {
+        return new Mensagem(evento.id(), evento.tipo().name().toLowerCase(), evento);
+    }
+
+    private void remover(Assinante assinante) {
+        assinante.ativo = false;
+        assinantes.remove(assinante);
+    }
+
+    private void encerrar(Assinante assinante) {
+        remover(assinante);
+        try {
+            assinante.emitter.complete();
+        } catch (RuntimeException ignored) {
+            // A conexão já foi encerrada pelo outro lado
+        }
+    }
+
+    private final class Assinante {
+
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Mensagem> fila = new ArrayBlockingQueue<>(capacidadeFila);
+        private final AtomicBoolean drenando = new AtomicBoolean();
+        private volatile boolean ativo = true;
+
+        private Assinante(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        // No máximo uma drenagem por assinante, preservando a ordem dos eventos
+        private void agendar() {
+            if (ativo && !fila.isEmpty() && drenando.compareAndSet(false, true)) {
+                entregador.execute(this::drenar);
+            }
+        }
+
+        private void drenar() {
+            try {
+                Mensagem mensagem;
+                while (ativo && (mensagem = fila.poll()) != null) {
+                    emitter.send(paraSse(mensagem));
+                }
+            } catch (IOException | IllegalStateException e) {
+                encerrar(this);
+            } finally {
+                drenando.set(false);
+            }
+            agendar();
+        }
+
+        private SseEmitter.SseEventBuilder paraSse(Mensagem mensagem) {
+            if (mensagem.dados() == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            SseEmitter.SseEventBuilder evento = SseEmitter.event()
+                    .name(mensagem.nome())
+                    .data(mensagem.dados(), MediaType.APPLICATION_JSON);
+            return mensagem.id() != null ? evento.id(mensagem.id()) : evento;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.jusconnect.backend.services.exceptions;
+
+// Lançada quando outra resposta (ou o cancelamento) chegou antes; os controllers respondem 409
+public class SolicitacaoJaRespondidaException extends RuntimeException {
+
+    public SolicitacaoJaRespondidaException(String message) {
+        super(message);
+    }
+}
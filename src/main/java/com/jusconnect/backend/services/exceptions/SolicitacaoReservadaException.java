@@ -0,0 +1,9 @@
+package com.jusconnect.backend.services.exceptions;
+
+// Lançada quando outro advogado detém a reserva da solicitação; os controllers respondem 409
+public class SolicitacaoReservadaException extends RuntimeException {
+
+    public SolicitacaoReservadaException(String message) {
+        super(message);
+    }
+}
@@ -1,23 +1,45 @@
 package com.jusconnect.backend.services.implementations;
 
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import com.jusconnect.backend.config.PasswordHashingExecutor;
 import com.jusconnect.backend.dtos.AdvogadoRequestDTO;
 import com.jusconnect.backend.dtos.AdvogadoResponseDTO;
 import com.jusconnect.backend.dtos.AdvogadoUpdateDTO;
+import com.jusconnect.backend.dtos.FacetaDTO;
+import com.jusconnect.backend.dtos.PaginaResponseDTO;
 import com.jusconnect.backend.enums.StatusSolicitacao;
 import com.jusconnect.backend.models.Advogado;
+import com.jusconnect.backend.models.AreaAtuacao;
 import com.jusconnect.backend.repositories.AdvogadoRepository;
+import com.jusconnect.backend.repositories.SolicitacaoHistoricoRepository;
 import com.jusconnect.backend.repositories.SolicitacaoRepository;
+import com.jusconnect.backend.repositories.projections.AdvogadoPerfilProjection;
+import com.jusconnect.backend.repositories.projections.ContagemAreaProjection;
+import com.jusconnect.backend.repositories.projections.ContagemFaixaProjection;
+import com.jusconnect.backend.repositories.specifications.AdvogadoSpecifications;
 import com.jusconnect.backend.services.interfaces.AdvogadoServiceInterface;
+import com.jusconnect.backend.services.pagination.KeysetCursor;
+import com.jusconnect.backend.services.search.AdvogadoSearchIndex;
+import com.jusconnect.backend.services.search.AreaAtuacaoDicionario;
+import com.jusconnect.backend.services.search.BuscaTextualAdvogados;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 
 import jakarta.persistence.EntityNotFoundException;
@@ -27,9 +49,23 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AdvogadoService implements AdvogadoServiceInterface{
 
+    private static final int TAMANHO_PAGINA_PADRAO = 20;
+    private static final int TAMANHO_PAGINA_MAXIMO = 100;
+
+    // Faixas de tempo na plataforma usadas na faceta de tempo (limites em meses). A contagem no banco
+    // (AdvogadoRepository.FAIXA_CADASTRO) recebe exatamente quatro limites
+    private static final int[] FAIXAS_TEMPO_MESES = {6, 12, 24, 60};
+    private static final String[] ROTULOS_FAIXAS_TEMPO = {
+        "Menos de 6 meses", "6 a 12 meses", "1 a 2 anos", "2 a 5 anos", "Mais de 5 anos"
+    };
+
     private final AdvogadoRepository advogadoRepository;
+    private final AreaAtuacaoDicionario areaAtuacaoDicionario;
     private final SolicitacaoRepository solicitacaoRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final SolicitacaoHistoricoRepository solicitacaoHistoricoRepository;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final AdvogadoSearchIndex advogadoSearchIndex;
+    private final BuscaTextualAdvogados buscaTextualAdvogados;
 
     @Override
     public AdvogadoResponseDTO cadastrarAdvogado(AdvogadoRequestDTO request) {
@@ -39,7 +75,10 @@ public class AdvogadoService implements AdvogadoServiceInterface{
         }
         
         // Hash the password
-        String hashedSenha = passwordEncoder.encode(request.getSenha());
+        String hashedSenha = passwordHashingExecutor.encode(request.getSenha());
+
+        List<AreaAtuacaoDicionario.Area> areas =
+            areaAtuacaoDicionario.resolver(nomesDasAreas(request.getArea_de_atuacao(), request.getAreas_de_atuacao()));
 
         Advogado advogado = Advogado.builder()
                 .nome(request.getNome())
@@ -48,10 +87,13 @@ public class AdvogadoService implements AdvogadoServiceInterface{
                 .email(request.getEmail())
                 .telefone(request.getTelefone())
                 .autodescricao(request.getAutodescricao())
-                .area_de_atuacao(request.getArea_de_atuacao())
+                .area_de_atuacao(AreaAtuacaoDicionario.rotulo(areas))
+                .areas(referencias(areas))
                 .build();
 
         Advogado savedAdvogado = advogadoRepository.save(advogado);
+        advogadoSearchIndex.atualizar(savedAdvogado);
+        buscaTextualAdvogados.indexar(savedAdvogado);
 
         return AdvogadoResponseDTO.builder()
                 .id(savedAdvogado.getId())
@@ -66,18 +108,10 @@ public class AdvogadoService implements AdvogadoServiceInterface{
 
     @Override
     public AdvogadoResponseDTO visualizarPerfil(Long id) {
-        Advogado advogado = advogadoRepository.findById(id)
+        AdvogadoPerfilProjection advogado = advogadoRepository.findPerfilById(id)
             .orElseThrow(() -> new EntityNotFoundException("Advogado não encontrado"));
 
-        return AdvogadoResponseDTO.builder()
-                .id(advogado.getId())
-                .nome(advogado.getNome())
-                .cpf(advogado.getCpf())
-                .email(advogado.getEmail())
-                .telefone(advogado.getTelefone())
-                .autodescricao(advogado.getAutodescricao())
-                .area_de_atuacao(advogado.getArea_de_atuacao())
-                .build();
+        return buildResponseDTO(advogado);
     }
 
     @Override
@@ -99,7 +133,7 @@ public class AdvogadoService implements AdvogadoServiceInterface{
         }
 
         if (request.getSenha() != null && !request.getSenha().isBlank()) {
-            String hashedSenha = passwordEncoder.encode(request.getSenha());
+            String hashedSenha = passwordHashingExecutor.encode(request.getSenha());
             advogado.setSenha(hashedSenha);
         }
 
@@ -107,11 +141,17 @@ public class AdvogadoService implements AdvogadoServiceInterface{
             advogado.setAutodescricao(request.getAutodescricao());
         }
 
-        if (request.getArea_de_atuacao() != null && !request.getArea_de_atuacao().isBlank()) {
-            advogado.setArea_de_atuacao(request.getArea_de_atuacao());
+        // Área principal e/ou lista informadas substituem as áreas atuais
+        List<AreaAtuacaoDicionario.Area> areas =
+            areaAtuacaoDicionario.resolver(nomesDasAreas(request.getArea_de_atuacao(), request.getAreas_de_atuacao()));
+        if (!areas.isEmpty()) {
+            advogado.setArea_de_atuacao(AreaAtuacaoDicionario.rotulo(areas));
+            advogado.setAreas(referencias(areas));
         }
 
         Advogado updatedAdvogado = advogadoRepository.save(advogado);
+        advogadoSearchIndex.atualizar(updatedAdvogado);
+        buscaTextualAdvogados.indexar(updatedAdvogado);
 
         return AdvogadoResponseDTO.builder()
                 .id(updatedAdvogado.getId())
@@ -142,60 +182,314 @@ public class AdvogadoService implements AdvogadoServiceInterface{
         }
 
         solicitacaoRepository.deleteByAdvogadoId(advogadoId);
-        
+        solicitacaoHistoricoRepository.deleteByAdvogadoId(advogadoId);
+
         advogadoRepository.delete(advogado);
+
+        // Só retira do índice depois que a exclusão for confirmada no banco
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removerDosIndices(advogadoId);
+                }
+            });
+        } else {
+            removerDosIndices(advogadoId);
+        }
     }
 
     @Override
-    public List<AdvogadoResponseDTO> listarAdvogadosOrdenadosPorNome() {
-        List<Advogado> advogados = advogadoRepository.findAllByOrderByNomeAsc();
-
-        return advogados.stream()
-                .map(advogado -> AdvogadoResponseDTO.builder()
-                        .id(advogado.getId())
-                        .nome(advogado.getNome())
-                        .cpf(advogado.getCpf())
-                        .email(advogado.getEmail())
-                        .telefone(advogado.getTelefone())
-                        .autodescricao(advogado.getAutodescricao())
-                        .area_de_atuacao(advogado.getArea_de_atuacao())
-                        .build())
-                .collect(Collectors.toList());
+    public PaginaResponseDTO<AdvogadoResponseDTO> listarAdvogadosOrdenadosPorNome(Integer tamanho, String cursor) {
+        return buscarAdvogados(null, null, tamanho, cursor, false);
     }
 
-                @Override
-                public List<AdvogadoResponseDTO> buscarAdvogados(String areaAtuacao, Integer tempoMinMeses) {
-                List<Advogado> advogados = advogadoRepository.findAllByOrderByNomeAsc();
-
-                // Filtro por área de atuação (String normalizada)
-                if (areaAtuacao != null && !areaAtuacao.isBlank()) {
-                    String filtroNormalizado = areaAtuacao.trim().toLowerCase(Locale.ROOT);
-                    advogados = advogados.stream()
-                        .filter(a -> a.getArea_de_atuacao() != null
-                            && a.getArea_de_atuacao().trim().toLowerCase(Locale.ROOT).equals(filtroNormalizado))
-                        .collect(Collectors.toList());
-                }
+    @Override
+    public PaginaResponseDTO<AdvogadoResponseDTO> buscarAdvogados(List<String> areasAtuacao, Integer tempoMinMeses,
+                                                                  Integer tamanho, String cursor, boolean incluirFacetas) {
+        // Áreas pedidas são traduzidas para ids pelo dicionário; nomes desconhecidos não correspondem a ninguém
+        List<String> nomesAreas = areasAtuacao == null ? List.of() : areasAtuacao.stream()
+            .filter(nome -> nome != null && !nome.isBlank())
+            .collect(Collectors.toList());
+        List<Long> areas = nomesAreas.stream()
+            .map(areaAtuacaoDicionario::buscar)
+            .filter(area -> area != null)
+            .map(AreaAtuacaoDicionario.Area::id)
+            .distinct()
+            .collect(Collectors.toList());
+
+        LocalDateTime agora = LocalDateTime.now();
+        LocalDateTime corte = tempoMinMeses != null && tempoMinMeses > 0
+            ? agora.minusMonths(tempoMinMeses)
+            : null;
+
+        LocalDateTime[] limites = new LocalDateTime[FAIXAS_TEMPO_MESES.length];
+        for (int i = 0; i < limites.length; i++) {
+            limites[i] = agora.minusMonths(FAIXAS_TEMPO_MESES[i]);
+        }
 
-                // Filtro por tempo mínimo na plataforma em meses
-                if (tempoMinMeses != null && tempoMinMeses > 0) {
-                    LocalDateTime agora = LocalDateTime.now();
-                    advogados = advogados.stream()
-                        .filter(a -> a.getDataCadastro() != null
-                            && ChronoUnit.MONTHS.between(a.getDataCadastro(), agora) >= tempoMinMeses)
-                        .collect(Collectors.toList());
-                }
+        if (!nomesAreas.isEmpty() && areas.isEmpty()) {
+            return PaginaResponseDTO.<AdvogadoResponseDTO>builder()
+                .itens(List.of())
+                .facetas(incluirFacetas ? montarFacetas(contarFacetas(areas, corte, limites)) : null)
+                .build();
+        }
 
-                return advogados.stream()
-                    .map(advogado -> AdvogadoResponseDTO.builder()
-                        .id(advogado.getId())
-                        .nome(advogado.getNome())
-                        .cpf(advogado.getCpf())
-                        .email(advogado.getEmail())
-                        .telefone(advogado.getTelefone())
-                        .autodescricao(advogado.getAutodescricao())
-                        .area_de_atuacao(advogado.getArea_de_atuacao())
-                        .build())
-                    .collect(Collectors.toList());
-                }
+        // Paginação por keyset em (nomeOrdenacao, id): a consulta continua após o último item, sem OFFSET.
+        // A chave é normalizada de novo para aceitar também cursores emitidos com o nome original.
+        String cursorNome = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] chave = KeysetCursor.decode(cursor, 2);
+            cursorNome = Advogado.chaveOrdenacao(chave[0]);
+            cursorId = parseId(chave[1]);
+        }
+
+        int limite = tamanhoPagina(tamanho);
+        // Busca um item a mais apenas para saber se existe próxima página
+        List<AdvogadoPerfilProjection> advogados;
+        String proximoCursor = null;
+        AdvogadoSearchIndex.Facetas contagens = null;
+        if (advogadoSearchIndex.isPronto()) {
+            // A próxima página é decidida pelo que o índice devolveu: um id que já saiu do banco
+            // encurta a página, mas não encerra a paginação
+            List<AdvogadoSearchIndex.Entrada> entradas;
+            if (incluirFacetas) {
+                AdvogadoSearchIndex.Pagina pagina =
+                    advogadoSearchIndex.buscarComFacetas(areas, corte, cursorNome, cursorId, limite + 1, limites);
+                entradas = pagina.entradas();
+                contagens = pagina.facetas();
+            } else {
+                entradas = advogadoSearchIndex.buscar(areas, corte, cursorNome, cursorId, limite + 1);
+            }
+            if (entradas.size() > limite) {
+                entradas = entradas.subList(0, limite);
+                AdvogadoSearchIndex.Entrada ultima = entradas.get(limite - 1);
+                proximoCursor = KeysetCursor.encode(ultima.chave(), ultima.id());
+            }
+            advogados = carregarNaOrdem(entradas.stream()
+                .map(AdvogadoSearchIndex.Entrada::id)
+                .collect(Collectors.toList()));
+        } else {
+            advogados = buscarNoBanco(areas, corte, cursorNome, cursorId, limite + 1);
+            if (advogados.size() > limite) {
+                advogados = advogados.subList(0, limite);
+                AdvogadoPerfilProjection ultimo = advogados.get(limite - 1);
+                proximoCursor = KeysetCursor.encode(Advogado.chaveOrdenacao(ultimo.getNome()), ultimo.getId());
+            }
+            if (incluirFacetas) {
+                contagens = contarNoBanco(areas, corte, limites);
+            }
+        }
+
+        List<AdvogadoResponseDTO> itens = advogados.stream()
+            .map(AdvogadoService::buildResponseDTO)
+            .collect(Collectors.toList());
+
+        return PaginaResponseDTO.<AdvogadoResponseDTO>builder()
+            .itens(itens)
+            .proximoCursor(proximoCursor)
+            .facetas(contagens != null ? montarFacetas(contagens) : null)
+            .build();
+    }
+
+    // Facetas sem página (filtro que não corresponde a nenhuma área): do índice, ou do banco enquanto ele carrega
+    private AdvogadoSearchIndex.Facetas contarFacetas(List<Long> areas, LocalDateTime corte, LocalDateTime[] limites) {
+        if (advogadoSearchIndex.isPronto()) {
+            return advogadoSearchIndex.buscarComFacetas(areas, corte, null, null, 0, limites).facetas();
+        }
+        return contarNoBanco(areas, corte, limites);
+    }
+
+    // Mesmas contagens do índice, com um GROUP BY por área e outro por faixa de data de cadastro
+    private AdvogadoSearchIndex.Facetas contarNoBanco(List<Long> areas, LocalDateTime corte, LocalDateTime[] limites) {
+        Map<Long, Integer> porArea = new HashMap<>();
+        List<ContagemAreaProjection> contagensArea = corte == null
+            ? advogadoRepository.countPorArea()
+            : advogadoRepository.countPorAreaCadastradosAte(corte);
+        for (ContagemAreaProjection contagem : contagensArea) {
+            porArea.put(contagem.getAreaId(), contagem.getQuantidade().intValue());
+        }
+
+        int[] porFaixa = new int[limites.length + 1];
+        List<ContagemFaixaProjection> contagensFaixa = areas.isEmpty()
+            ? advogadoRepository.countPorFaixaCadastro(limites[0], limites[1], limites[2], limites[3])
+            : advogadoRepository.countPorFaixaCadastroNasAreas(limites[0], limites[1], limites[2], limites[3], areas);
+        for (ContagemFaixaProjection contagem : contagensFaixa) {
+            porFaixa[contagem.getFaixa()] = contagem.getQuantidade().intValue();
+        }
+        return new AdvogadoSearchIndex.Facetas(porArea, porFaixa);
+    }
+
+    // Contagens por área e por faixa de tempo na plataforma convertidas para a resposta
+    private Map<String, List<FacetaDTO>> montarFacetas(AdvogadoSearchIndex.Facetas contagens) {
+        List<FacetaDTO> porArea = contagens.porArea().entrySet().stream()
+            .map(entrada -> {
+                AreaAtuacaoDicionario.Area area = areaAtuacaoDicionario.buscarPorId(entrada.getKey());
+                return FacetaDTO.builder()
+                    .id(entrada.getKey())
+                    .valor(area != null ? area.nome() : null)
+                    .quantidade(entrada.getValue())
+                    .build();
+            })
+            .filter(faceta -> faceta.getValor() != null)
+            .sorted(Comparator.comparingLong(FacetaDTO::getQuantidade).reversed()
+                .thenComparing(FacetaDTO::getValor))
+            .collect(Collectors.toList());
+
+        List<FacetaDTO> porTempo = new ArrayList<>();
+        for (int i = 0; i < ROTULOS_FAIXAS_TEMPO.length; i++) {
+            porTempo.add(FacetaDTO.builder()
+                .valor(ROTULOS_FAIXAS_TEMPO[i])
+                .quantidade(contagens.porFaixa()[i])
+                .build());
+        }
+
+        Map<String, List<FacetaDTO>> facetas = new LinkedHashMap<>();
+        facetas.put("areas", porArea);
+        facetas.put("tempoNaPlataforma", porTempo);
+        return facetas;
+    }
+
+    // Caminho usado enquanto o índice ainda não foi carregado
+    private List<AdvogadoPerfilProjection> buscarNoBanco(List<Long> areas, LocalDateTime corte, String cursorNome, Long cursorId, int limite) {
+        Specification<Advogado> filtro = Specification.where(null);
+
+        if (!areas.isEmpty()) {
+            filtro = filtro.and(AdvogadoSpecifications.comAlgumaArea(areas));
+        }
+
+        if (corte != null) {
+            filtro = filtro.and(AdvogadoSpecifications.cadastradoAte(corte));
+        }
+
+        if (cursorNome != null) {
+            filtro = filtro.and(AdvogadoSpecifications.aposCursor(cursorNome, cursorId));
+        }
+
+        return advogadoRepository.findBy(filtro, q -> q
+                .as(AdvogadoPerfilProjection.class)
+                .sortBy(Sort.by("nomeOrdenacao", "id"))
+                .limit(limite)
+                .all());
+    }
+
+    @Override
+    public PaginaResponseDTO<AdvogadoResponseDTO> buscarAdvogadosPorTexto(String consulta, Integer tamanho, String cursor) {
+        if (consulta == null || consulta.isBlank()) {
+            throw new IllegalArgumentException("Informe o texto da busca");
+        }
+
+        // Paginação por keyset em (relevância, id), na mesma ordem do ranqueamento
+        Double cursorRelevancia = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] chave = KeysetCursor.decode(cursor, 2);
+            cursorRelevancia = parseRelevancia(chave[0]);
+            cursorId = parseId(chave[1]);
+        }
+
+        int limite = tamanhoPagina(tamanho);
+        List<BuscaTextualAdvogados.Resultado> resultados =
+            buscaTextualAdvogados.buscar(consulta.trim(), cursorRelevancia, cursorId, limite + 1);
+
+        String proximoCursor = null;
+        if (resultados.size() > limite) {
+            resultados = resultados.subList(0, limite);
+            BuscaTextualAdvogados.Resultado ultimo = resultados.get(limite - 1);
+            proximoCursor = KeysetCursor.encode(ultimo.relevancia(), ultimo.id());
+        }
+
+        List<AdvogadoResponseDTO> itens = carregarNaOrdem(resultados.stream()
+                .map(BuscaTextualAdvogados.Resultado::id)
+                .collect(Collectors.toList()))
+            .stream()
+            .map(AdvogadoService::buildResponseDTO)
+            .collect(Collectors.toList());
+
+        return PaginaResponseDTO.<AdvogadoResponseDTO>builder()
+            .itens(itens)
+            .proximoCursor(proximoCursor)
+            .build();
+    }
+
+    // Carrega os perfis pelos ids em uma consulta, preservando a ordem recebida dos índices.
+    // Ids que não existem mais no banco (removidos por outra instância) são só omitidos; os índices
+    // são corrigidos pela remoção após o commit e pela reconstrução periódica, não por uma leitura
+    private List<AdvogadoPerfilProjection> carregarNaOrdem(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, AdvogadoPerfilProjection> porId = advogadoRepository.findPerfisByIdIn(ids).stream()
+            .collect(Collectors.toMap(AdvogadoPerfilProjection::getId, Function.identity()));
+
+        return ids.stream()
+            .map(porId::get)
+            .filter(advogado -> advogado != null)
+            .collect(Collectors.toList());
+    }
+
+    private void removerDosIndices(Long advogadoId) {
+        advogadoSearchIndex.remover(advogadoId);
+        buscaTextualAdvogados.remover(advogadoId);
+    }
+
+    private static AdvogadoResponseDTO buildResponseDTO(AdvogadoPerfilProjection advogado) {
+        return AdvogadoResponseDTO.builder()
+            .id(advogado.getId())
+            .nome(advogado.getNome())
+            .cpf(advogado.getCpf())
+            .email(advogado.getEmail())
+            .telefone(advogado.getTelefone())
+            .autodescricao(advogado.getAutodescricao())
+            .area_de_atuacao(advogado.getArea_de_atuacao())
+            .build();
+    }
+
+    private static List<String> nomesDasAreas(String principal, List<String> adicionais) {
+        List<String> nomes = new ArrayList<>();
+        if (principal != null) {
+            nomes.add(principal);
+        }
+        if (adicionais != null) {
+            nomes.addAll(adicionais);
+        }
+        return nomes;
+    }
+
+    // Referências às áreas já persistidas; a associação só precisa do id
+    private static Set<AreaAtuacao> referencias(List<AreaAtuacaoDicionario.Area> areas) {
+        Set<AreaAtuacao> referencias = new HashSet<>();
+        areas.forEach(area -> referencias.add(AreaAtuacao.builder()
+            .id(area.id())
+            .nome(area.nome())
+            .nomeNormalizado(AreaAtuacao.normalizar(area.nome()))
+            .build()));
+        return referencias;
+    }
+
+    private static int tamanhoPagina(Integer tamanho) {
+        if (tamanho == null || tamanho <= 0) {
+            return TAMANHO_PAGINA_PADRAO;
+        }
+        return Math.min(tamanho, TAMANHO_PAGINA_MAXIMO);
+    }
+
+    private static Double parseRelevancia(String valor) {
+        try {
+            return Double.valueOf(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+
+    private static Long parseId(String valor) {
+        try {
+            return Long.valueOf(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
 
 }
\ No newline at end of file
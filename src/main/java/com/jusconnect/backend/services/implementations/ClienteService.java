@@ -1,15 +1,17 @@
 package com.jusconnect.backend.services.implementations;
 
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.jusconnect.backend.config.PasswordHashingExecutor;
 import com.jusconnect.backend.dtos.ClienteRequestDTO;
 import com.jusconnect.backend.dtos.ClienteResponseDTO;
 import com.jusconnect.backend.dtos.ClienteUpdateDTO;
 import com.jusconnect.backend.enums.StatusSolicitacao;
 import com.jusconnect.backend.models.Cliente;
 import com.jusconnect.backend.repositories.ClienteRepository;
+import com.jusconnect.backend.repositories.SolicitacaoHistoricoRepository;
 import com.jusconnect.backend.repositories.SolicitacaoRepository;
+import com.jusconnect.backend.repositories.projections.ClientePerfilProjection;
 import com.jusconnect.backend.services.interfaces.ClienteServiceInterface;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,7 +25,8 @@ public class ClienteService implements ClienteServiceInterface {
 
     private final ClienteRepository clienteRepository;
     private final SolicitacaoRepository solicitacaoRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final SolicitacaoHistoricoRepository solicitacaoHistoricoRepository;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     @Override
     public ClienteResponseDTO cadastrarCliente(ClienteRequestDTO request) {
@@ -33,7 +36,7 @@ public class ClienteService implements ClienteServiceInterface {
                 }
         
          // Hash the password
-        String hashedSenha = passwordEncoder.encode(request.getSenha());
+        String hashedSenha = passwordHashingExecutor.encode(request.getSenha());
 
         Cliente cliente = Cliente.builder() 
                 .nome(request.getNome())
@@ -56,7 +59,7 @@ public class ClienteService implements ClienteServiceInterface {
 
     @Override
     public ClienteResponseDTO visualizarPerfil(Long id) {
-        Cliente cliente = clienteRepository.findById(id)
+        ClientePerfilProjection cliente = clienteRepository.findPerfilById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Cliente não encontrado"));
 
         return ClienteResponseDTO.builder()
@@ -87,7 +90,7 @@ public class ClienteService implements ClienteServiceInterface {
         }
 
         if (request.getSenha() != null && !request.getSenha().isBlank()) {
-            String hashedSenha = passwordEncoder.encode(request.getSenha());
+            String hashedSenha = passwordHashingExecutor.encode(request.getSenha());
             cliente.setSenha(hashedSenha);
         }
 
@@ -120,6 +123,7 @@ public class ClienteService implements ClienteServiceInterface {
         }
 
         solicitacaoRepository.deleteByClienteId(clienteId);
+        solicitacaoHistoricoRepository.deleteByClienteId(clienteId);
 
         clienteRepository.delete(cliente);
     }
@@ -1,5 +1,13 @@
 package com.jusconnect.backend.services.implementations;
 
+import com.jusconnect.backend.dtos.ContagemSolicitacoesDTO;
+import com.jusconnect.backend.dtos.DecisaoRespostaDTO;
+import com.jusconnect.backend.dtos.FiltroSolicitacoesDTO;
+import com.jusconnect.backend.dtos.PaginaResponseDTO;
+import com.jusconnect.backend.dtos.ReservaSolicitacaoDTO;
+import com.jusconnect.backend.dtos.ResultadoDestinatarioDTO;
+import com.jusconnect.backend.dtos.ResultadoRespostaDTO;
+import com.jusconnect.backend.dtos.SolicitacaoMultiplaRequestDTO;
 import com.jusconnect.backend.dtos.SolicitacaoRequestDTO;
 import com.jusconnect.backend.dtos.SolicitacaoResponseDTO;
 import com.jusconnect.backend.dtos.SolicitacaoUpdateDTO;
@@ -9,23 +17,55 @@ import com.jusconnect.backend.models.Cliente;
 import com.jusconnect.backend.models.Solicitacao;
 import com.jusconnect.backend.repositories.AdvogadoRepository;
 import com.jusconnect.backend.repositories.ClienteRepository;
+import com.jusconnect.backend.repositories.SolicitacaoHistoricoRepository;
+import com.jusconnect.backend.repositories.SolicitacaoLoteRepository;
 import com.jusconnect.backend.repositories.SolicitacaoRepository;
+import com.jusconnect.backend.repositories.projections.ContagemStatusProjection;
+import com.jusconnect.backend.repositories.projections.SolicitacaoEstadoProjection;
+import com.jusconnect.backend.repositories.projections.SolicitacaoResumoProjection;
+import com.jusconnect.backend.services.eventos.CanalSolicitacoesPublicas;
+import com.jusconnect.backend.services.eventos.EventoSolicitacaoPublica;
+import com.jusconnect.backend.services.exceptions.SolicitacaoJaRespondidaException;
+import com.jusconnect.backend.services.exceptions.SolicitacaoReservadaException;
 import com.jusconnect.backend.services.interfaces.SolicitacaoServiceInterface;
+import com.jusconnect.backend.services.reservas.ReservasSolicitacoes;
+import com.jusconnect.backend.services.pagination.KeysetCursor;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class SolicitacaoService implements SolicitacaoServiceInterface {
 
+    private static final int TAMANHO_PAGINA_PADRAO = 20;
+    private static final int TAMANHO_PAGINA_MAXIMO = 100;
+
     private final SolicitacaoRepository solicitacaoRepository;
+    private final SolicitacaoHistoricoRepository solicitacaoHistoricoRepository;
     private final ClienteRepository clienteRepository;
     private final AdvogadoRepository advogadoRepository;
+    private final CanalSolicitacoesPublicas canalSolicitacoesPublicas;
+    private final ReservasSolicitacoes reservasSolicitacoes;
 
     @Override
     public SolicitacaoResponseDTO criarSolicitacao(SolicitacaoRequestDTO request) {
@@ -59,15 +99,72 @@ public class SolicitacaoService implements SolicitacaoServiceInterface {
 
         Solicitacao savedSolicitacao = solicitacaoRepository.save(solicitacao);
 
+        if (savedSolicitacao.getPublica()) {
+            publicarAposCommit(EventoSolicitacaoPublica.criada(savedSolicitacao));
+        }
+
         return buildResponseDTO(savedSolicitacao, false);
     }
 
     @Override
-    public List<SolicitacaoResponseDTO> listarSolicitacoesCliente(Long clienteId) {
-        List<Solicitacao> solicitacoes = solicitacaoRepository.findByClienteId(clienteId);
-        return solicitacoes.stream()
-                .map(s -> buildResponseDTO(s, true)) // Cliente pode ver seus próprios dados
-                .collect(Collectors.toList());
+    public List<ResultadoDestinatarioDTO> criarSolicitacoes(SolicitacaoMultiplaRequestDTO request) {
+        Cliente cliente = clienteRepository.findById(request.getClienteId())
+            .orElseThrow(() -> new EntityNotFoundException("Cliente não encontrado"));
+
+        // Duas consultas para todos os destinatários: os advogados e os que já têm pendente deste cliente
+        Set<Long> ids = new HashSet<>(request.getAdvogadoIds());
+        Map<Long, Advogado> advogados = advogadoRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Advogado::getId, Function.identity()));
+        Set<Long> comPendente = solicitacaoRepository.findAdvogadoIdsComSolicitacao(
+                cliente.getId(), ids, StatusSolicitacao.PENDENTE);
+
+        List<ResultadoDestinatarioDTO> resultados = new ArrayList<>();
+        List<Solicitacao> novas = new ArrayList<>();
+        Set<Long> vistos = new HashSet<>();
+        for (Long advogadoId : request.getAdvogadoIds()) {
+            Advogado advogado = advogados.get(advogadoId);
+            if (!vistos.add(advogadoId)) {
+                resultados.add(falha(advogadoId, HttpStatus.BAD_REQUEST, "Advogado repetido no envio"));
+            } else if (advogado == null) {
+                resultados.add(falha(advogadoId, HttpStatus.NOT_FOUND, "Advogado não encontrado"));
+            } else if (comPendente.contains(advogadoId)) {
+                resultados.add(falha(advogadoId, HttpStatus.BAD_REQUEST,
+                        "Você já possui uma solicitação pendente para este advogado"));
+            } else {
+                novas.add(Solicitacao.builder()
+                        .descricao(request.getDescricao())
+                        .status(StatusSolicitacao.PENDENTE)
+                        .publica(false)
+                        .cliente(cliente)
+                        .advogado(advogado)
+                        .build());
+                resultados.add(null); // preenchido após o INSERT
+            }
+        }
+
+        // Uma transação; ids vêm da sequência em blocos, então os INSERTs seguem em batch
+        Iterator<Solicitacao> salvas = solicitacaoRepository.saveAll(novas).iterator();
+        for (int i = 0; i < resultados.size(); i++) {
+            if (resultados.get(i) == null) {
+                Solicitacao salva = salvas.next();
+                resultados.set(i, ResultadoDestinatarioDTO.builder()
+                        .advogadoId(salva.getAdvogado().getId())
+                        .sucesso(true)
+                        .codigo(HttpStatus.CREATED.value())
+                        .solicitacao(buildResponseDTO(salva, false))
+                        .build());
+            }
+        }
+        return resultados;
+    }
+
+    @Override
+    public PaginaResponseDTO<SolicitacaoResponseDTO> listarSolicitacoesCliente(Long clienteId, FiltroSolicitacoesDTO filtro) {
+        Pagina pagina = Pagina.para(filtro);
+        List<SolicitacaoResumoProjection> solicitacoes = solicitacaoRepository.findPaginaDoCliente(
+                clienteId, statusFiltrados(filtro), pagina.de(), pagina.ate(),
+                pagina.cursorData(), pagina.cursorId(), pagina.limite());
+        return montarPagina(solicitacoes, pagina, s -> true); // Cliente pode ver seus próprios dados
     }
 
     @Override
@@ -85,40 +182,113 @@ public class SolicitacaoService implements SolicitacaoServiceInterface {
             throw new IllegalArgumentException("Apenas solicitações pendentes podem ser canceladas");
         }
 
-        solicitacao.setStatus(StatusSolicitacao.CANCELADA);
-        solicitacao.setDataResposta(LocalDateTime.now());
-        solicitacaoRepository.save(solicitacao);
+        // Condicional, para não sobrescrever uma resposta do advogado que chegou entre a leitura e a escrita
+        int atualizadas = solicitacaoRepository.cancelarSePendente(solicitacaoId, clienteId,
+                StatusSolicitacao.CANCELADA, LocalDateTime.now(), StatusSolicitacao.PENDENTE);
+        if (atualizadas == 0) {
+            throw new SolicitacaoJaRespondidaException("Esta solicitação já foi respondida");
+        }
+
+        if (solicitacao.getPublica()) {
+            reservasSolicitacoes.remover(solicitacaoId);
+            publicarAposCommit(EventoSolicitacaoPublica.removida(solicitacao.getId()));
+        }
     }
 
     @Override
-    public List<SolicitacaoResponseDTO> listarSolicitacoesAdvogado(Long advogadoId) {
-        List<Solicitacao> solicitacoes = solicitacaoRepository.findByAdvogadoId(advogadoId);
-        return solicitacoes.stream()
-                .map(s -> buildResponseDTO(s, s.getStatus() == StatusSolicitacao.ACEITA)) // Só mostra contato se aceita
-                .collect(Collectors.toList());
+    public PaginaResponseDTO<SolicitacaoResponseDTO> listarSolicitacoesAdvogado(Long advogadoId, FiltroSolicitacoesDTO filtro) {
+        Pagina pagina = Pagina.para(filtro);
+        List<SolicitacaoResumoProjection> solicitacoes = solicitacaoRepository.findPaginaDoAdvogado(
+                advogadoId, statusFiltrados(filtro), pagina.de(), pagina.ate(),
+                pagina.cursorData(), pagina.cursorId(), pagina.limite());
+        // Só mostra contato se aceita
+        return montarPagina(solicitacoes, pagina, s -> s.getStatus() == StatusSolicitacao.ACEITA);
     }
 
     @Override
-    public List<SolicitacaoResponseDTO> listarSolicitacoesPublicas() {
-        List<Solicitacao> solicitacoes = solicitacaoRepository.findByPublicaTrueAndStatus(StatusSolicitacao.PENDENTE);
-        return solicitacoes.stream()
-                .map(s -> buildResponseDTO(s, false)) // Não mostra dados de contato em públicas
-                .collect(Collectors.toList());
+    public PaginaResponseDTO<SolicitacaoResponseDTO> listarSolicitacoesPublicas(Long advogadoId, FiltroSolicitacoesDTO filtro) {
+        // O feed público contém apenas pendentes; o filtro de status não se aplica
+        Pagina pagina = Pagina.para(filtro);
+        List<SolicitacaoResumoProjection> solicitacoes = solicitacaoRepository.findPaginaPublicas(
+                StatusSolicitacao.PENDENTE, pagina.de(), pagina.ate(),
+                pagina.cursorData(), pagina.cursorId(), pagina.limite());
+        PaginaResponseDTO<SolicitacaoResponseDTO> resposta =
+                montarPagina(solicitacoes, pagina, s -> false); // Não mostra dados de contato em públicas
+        resposta.getItens().forEach(dto -> marcarReserva(dto, advogadoId));
+        return resposta;
     }
 
     @Override
-    public SolicitacaoResponseDTO responderSolicitacao(Long solicitacaoId, Long advogadoId, SolicitacaoUpdateDTO request) {
+    public ContagemSolicitacoesDTO contarSolicitacoesCliente(Long clienteId) {
+        return montarContagem(solicitacaoRepository.countPorStatusDoCliente(clienteId));
+    }
+
+    @Override
+    public ContagemSolicitacoesDTO contarSolicitacoesAdvogado(Long advogadoId) {
+        return montarContagem(solicitacaoRepository.countPorStatusDoAdvogado(advogadoId));
+    }
+
+    @Override
+    public PaginaResponseDTO<SolicitacaoResponseDTO> listarHistoricoCliente(Long clienteId, FiltroSolicitacoesDTO filtro) {
+        Pagina pagina = Pagina.para(filtro);
+        List<SolicitacaoResumoProjection> solicitacoes = solicitacaoHistoricoRepository.findPaginaDoCliente(
+                clienteId, statusFiltrados(filtro), pagina.de(), pagina.ate(),
+                pagina.cursorData(), pagina.cursorId(), pagina.limite());
+        return montarPagina(solicitacoes, pagina, s -> true);
+    }
+
+    @Override
+    public PaginaResponseDTO<SolicitacaoResponseDTO> listarHistoricoAdvogado(Long advogadoId, FiltroSolicitacoesDTO filtro) {
+        Pagina pagina = Pagina.para(filtro);
+        List<SolicitacaoResumoProjection> solicitacoes = solicitacaoHistoricoRepository.findPaginaDoAdvogado(
+                advogadoId, statusFiltrados(filtro), pagina.de(), pagina.ate(),
+                pagina.cursorData(), pagina.cursorId(), pagina.limite());
+        return montarPagina(solicitacoes, pagina, s -> s.getStatus() == StatusSolicitacao.ACEITA);
+    }
+
+    @Override
+    public ReservaSolicitacaoDTO reservarSolicitacao(Long solicitacaoId, Long advogadoId) {
         Solicitacao solicitacao = solicitacaoRepository.findById(solicitacaoId)
             .orElseThrow(() -> new EntityNotFoundException("Solicitação não encontrada"));
 
+        if (!solicitacao.getPublica()) {
+            throw new IllegalArgumentException("Apenas solicitações públicas podem ser reservadas");
+        }
+
+        if (solicitacao.getStatus() != StatusSolicitacao.PENDENTE) {
+            throw new SolicitacaoJaRespondidaException("Esta solicitação já foi respondida");
+        }
+
+        ReservasSolicitacoes.Reserva reserva = reservasSolicitacoes.reservar(solicitacaoId, advogadoId)
+            .orElseThrow(() -> new SolicitacaoReservadaException("Esta solicitação está reservada por outro advogado"));
+
+        return ReservaSolicitacaoDTO.builder()
+                .solicitacaoId(reserva.solicitacaoId())
+                .advogadoId(reserva.advogadoId())
+                .expiraEm(reserva.expiraEm())
+                .build();
+    }
+
+    @Override
+    public void liberarReserva(Long solicitacaoId, Long advogadoId) {
+        if (!reservasSolicitacoes.liberar(solicitacaoId, advogadoId)) {
+            throw new EntityNotFoundException("Reserva não encontrada");
+        }
+    }
+
+    @Override
+    public SolicitacaoResponseDTO responderSolicitacao(Long solicitacaoId, Long advogadoId, SolicitacaoUpdateDTO request) {
+        Solicitacao solicitacao = solicitacaoRepository.findComParticipantesById(solicitacaoId)
+            .orElseThrow(() -> new EntityNotFoundException("Solicitação não encontrada"));
+
         // Verificar se a solicitação é para este advogado
         if (solicitacao.getAdvogado() != null && !solicitacao.getAdvogado().getId().equals(advogadoId)) {
             throw new IllegalArgumentException("Esta solicitação não foi direcionada para você");
         }
 
-        // Verificar se ainda está pendente
+        // Verificar se ainda está pendente (caminho rápido; a garantia vem do UPDATE condicional)
         if (solicitacao.getStatus() != StatusSolicitacao.PENDENTE) {
-            throw new IllegalArgumentException("Esta solicitação já foi respondida");
+            throw new SolicitacaoJaRespondidaException("Esta solicitação já foi respondida");
         }
 
         // Validar status (só pode ser ACEITA ou RECUSADA)
@@ -128,23 +298,96 @@ public class SolicitacaoService implements SolicitacaoServiceInterface {
         }
 
         // Se for solicitação pública, atribuir o advogado
-        if (solicitacao.getAdvogado() == null) {
-            Advogado advogado = advogadoRepository.findById(advogadoId)
+        Advogado advogado = solicitacao.getAdvogado();
+        if (advogado == null) {
+            advogado = advogadoRepository.findById(advogadoId)
                 .orElseThrow(() -> new EntityNotFoundException("Advogado não encontrado"));
-            solicitacao.setAdvogado(advogado);
         }
 
+        // Caminho rápido pelo índice em memória; a garantia vem do UPDATE condicional
+        if (reservadaPorOutro(solicitacaoId, advogadoId)) {
+            throw new SolicitacaoReservadaException("Esta solicitação está reservada por outro advogado");
+        }
+
+        // Entre respostas concorrentes, só uma encontra a linha PENDENTE; as demais recebem 409
+        LocalDateTime dataResposta = LocalDateTime.now();
+        int atualizadas = solicitacaoRepository.responderSePendente(solicitacaoId, advogado, advogadoId,
+                request.getStatus(), dataResposta, StatusSolicitacao.PENDENTE);
+        if (atualizadas == 0) {
+            if (solicitacaoRepository.existsByIdAndStatus(solicitacaoId, StatusSolicitacao.PENDENTE)) {
+                throw new SolicitacaoReservadaException("Esta solicitação está reservada por outro advogado");
+            }
+            throw new SolicitacaoJaRespondidaException("Esta solicitação já foi respondida");
+        }
+
+        solicitacao.setAdvogado(advogado);
         solicitacao.setStatus(request.getStatus());
-        solicitacao.setDataResposta(LocalDateTime.now());
-        
-        Solicitacao updatedSolicitacao = solicitacaoRepository.save(solicitacao);
+        solicitacao.setDataResposta(dataResposta);
+
+        if (solicitacao.getPublica()) {
+            reservasSolicitacoes.remover(solicitacaoId);
+            publicarAposCommit(EventoSolicitacaoPublica.removida(solicitacao.getId()));
+        }
 
-        return buildResponseDTO(updatedSolicitacao, request.getStatus() == StatusSolicitacao.ACEITA);
+        return buildResponseDTO(solicitacao, request.getStatus() == StatusSolicitacao.ACEITA);
+    }
+
+    @Override
+    public List<ResultadoRespostaDTO> responderEmLote(Long advogadoId, List<DecisaoRespostaDTO> decisoes) {
+        // Uma única consulta traz o estado de todas as solicitações do lote
+        Set<Long> ids = decisoes.stream().map(DecisaoRespostaDTO::getSolicitacaoId).collect(Collectors.toSet());
+        Map<Long, SolicitacaoEstadoProjection> estados = solicitacaoRepository.findEstadosByIdIn(ids).stream()
+                .collect(Collectors.toMap(SolicitacaoEstadoProjection::getId, Function.identity()));
+
+        Map<DecisaoRespostaDTO, ResultadoRespostaDTO> resultados = new IdentityHashMap<>();
+        List<DecisaoRespostaDTO> validas = new ArrayList<>();
+        Set<Long> vistos = new HashSet<>();
+        for (DecisaoRespostaDTO decisao : decisoes) {
+            ResultadoRespostaDTO erro = validarDecisao(decisao, estados.get(decisao.getSolicitacaoId()),
+                    advogadoId, vistos);
+            if (erro != null) {
+                resultados.put(decisao, erro);
+            } else {
+                validas.add(decisao);
+            }
+        }
+
+        if (!validas.isEmpty()) {
+            List<SolicitacaoLoteRepository.Resposta> respostas = validas.stream()
+                    .map(d -> new SolicitacaoLoteRepository.Resposta(d.getSolicitacaoId(), d.getStatus()))
+                    .collect(Collectors.toList());
+            int[] atualizadas = solicitacaoRepository.responderEmLote(respostas, advogadoId, LocalDateTime.now());
+
+            List<Long> publicasRespondidas = new ArrayList<>();
+            for (int i = 0; i < validas.size(); i++) {
+                DecisaoRespostaDTO decisao = validas.get(i);
+                // Respondida ou reservada entre a validação e o UPDATE
+                if (atualizadas[i] == 0) {
+                    resultados.put(decisao, falha(decisao, HttpStatus.CONFLICT, "Esta solicitação já foi respondida"));
+                    continue;
+                }
+                resultados.put(decisao, ResultadoRespostaDTO.builder()
+                        .solicitacaoId(decisao.getSolicitacaoId())
+                        .sucesso(true)
+                        .codigo(HttpStatus.OK.value())
+                        .status(decisao.getStatus())
+                        .build());
+                if (estados.get(decisao.getSolicitacaoId()).getPublica()) {
+                    publicasRespondidas.add(decisao.getSolicitacaoId());
+                }
+            }
+
+            reservasSolicitacoes.remover(publicasRespondidas);
+            publicasRespondidas.forEach(id -> publicarAposCommit(EventoSolicitacaoPublica.removida(id)));
+        }
+
+        // Resultados na ordem em que as decisões foram enviadas
+        return decisoes.stream().map(resultados::get).collect(Collectors.toList());
     }
 
     @Override
     public SolicitacaoResponseDTO visualizarSolicitacaoCliente(Long solicitacaoId, Long clienteId) {
-        Solicitacao solicitacao = solicitacaoRepository.findById(solicitacaoId)
+        Solicitacao solicitacao = solicitacaoRepository.findComParticipantesById(solicitacaoId)
             .orElseThrow(() -> new EntityNotFoundException("Solicitação não encontrada"));
 
         // Cliente só pode ver suas próprias solicitações
@@ -158,7 +401,7 @@ public class SolicitacaoService implements SolicitacaoServiceInterface {
 
      @Override
     public SolicitacaoResponseDTO visualizarSolicitacaoAdvogado(Long solicitacaoId, Long advogadoId) {
-        Solicitacao solicitacao = solicitacaoRepository.findById(solicitacaoId)
+        Solicitacao solicitacao = solicitacaoRepository.findComParticipantesById(solicitacaoId)
             .orElseThrow(() -> new EntityNotFoundException("Solicitação não encontrada"));
 
         // Advogado pode ver se foi direcionada a ele ou se é pública
@@ -172,7 +415,11 @@ public class SolicitacaoService implements SolicitacaoServiceInterface {
         
         // Só mostra contato do cliente se a solicitação foi aceita
         boolean mostrarContato = solicitacao.getStatus() == StatusSolicitacao.ACEITA;
-        return buildResponseDTO(solicitacao, mostrarContato);
+        SolicitacaoResponseDTO response = buildResponseDTO(solicitacao, mostrarContato);
+        if (isPublica && solicitacao.getStatus() == StatusSolicitacao.PENDENTE) {
+            marcarReserva(response, advogadoId);
+        }
+        return response;
     }
 
     // Método auxiliar para construir o DTO de resposta
@@ -201,4 +448,175 @@ public class SolicitacaoService implements SolicitacaoServiceInterface {
 
         return builder.build();
     }
-}
\ No newline at end of file
+
+    // Mesmas regras de responderSolicitacao, aplicadas a um item do lote; retorna null se a decisão é válida
+    private ResultadoRespostaDTO validarDecisao(DecisaoRespostaDTO decisao, SolicitacaoEstadoProjection estado,
+                                                Long advogadoId, Set<Long> vistos) {
+        if (!vistos.add(decisao.getSolicitacaoId())) {
+            return falha(decisao, HttpStatus.BAD_REQUEST, "Solicitação repetida no lote");
+        }
+        if (decisao.getStatus() != StatusSolicitacao.ACEITA && decisao.getStatus() != StatusSolicitacao.RECUSADA) {
+            return falha(decisao, HttpStatus.BAD_REQUEST, "Status inválido. Use ACEITA ou RECUSADA");
+        }
+        if (estado == null) {
+            return falha(decisao, HttpStatus.NOT_FOUND, "Solicitação não encontrada");
+        }
+        if (estado.getAdvogadoId() != null && !estado.getAdvogadoId().equals(advogadoId)) {
+            return falha(decisao, HttpStatus.BAD_REQUEST, "Esta solicitação não foi direcionada para você");
+        }
+        if (estado.getStatus() != StatusSolicitacao.PENDENTE) {
+            return falha(decisao, HttpStatus.CONFLICT, "Esta solicitação já foi respondida");
+        }
+        if (reservadaPorOutro(decisao.getSolicitacaoId(), advogadoId)) {
+            return falha(decisao, HttpStatus.CONFLICT, "Esta solicitação está reservada por outro advogado");
+        }
+        return null;
+    }
+
+    private static ResultadoRespostaDTO falha(DecisaoRespostaDTO decisao, HttpStatus codigo, String erro) {
+        return ResultadoRespostaDTO.builder()
+                .solicitacaoId(decisao.getSolicitacaoId())
+                .sucesso(false)
+                .codigo(codigo.value())
+                .erro(erro)
+                .build();
+    }
+
+    private static ResultadoDestinatarioDTO falha(Long advogadoId, HttpStatus codigo, String erro) {
+        return ResultadoDestinatarioDTO.builder()
+                .advogadoId(advogadoId)
+                .sucesso(false)
+                .codigo(codigo.value())
+                .erro(erro)
+                .build();
+    }
+
+    private boolean reservadaPorOutro(Long solicitacaoId, Long advogadoId) {
+        return reservasSolicitacoes.ativa(solicitacaoId)
+                .map(r -> !r.advogadoId().equals(advogadoId))
+                .orElse(false);
+    }
+
+    // Indica a reserva ativa, sem expor qual advogado a detém
+    private void marcarReserva(SolicitacaoResponseDTO dto, Long advogadoId) {
+        reservasSolicitacoes.ativa(dto.getId()).ifPresent(r -> {
+            dto.setReservada(true);
+            dto.setReservadaPorMim(r.advogadoId().equals(advogadoId));
+            dto.setReservaExpiraEm(r.expiraEm());
+        });
+    }
+
+    // O feed só deve refletir o que foi confirmado no banco
+    private void publicarAposCommit(EventoSolicitacaoPublica evento) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    canalSolicitacoesPublicas.publicar(evento);
+                }
+            });
+        } else {
+            canalSolicitacoesPublicas.publicar(evento);
+        }
+    }
+
+    // Limites da consulta paginada; valores ausentes viram limites abertos, mantendo a consulta estática
+    private record Pagina(LocalDateTime de, LocalDateTime ate, LocalDateTime cursorData, Long cursorId,
+                          int tamanho, Limit limite) {
+
+        // Sem filtro de datas o intervalo é aberto: no PostgreSQL particionado, nenhuma partição é descartada
+        private static final LocalDateTime INICIO = LocalDateTime.of(1970, 1, 1, 0, 0);
+        private static final LocalDateTime FIM = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+        static Pagina para(FiltroSolicitacoesDTO filtro) {
+            FiltroSolicitacoesDTO f = filtro != null ? filtro : new FiltroSolicitacoesDTO();
+
+            LocalDateTime de = f.getCriadaDe() != null ? f.getCriadaDe().atStartOfDay() : INICIO;
+            LocalDateTime ate = f.getCriadaAte() != null ? f.getCriadaAte().plusDays(1).atStartOfDay() : FIM;
+            if (ate.isBefore(de)) {
+                throw new IllegalArgumentException("Intervalo de datas inválido");
+            }
+
+            LocalDateTime cursorData = FIM;
+            Long cursorId = Long.MAX_VALUE;
+            if (f.getCursor() != null && !f.getCursor().isBlank()) {
+                String[] chave = KeysetCursor.decode(f.getCursor(), 2);
+                try {
+                    cursorData = LocalDateTime.parse(chave[0]);
+                    cursorId = Long.valueOf(chave[1]);
+                } catch (RuntimeException e) {
+                    throw new IllegalArgumentException("Cursor inválido");
+                }
+            }
+
+            int tamanho = f.getTamanho() == null || f.getTamanho() <= 0
+                    ? TAMANHO_PAGINA_PADRAO
+                    : Math.min(f.getTamanho(), TAMANHO_PAGINA_MAXIMO);
+            // Um item a mais apenas para saber se existe próxima página
+            return new Pagina(de, ate, cursorData, cursorId, tamanho, Limit.of(tamanho + 1));
+        }
+    }
+
+    private static Collection<StatusSolicitacao> statusFiltrados(FiltroSolicitacoesDTO filtro) {
+        if (filtro == null || filtro.getStatus() == null || filtro.getStatus().isEmpty()) {
+            return EnumSet.allOf(StatusSolicitacao.class);
+        }
+        return EnumSet.copyOf(filtro.getStatus());
+    }
+
+    // O GROUP BY só traz os status presentes; os demais entram zerados para a interface não tratar ausência
+    private ContagemSolicitacoesDTO montarContagem(List<ContagemStatusProjection> contagens) {
+        Map<StatusSolicitacao, Long> porStatus = new EnumMap<>(StatusSolicitacao.class);
+        for (StatusSolicitacao status : StatusSolicitacao.values()) {
+            porStatus.put(status, 0L);
+        }
+        contagens.forEach(c -> porStatus.put(c.getStatus(), c.getQuantidade()));
+
+        return ContagemSolicitacoesDTO.builder()
+                .porStatus(porStatus)
+                .total(porStatus.values().stream().mapToLong(Long::longValue).sum())
+                .build();
+    }
+
+    private PaginaResponseDTO<SolicitacaoResponseDTO> montarPagina(List<SolicitacaoResumoProjection> solicitacoes,
+                                                                  Pagina pagina,
+                                                                  Predicate<SolicitacaoResumoProjection> incluirDadosContato) {
+        String proximoCursor = null;
+        if (solicitacoes.size() > pagina.tamanho()) {
+            solicitacoes = solicitacoes.subList(0, pagina.tamanho());
+            SolicitacaoResumoProjection ultima = solicitacoes.get(pagina.tamanho() - 1);
+            proximoCursor = KeysetCursor.encode(ultima.getDataCriacao(), ultima.getId());
+        }
+
+        List<SolicitacaoResponseDTO> itens = solicitacoes.stream()
+                .map(s -> buildResponseDTO(s, incluirDadosContato.test(s)))
+                .collect(Collectors.toList());
+
+        return PaginaResponseDTO.<SolicitacaoResponseDTO>builder()
+                .itens(itens)
+                .proximoCursor(proximoCursor)
+                .build();
+    }
+
+    // Versão das listagens, a partir da projeção (sem entidades gerenciadas)
+    private SolicitacaoResponseDTO buildResponseDTO(SolicitacaoResumoProjection solicitacao, boolean incluirDadosContato) {
+        SolicitacaoResponseDTO.SolicitacaoResponseDTOBuilder builder = SolicitacaoResponseDTO.builder()
+                .id(solicitacao.getId())
+                .descricao(solicitacao.getDescricao())
+                .status(solicitacao.getStatus())
+                .publica(solicitacao.getPublica())
+                .dataCriacao(solicitacao.getDataCriacao())
+                .dataResposta(solicitacao.getDataResposta())
+                .clienteId(solicitacao.getClienteId())
+                .clienteNome(solicitacao.getClienteNome())
+                .advogadoId(solicitacao.getAdvogadoId())
+                .advogadoNome(solicitacao.getAdvogadoNome());
+
+        if (incluirDadosContato) {
+            builder.clienteEmail(solicitacao.getClienteEmail())
+                   .clienteTelefone(solicitacao.getClienteTelefone());
+        }
+
+        return builder.build();
+    }
+}
@@ -1,9 +1,9 @@
 package com.jusconnect.backend.services.interfaces;
 
-import java.util.List;
-
 import com.jusconnect.backend.dtos.*;
 
+import java.util.List;
+
 public interface AdvogadoServiceInterface {
 
     public AdvogadoResponseDTO cadastrarAdvogado(AdvogadoRequestDTO request);
@@ -11,8 +11,11 @@ public interface AdvogadoServiceInterface {
     AdvogadoResponseDTO atualizarPerfil(Long id, AdvogadoUpdateDTO request);
     void deletarPerfil(Long advogadoId);
 
-    List<AdvogadoResponseDTO> listarAdvogadosOrdenadosPorNome();
+    PaginaResponseDTO<AdvogadoResponseDTO> listarAdvogadosOrdenadosPorNome(Integer tamanho, String cursor);
+
+    PaginaResponseDTO<AdvogadoResponseDTO> buscarAdvogados(List<String> areasAtuacao, Integer tempoMinMeses,
+                                                           Integer tamanho, String cursor, boolean incluirFacetas);
 
-    List<AdvogadoResponseDTO> buscarAdvogados(String areaAtuacao, Integer tempoMinMeses);
+    PaginaResponseDTO<AdvogadoResponseDTO> buscarAdvogadosPorTexto(String consulta, Integer tamanho, String cursor);
 
 }
@@ -1,5 +1,13 @@
 package com.jusconnect.backend.services.interfaces;
 
+import com.jusconnect.backend.dtos.ContagemSolicitacoesDTO;
+import com.jusconnect.backend.dtos.DecisaoRespostaDTO;
+import com.jusconnect.backend.dtos.FiltroSolicitacoesDTO;
+import com.jusconnect.backend.dtos.PaginaResponseDTO;
+import com.jusconnect.backend.dtos.ReservaSolicitacaoDTO;
+import com.jusconnect.backend.dtos.ResultadoDestinatarioDTO;
+import com.jusconnect.backend.dtos.ResultadoRespostaDTO;
+import com.jusconnect.backend.dtos.SolicitacaoMultiplaRequestDTO;
 import com.jusconnect.backend.dtos.SolicitacaoRequestDTO;
 import com.jusconnect.backend.dtos.SolicitacaoResponseDTO;
 import com.jusconnect.backend.dtos.SolicitacaoUpdateDTO;
@@ -11,21 +19,45 @@ public interface SolicitacaoServiceInterface {
     // Cliente cria uma solicitação
     SolicitacaoResponseDTO criarSolicitacao(SolicitacaoRequestDTO request);
 
+    // Cliente envia a mesma demanda a vários advogados; cada destinatário tem seu próprio resultado
+    List<ResultadoDestinatarioDTO> criarSolicitacoes(SolicitacaoMultiplaRequestDTO request);
+
     // Cliente visualiza suas próprias solicitações
-    List<SolicitacaoResponseDTO> listarSolicitacoesCliente(Long clienteId);
+    PaginaResponseDTO<SolicitacaoResponseDTO> listarSolicitacoesCliente(Long clienteId, FiltroSolicitacoesDTO filtro);
 
     // Cliente cancela sua solicitação
     void cancelarSolicitacao(Long solicitacaoId, Long clienteId);
 
     // Advogado visualiza solicitações direcionadas a ele
-    List<SolicitacaoResponseDTO> listarSolicitacoesAdvogado(Long advogadoId);
+    PaginaResponseDTO<SolicitacaoResponseDTO> listarSolicitacoesAdvogado(Long advogadoId, FiltroSolicitacoesDTO filtro);
 
     // Advogado visualiza solicitações públicas
-    List<SolicitacaoResponseDTO> listarSolicitacoesPublicas();
+    PaginaResponseDTO<SolicitacaoResponseDTO> listarSolicitacoesPublicas(Long advogadoId, FiltroSolicitacoesDTO filtro);
+
+    // Quantas solicitações o cliente tem em cada status, para os contadores da interface
+    ContagemSolicitacoesDTO contarSolicitacoesCliente(Long clienteId);
+
+    // Quantas solicitações direcionadas ao advogado há em cada status
+    ContagemSolicitacoesDTO contarSolicitacoesAdvogado(Long advogadoId);
+
+    // Solicitações encerradas já movidas para o histórico - Cliente
+    PaginaResponseDTO<SolicitacaoResponseDTO> listarHistoricoCliente(Long clienteId, FiltroSolicitacoesDTO filtro);
+
+    // Solicitações encerradas já movidas para o histórico - Advogado
+    PaginaResponseDTO<SolicitacaoResponseDTO> listarHistoricoAdvogado(Long advogadoId, FiltroSolicitacoesDTO filtro);
+
+    // Advogado reserva por alguns minutos uma solicitação pública pendente, antes de respondê-la
+    ReservaSolicitacaoDTO reservarSolicitacao(Long solicitacaoId, Long advogadoId);
+
+    // Advogado desiste da reserva antes de expirar
+    void liberarReserva(Long solicitacaoId, Long advogadoId);
 
     // Advogado aceita ou recusa uma solicitação
     SolicitacaoResponseDTO responderSolicitacao(Long solicitacaoId, Long advogadoId, SolicitacaoUpdateDTO request);
 
+    // Advogado responde várias solicitações de uma vez; cada decisão tem seu próprio resultado
+    List<ResultadoRespostaDTO> responderEmLote(Long advogadoId, List<DecisaoRespostaDTO> decisoes);
+
     // Visualizar uma solicitação específica - Cliente
     SolicitacaoResponseDTO visualizarSolicitacaoCliente(Long solicitacaoId, Long clienteId);
     
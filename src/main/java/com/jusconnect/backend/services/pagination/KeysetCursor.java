@@ -0,0 +1,42 @@
+package com.jusconnect.backend.services.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Codifica a chave de ordenação do último item de uma página num cursor opaco (Base64 URL).
+ * O cliente apenas devolve o valor recebido; a consulta seguinte busca a partir dessa chave,
+ * sem OFFSET.
+ */
+public final class KeysetCursor {
+
+    private static final String SEPARADOR = "\u001F";
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(Object... partes) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < partes.length; i++) {
+            if (i > 0) {
+                sb.append(SEPARADOR);
+            }
+            sb.append(partes[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int quantidadePartes) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] partes = valor.split(SEPARADOR, -1);
+            if (partes.length != quantidadePartes) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+            return partes;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+}
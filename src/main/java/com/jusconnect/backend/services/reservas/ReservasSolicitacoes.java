@@ -0,0 +1,176 @@
+package com.jusconnect.backend.services.reservas;
+
+import com.jusconnect.backend.models.ReservaSolicitacao;
+import com.jusconnect.backend.repositories.ReservaSolicitacaoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Reservas temporárias de solicitações públicas.
+ * A tabela é a fonte da verdade e resolve a disputa sem locks: UPDATE condicional para reserva
+ * expirada ou do próprio advogado e, se não há linha, INSERT protegido pela chave primária.
+ * Em memória fica um índice por solicitação e por expiração, usado para marcar as solicitações
+ * reservadas nas listagens sem consultar o banco; a varredura periódica apaga as reservas
+ * vencidas e recarrega as ativas, trazendo também as criadas em outros nós.
+ *
+ * A marcação nas listagens pode, portanto, ficar atrás da tabela por até um intervalo de varredura
+ * para reservas feitas em outro nó. Responder não depende do índice: o UPDATE condicional consulta
+ * a tabela. Até a primeira varredura terminar, o índice ainda está vazio e {@link #ativa} consulta
+ * a tabela quando não encontra a solicitação.
+ */
+@Component
+public class ReservasSolicitacoes {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservasSolicitacoes.class);
+
+    public record Reserva(Long solicitacaoId, Long advogadoId, LocalDateTime expiraEm) {
+
+        public boolean ativa(LocalDateTime agora) {
+            return expiraEm.isAfter(agora);
+        }
+    }
+
+    private static final Comparator<Reserva> POR_EXPIRACAO =
+            Comparator.comparing(Reserva::expiraEm).thenComparing(Reserva::solicitacaoId);
+
+    private final ReservaSolicitacaoRepository repository;
+    private final Duration duracao;
+
+    // Índice TTL: busca por solicitação e remoção das vencidas a partir da mais antiga
+    private final Map<Long, Reserva> porSolicitacao = new HashMap<>();
+    private final TreeSet<Reserva> porExpiracao = new TreeSet<>(POR_EXPIRACAO);
+    private volatile boolean carregado;
+
+    public ReservasSolicitacoes(ReservaSolicitacaoRepository repository,
+                                @Value("${solicitacoes.reserva.duracao-minutos:10}") long duracaoMinutos) {
+        this.repository = repository;
+        this.duracao = Duration.ofMinutes(duracaoMinutos);
+    }
+
+    /**
+     * Reserva (ou renova) a solicitação para o advogado. Retorna vazio se outro advogado detém uma reserva ativa.
+     */
+    public Optional<Reserva> reservar(Long solicitacaoId, Long advogadoId) {
+        LocalDateTime agora = LocalDateTime.now();
+        LocalDateTime expiraEm = agora.plus(duracao);
+
+        boolean obtida = repository.assumirSeLivre(solicitacaoId, advogadoId, expiraEm, agora) == 1
+                || inserir(solicitacaoId, advogadoId, expiraEm);
+
+        if (!obtida) {
+            // Atualiza o índice com a reserva vencedora, que pode ter vindo de outro nó
+            repository.findById(solicitacaoId).map(ReservasSolicitacoes::paraReserva).ifPresent(this::indexar);
+            return Optional.empty();
+        }
+
+        Reserva reserva = new Reserva(solicitacaoId, advogadoId, expiraEm);
+        indexar(reserva);
+        return Optional.of(reserva);
+    }
+
+    public boolean liberar(Long solicitacaoId, Long advogadoId) {
+        boolean liberada = repository.liberar(solicitacaoId, advogadoId) > 0;
+        if (liberada) {
+            desindexar(solicitacaoId);
+        }
+        return liberada;
+    }
+
+    // A solicitação saiu do feed (respondida ou cancelada); a reserva não tem mais efeito
+    public void remover(Long solicitacaoId) {
+        repository.removerDaSolicitacao(solicitacaoId);
+        desindexar(solicitacaoId);
+    }
+
+    public void remover(Collection<Long> solicitacaoIds) {
+        if (solicitacaoIds.isEmpty()) {
+            return;
+        }
+        repository.removerDasSolicitacoes(solicitacaoIds);
+        solicitacaoIds.forEach(this::desindexar);
+    }
+
+    public Optional<Reserva> ativa(Long solicitacaoId) {
+        Reserva reserva;
+        synchronized (this) {
+            reserva = porSolicitacao.get(solicitacaoId);
+        }
+        if (reserva == null && !carregado) {
+            reserva = repository.findById(solicitacaoId).map(ReservasSolicitacoes::paraReserva).orElse(null);
+        }
+        return reserva != null && reserva.ativa(LocalDateTime.now()) ? Optional.of(reserva) : Optional.empty();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${solicitacoes.reserva.varredura-ms:60000}",
+            initialDelayString = "${solicitacoes.reserva.varredura-ms:60000}")
+    public void varrer() {
+        LocalDateTime agora = LocalDateTime.now();
+        int removidas = repository.removerExpiradas(agora);
+
+        Map<Long, Reserva> ativas = new HashMap<>();
+        for (ReservaSolicitacao r : repository.findAtivas(agora)) {
+            ativas.put(r.getSolicitacaoId(), paraReserva(r));
+        }
+
+        synchronized (this) {
+            porSolicitacao.clear();
+            porExpiracao.clear();
+            porSolicitacao.putAll(ativas);
+            porExpiracao.addAll(ativas.values());
+        }
+        carregado = true;
+        log.debug("Varredura de reservas: {} expiradas removidas, {} ativas", removidas, ativas.size());
+    }
+
+    private boolean inserir(Long solicitacaoId, Long advogadoId, LocalDateTime expiraEm) {
+        try {
+            return repository.inserir(solicitacaoId, advogadoId, expiraEm) == 1;
+        } catch (DataIntegrityViolationException e) {
+            // Outro advogado criou a reserva entre o UPDATE e o INSERT
+            return false;
+        }
+    }
+
+    private synchronized void indexar(Reserva reserva) {
+        removerVencidas(LocalDateTime.now());
+        Reserva anterior = porSolicitacao.put(reserva.solicitacaoId(), reserva);
+        if (anterior != null) {
+            porExpiracao.remove(anterior);
+        }
+        porExpiracao.add(reserva);
+    }
+
+    private synchronized void desindexar(Long solicitacaoId) {
+        Reserva anterior = porSolicitacao.remove(solicitacaoId);
+        if (anterior != null) {
+            porExpiracao.remove(anterior);
+        }
+    }
+
+    private void removerVencidas(LocalDateTime agora) {
+        while (!porExpiracao.isEmpty() && !porExpiracao.first().ativa(agora)) {
+            Reserva vencida = porExpiracao.pollFirst();
+            porSolicitacao.remove(vencida.solicitacaoId(), vencida);
+        }
+    }
+
+    private static Reserva paraReserva(ReservaSolicitacao r) {
+        return new Reserva(r.getSolicitacaoId(), r.getAdvogadoId(), r.getExpiraEm());
+    }
+}
@@ -0,0 +1,506 @@
+package com.jusconnect.backend.services.search;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.jusconnect.backend.models.Advogado;
+import com.jusconnect.backend.models.AreaAtuacao;
+import com.jusconnect.backend.repositories.AdvogadoRepository;
+import com.jusconnect.backend.repositories.projections.AdvogadoAreaProjection;
+import com.jusconnect.backend.repositories.projections.AdvogadoIndiceProjection;
+import com.jusconnect.backend.repositories.projections.AdvogadoNomeOrdenacaoProjection;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Índice invertido em memória para a busca de advogados.
+ *
+ * Mantém um snapshot imutável com os advogados ordenados por (nomeOrdenacao, id), uma lista de posições
+ * por id de área e as posições ordenadas por dataCadastro para o corte de tempo mínimo.
+ * Leituras não usam lock; cada alteração publica um novo snapshot (copy-on-write). Uma alteração
+ * aplica só a sua diferença ao snapshot anterior: inserção e remoção por busca binária nos arrays
+ * ordenados e deslocamento das posições nas listas, em tempo linear e sem reordenar o cadastro.
+ * A ordenação completa fica para a reconstrução.
+ *
+ * O índice é reconstruído do banco na inicialização e periodicamente, para absorver
+ * alterações feitas por outras instâncias.
+ *
+ * A ordem usa a mesma chave gravada em advogados.nome_ordenacao ({@link Advogado#chaveOrdenacao}),
+ * para que a consulta ao banco, usada enquanto o índice não está pronto, pagine na mesma ordem e
+ * os cursores de um caminho sirvam no outro.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdvogadoSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(AdvogadoSearchIndex.class);
+
+    private static final Comparator<Entrada> POR_NOME =
+            Comparator.comparing(Entrada::chave).thenComparingLong(Entrada::id);
+
+    public record Entrada(long id, String nome, String chave, long[] areas, LocalDateTime dataCadastro) {
+
+        Entrada(long id, String nome, long[] areas, LocalDateTime dataCadastro) {
+            this(id, nome, Advogado.chaveOrdenacao(nome), areas, dataCadastro);
+        }
+
+        boolean temAlguma(Set<Long> areasBuscadas) {
+            for (long area : areas) {
+                if (areasBuscadas.contains(area)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Contagens de facetas: advogados por id de área e por faixa de data de cadastro.
+     * A faixa i contém as datas em (limites[i], limites[i - 1]], sendo a faixa 0 a dos mais recentes.
+     */
+    public record Facetas(Map<Long, Integer> porArea, int[] porFaixa) {}
+
+    public record Pagina(List<Entrada> entradas, Facetas facetas) {}
+
+    private record Snapshot(Entrada[] porNome, Map<Long, int[]> posicoesPorArea,
+                            int[] posicoesPorData, LocalDateTime[] datasOrdenadas) {}
+
+    private final AdvogadoRepository advogadoRepository;
+
+    private final Map<Long, Entrada> entradas = new HashMap<>();
+    private volatile Snapshot snapshot;
+
+    // Alterações recebidas durante uma reconstrução, guardadas com o lock de "entradas" (valor null = remoção).
+    // O snapshot do banco pode ter sido lido antes delas; são reaplicadas sobre ele na troca.
+    private Map<Long, Entrada> alteracoesDuranteReconstrucao;
+    private final Object reconstrucao = new Object();
+
+    public boolean isPronto() {
+        return snapshot != null;
+    }
+
+    // Linhas gravadas antes de a coluna nome_ordenacao existir ou com a chave de uma regra anterior: sem a chave
+    // atual a consulta ao banco não as ordena como o índice
+    @PostConstruct
+    public void atualizarNomesOrdenacao() {
+        int atualizadas = 0;
+        for (AdvogadoNomeOrdenacaoProjection a : advogadoRepository.findAllNomesOrdenacao()) {
+            String chave = Advogado.chaveOrdenacao(a.getNome());
+            if (!chave.equals(a.getNomeOrdenacao())) {
+                advogadoRepository.atualizarNomeOrdenacao(a.getId(), chave);
+                atualizadas++;
+            }
+        }
+        if (atualizadas > 0) {
+            log.info("Chave de ordenação atualizada para {} advogados", atualizadas);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${advogados.indice.rebuild-interval-ms:300000}",
+               initialDelayString = "${advogados.indice.rebuild-interval-ms:300000}")
+    public void reconstruir() {
+        synchronized (reconstrucao) {
+            synchronized (entradas) {
+                alteracoesDuranteReconstrucao = new HashMap<>();
+            }
+            try {
+                List<AdvogadoIndiceProjection> advogados = advogadoRepository.findAllParaIndice();
+                Map<Long, long[]> areasPorAdvogado = advogadoRepository.findAllAreasParaIndice().stream()
+                        .collect(Collectors.groupingBy(AdvogadoAreaProjection::getAdvogadoId,
+                                Collectors.collectingAndThen(Collectors.toList(),
+                                        pares -> pares.stream().mapToLong(AdvogadoAreaProjection::getAreaId).toArray())));
+                synchronized (entradas) {
+                    entradas.clear();
+                    for (AdvogadoIndiceProjection a : advogados) {
+                        entradas.put(a.getId(), new Entrada(a.getId(), a.getNome(),
+                                areasPorAdvogado.getOrDefault(a.getId(), new long[0]), a.getDataCadastro()));
+                    }
+                    alteracoesDuranteReconstrucao.forEach((id, entrada) -> {
+                        if (entrada == null) {
+                            entradas.remove(id);
+                        } else {
+                            entradas.put(id, entrada);
+                        }
+                    });
+                    publicar();
+                }
+                log.debug("Índice de advogados reconstruído com {} registros", advogados.size());
+            } finally {
+                synchronized (entradas) {
+                    alteracoesDuranteReconstrucao = null;
+                }
+            }
+        }
+    }
+
+    public void atualizar(Advogado advogado) {
+        synchronized (entradas) {
+            long[] areas = advogado.getAreas().stream().mapToLong(AreaAtuacao::getId).toArray();
+            Entrada entrada = new Entrada(advogado.getId(), advogado.getNome(), areas, advogado.getDataCadastro());
+            Entrada anterior = entradas.put(advogado.getId(), entrada);
+            registrarDuranteReconstrucao(advogado.getId(), entrada);
+            aplicar(anterior, entrada);
+        }
+    }
+
+    public void remover(Long advogadoId) {
+        synchronized (entradas) {
+            registrarDuranteReconstrucao(advogadoId, null);
+            Entrada anterior = entradas.remove(advogadoId);
+            if (anterior != null) {
+                aplicar(anterior, null);
+            }
+        }
+    }
+
+    // Deve ser chamado com o lock de "entradas"
+    private void registrarDuranteReconstrucao(Long advogadoId, Entrada entrada) {
+        if (alteracoesDuranteReconstrucao != null) {
+            alteracoesDuranteReconstrucao.put(advogadoId, entrada);
+        }
+    }
+
+    /**
+     * Retorna até {@code limite} entradas em ordem de (nomeOrdenacao, id), posteriores ao cursor informado.
+     *
+     * @param areas ids das áreas aceitas (qualquer uma delas) ou vazio para todas
+     * @param corte data de cadastro máxima (inclusive) ou null para não filtrar
+     * @param cursorNome chave (ou nome) do último item da página anterior, ou null na primeira página
+     * @param cursorId id do último item da página anterior
+     */
+    public List<Entrada> buscar(Collection<Long> areas, LocalDateTime corte, String cursorNome, Long cursorId, int limite) {
+        Snapshot s = snapshot;
+        if (s == null || limite <= 0) {
+            return Collections.emptyList();
+        }
+
+        int inicio = cursorNome == null ? 0 : primeiraPosicaoApos(s.porNome(), cursorNome, cursorId);
+        Set<Long> areasBuscadas = areas == null || areas.isEmpty() ? null : Set.copyOf(areas);
+        int[] porArea = areasBuscadas == null ? null : uniao(s.posicoesPorArea(), areasBuscadas);
+        int elegiveisPorData = corte == null ? s.porNome().length : quantidadeAte(s.datasOrdenadas(), corte);
+        int candidatos = porArea == null ? s.porNome().length : porArea.length;
+
+        if (elegiveisPorData == 0 || candidatos == 0) {
+            return Collections.emptyList();
+        }
+
+        List<Entrada> resultado = new ArrayList<>(Math.min(limite, candidatos));
+
+        // Corte de tempo muito seletivo: parte das posições ordenadas por data e reordena por nome
+        if (elegiveisPorData < candidatos / 4) {
+            int[] posicoes = new int[elegiveisPorData];
+            int total = 0;
+            for (int i = 0; i < elegiveisPorData; i++) {
+                int p = s.posicoesPorData()[i];
+                if (p >= inicio && (areasBuscadas == null || s.porNome()[p].temAlguma(areasBuscadas))) {
+                    posicoes[total++] = p;
+                }
+            }
+            Arrays.sort(posicoes, 0, total);
+            for (int i = 0; i < total && resultado.size() < limite; i++) {
+                resultado.add(s.porNome()[posicoes[i]]);
+            }
+            return resultado;
+        }
+
+        if (porArea == null) {
+            for (int p = inicio; p < s.porNome().length && resultado.size() < limite; p++) {
+                adicionarSeElegivel(resultado, s.porNome()[p], corte);
+            }
+        } else {
+            int i = Arrays.binarySearch(porArea, inicio);
+            for (i = i >= 0 ? i : -i - 1; i < porArea.length && resultado.size() < limite; i++) {
+                adicionarSeElegivel(resultado, s.porNome()[porArea[i]], corte);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Monta a página como {@link #buscar} e conta as facetas no mesmo percurso, sobre o mesmo snapshot:
+     * itens e contagens refletem sempre o mesmo estado do índice. O percurso passa por todo o cadastro,
+     * já que as contagens não dependem do cursor; sem facetas, use {@link #buscar}, que para no limite.
+     *
+     * Cada faceta ignora o próprio filtro: as áreas respeitam apenas o corte de tempo e as faixas
+     * respeitam apenas as áreas, para que o cliente veja as alternativas de cada filtro.
+     *
+     * @param limites datas de corte das faixas, da mais recente para a mais antiga
+     */
+    public Pagina buscarComFacetas(Collection<Long> areas, LocalDateTime corte, String cursorNome, Long cursorId,
+                                   int limite, LocalDateTime[] limites) {
+        Snapshot s = snapshot;
+        int[] porFaixa = new int[limites.length + 1];
+        if (s == null) {
+            return new Pagina(Collections.emptyList(), new Facetas(Map.of(), porFaixa));
+        }
+
+        int inicio = cursorNome == null ? 0 : primeiraPosicaoApos(s.porNome(), cursorNome, cursorId);
+        Set<Long> areasBuscadas = areas == null || areas.isEmpty() ? null : Set.copyOf(areas);
+        Map<Long, Integer> porArea = new HashMap<>();
+        List<Entrada> resultado = new ArrayList<>(Math.max(limite, 0));
+
+        for (int p = 0; p < s.porNome().length; p++) {
+            Entrada entrada = s.porNome()[p];
+            LocalDateTime data = entrada.dataCadastro();
+            boolean dentroDoCorte = corte == null || (data != null && !data.isAfter(corte));
+            boolean dasAreas = areasBuscadas == null || entrada.temAlguma(areasBuscadas);
+
+            if (dentroDoCorte) {
+                for (long area : entrada.areas()) {
+                    porArea.merge(area, 1, Integer::sum);
+                }
+            }
+            if (dasAreas && data != null) {
+                int faixa = 0;
+                while (faixa < limites.length && !data.isAfter(limites[faixa])) {
+                    faixa++;
+                }
+                porFaixa[faixa]++;
+            }
+            if (dentroDoCorte && dasAreas && p >= inicio && resultado.size() < limite) {
+                resultado.add(entrada);
+            }
+        }
+        return new Pagina(resultado, new Facetas(porArea, porFaixa));
+    }
+
+    private static void adicionarSeElegivel(List<Entrada> resultado, Entrada entrada, LocalDateTime corte) {
+        if (corte == null || (entrada.dataCadastro() != null && !entrada.dataCadastro().isAfter(corte))) {
+            resultado.add(entrada);
+        }
+    }
+
+    // Deve ser chamado com o lock de "entradas"
+    private void publicar() {
+        Entrada[] porNome = entradas.values().toArray(new Entrada[0]);
+        Arrays.sort(porNome, POR_NOME);
+
+        Map<Long, List<Integer>> listas = new HashMap<>();
+        List<Integer> comData = new ArrayList<>(porNome.length);
+        for (int p = 0; p < porNome.length; p++) {
+            for (long area : porNome[p].areas()) {
+                listas.computeIfAbsent(area, k -> new ArrayList<>()).add(p);
+            }
+            if (porNome[p].dataCadastro() != null) {
+                comData.add(p);
+            }
+        }
+
+        Map<Long, int[]> posicoesPorArea = new HashMap<>();
+        listas.forEach((area, posicoes) ->
+                posicoesPorArea.put(area, posicoes.stream().mapToInt(Integer::intValue).toArray()));
+
+        comData.sort(Comparator.comparing((Integer p) -> porNome[p].dataCadastro()).thenComparingInt(p -> p));
+        int[] posicoesPorData = comData.stream().mapToInt(Integer::intValue).toArray();
+        LocalDateTime[] datasOrdenadas = new LocalDateTime[posicoesPorData.length];
+        for (int i = 0; i < posicoesPorData.length; i++) {
+            datasOrdenadas[i] = porNome[posicoesPorData[i]].dataCadastro();
+        }
+
+        snapshot = new Snapshot(porNome, posicoesPorArea, posicoesPorData, datasOrdenadas);
+    }
+
+    // Deve ser chamado com o lock de "entradas". Antes da primeira reconstrução não há o que atualizar:
+    // ela lerá do banco o que já foi confirmado.
+    private void aplicar(Entrada anterior, Entrada nova) {
+        Snapshot s = snapshot;
+        if (s == null) {
+            return;
+        }
+        if (anterior != null) {
+            s = semEntrada(s, anterior);
+        }
+        if (nova != null) {
+            s = comEntrada(s, nova);
+        }
+        snapshot = s;
+    }
+
+    private static Snapshot semEntrada(Snapshot s, Entrada entrada) {
+        int r = Arrays.binarySearch(s.porNome(), entrada, POR_NOME);
+        if (r < 0) {
+            return s;
+        }
+        Entrada[] porNome = removerEm(s.porNome(), r);
+
+        Map<Long, int[]> posicoesPorArea = new HashMap<>();
+        s.posicoesPorArea().forEach((area, posicoes) -> {
+            int[] ajustadas = semPosicao(posicoes, r);
+            if (ajustadas.length > 0) {
+                posicoesPorArea.put(area, ajustadas);
+            }
+        });
+
+        int[] posicoesPorData = semPosicao(s.posicoesPorData(), r);
+        LocalDateTime[] datasOrdenadas = s.datasOrdenadas();
+        if (entrada.dataCadastro() != null) {
+            datasOrdenadas = removerEm(datasOrdenadas,
+                    posicaoPorData(s.posicoesPorData(), datasOrdenadas, entrada.dataCadastro(), r));
+        }
+        return new Snapshot(porNome, posicoesPorArea, posicoesPorData, datasOrdenadas);
+    }
+
+    private static Snapshot comEntrada(Snapshot s, Entrada entrada) {
+        int i = -Arrays.binarySearch(s.porNome(), entrada, POR_NOME) - 1;
+        Entrada[] porNome = inserirEm(s.porNome(), i, entrada);
+
+        Map<Long, int[]> posicoesPorArea = new HashMap<>();
+        s.posicoesPorArea().forEach((area, posicoes) -> posicoesPorArea.put(area, abrirPosicao(posicoes, i)));
+        for (long area : entrada.areas()) {
+            int[] posicoes = posicoesPorArea.getOrDefault(area, new int[0]);
+            posicoesPorArea.put(area, inserirEm(posicoes, -Arrays.binarySearch(posicoes, i) - 1, i));
+        }
+
+        int[] posicoesPorData = abrirPosicao(s.posicoesPorData(), i);
+        LocalDateTime[] datasOrdenadas = s.datasOrdenadas();
+        if (entrada.dataCadastro() != null) {
+            int k = posicaoPorData(posicoesPorData, datasOrdenadas, entrada.dataCadastro(), i);
+            posicoesPorData = inserirEm(posicoesPorData, k, i);
+            datasOrdenadas = inserirEm(datasOrdenadas, k, entrada.dataCadastro());
+        }
+        return new Snapshot(porNome, posicoesPorArea, posicoesPorData, datasOrdenadas);
+    }
+
+    // Índice de (data, posição) na ordem por data e posição: onde está, ou onde deve entrar
+    private static int posicaoPorData(int[] posicoesPorData, LocalDateTime[] datas, LocalDateTime data, int posicao) {
+        int baixo = 0;
+        int alto = datas.length;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            int comparacao = datas[meio].compareTo(data);
+            if (comparacao < 0 || (comparacao == 0 && posicoesPorData[meio] < posicao)) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        return baixo;
+    }
+
+    // Retira a posição removida e recua as seguintes; listas sem posições afetadas são reaproveitadas
+    private static int[] semPosicao(int[] posicoes, int removida) {
+        int afetadas = 0;
+        for (int p : posicoes) {
+            if (p >= removida) {
+                afetadas++;
+            }
+        }
+        if (afetadas == 0) {
+            return posicoes;
+        }
+        int[] resultado = new int[posicoes.length];
+        int k = 0;
+        for (int p : posicoes) {
+            if (p != removida) {
+                resultado[k++] = p > removida ? p - 1 : p;
+            }
+        }
+        return k == resultado.length ? resultado : Arrays.copyOf(resultado, k);
+    }
+
+    // Avança as posições a partir da inserida, abrindo espaço para ela
+    private static int[] abrirPosicao(int[] posicoes, int inserida) {
+        int[] resultado = null;
+        for (int k = 0; k < posicoes.length; k++) {
+            if (posicoes[k] >= inserida) {
+                if (resultado == null) {
+                    resultado = posicoes.clone();
+                }
+                resultado[k]++;
+            }
+        }
+        return resultado == null ? posicoes : resultado;
+    }
+
+    private static int[] inserirEm(int[] valores, int indice, int valor) {
+        int[] resultado = new int[valores.length + 1];
+        System.arraycopy(valores, 0, resultado, 0, indice);
+        resultado[indice] = valor;
+        System.arraycopy(valores, indice, resultado, indice + 1, valores.length - indice);
+        return resultado;
+    }
+
+    private static <T> T[] inserirEm(T[] valores, int indice, T valor) {
+        T[] resultado = Arrays.copyOf(valores, valores.length + 1);
+        System.arraycopy(valores, indice, resultado, indice + 1, valores.length - indice);
+        resultado[indice] = valor;
+        return resultado;
+    }
+
+    private static <T> T[] removerEm(T[] valores, int indice) {
+        T[] resultado = Arrays.copyOf(valores, valores.length - 1);
+        System.arraycopy(valores, indice + 1, resultado, indice, valores.length - indice - 1);
+        return resultado;
+    }
+
+    // União ordenada e sem repetição das listas de posições das áreas pedidas
+    private static int[] uniao(Map<Long, int[]> posicoesPorArea, Set<Long> areas) {
+        int[] resultado = new int[0];
+        for (Long area : areas) {
+            int[] lista = posicoesPorArea.get(area);
+            if (lista == null) {
+                continue;
+            }
+            if (resultado.length == 0) {
+                resultado = lista;
+                continue;
+            }
+            int[] mescla = new int[resultado.length + lista.length];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < resultado.length || j < lista.length) {
+                int proximo;
+                if (j >= lista.length || (i < resultado.length && resultado[i] <= lista[j])) {
+                    proximo = resultado[i++];
+                } else {
+                    proximo = lista[j++];
+                }
+                if (k == 0 || mescla[k - 1] != proximo) {
+                    mescla[k++] = proximo;
+                }
+            }
+            resultado = Arrays.copyOf(mescla, k);
+        }
+        return resultado;
+    }
+
+    private static int primeiraPosicaoApos(Entrada[] porNome, String nome, Long id) {
+        Entrada chave = new Entrada(id == null ? Long.MAX_VALUE : id, nome, Advogado.chaveOrdenacao(nome), null, null);
+        int i = Arrays.binarySearch(porNome, chave, POR_NOME);
+        return i >= 0 ? i + 1 : -i - 1;
+    }
+
+    // Quantidade de datas <= corte (limite superior da busca binária)
+    private static int quantidadeAte(LocalDateTime[] datas, LocalDateTime corte) {
+        int baixo = 0;
+        int alto = datas.length;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (datas[meio].isAfter(corte)) {
+                alto = meio;
+            } else {
+                baixo = meio + 1;
+            }
+        }
+        return baixo;
+    }
+}
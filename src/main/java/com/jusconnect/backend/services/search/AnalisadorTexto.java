@@ -0,0 +1,60 @@
+package com.jusconnect.backend.services.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Quebra textos em termos para o índice textual em memória: minúsculas, sem acentos,
+ * sem stop words e com uma redução simples de plural do português.
+ */
+final class AnalisadorTexto {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "o", "as", "os", "um", "uma", "uns", "umas", "de", "do", "da", "dos", "das",
+            "em", "no", "na", "nos", "nas", "por", "para", "pra", "com", "sem", "e", "ou",
+            "que", "se", "ao", "aos", "me", "sou", "ha", "mais", "meu", "minha");
+
+    private AnalisadorTexto() {
+    }
+
+    static List<String> termos(String texto) {
+        List<String> termos = new ArrayList<>();
+        if (texto == null || texto.isBlank()) {
+            return termos;
+        }
+
+        String normalizado = Normalizer.normalize(texto, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+
+        for (String palavra : normalizado.split("[^\\p{L}\\p{N}]+")) {
+            if (palavra.length() > 1 && !STOP_WORDS.contains(palavra)) {
+                termos.add(reduzir(palavra));
+            }
+        }
+        return termos;
+    }
+
+    // Reduz o plural para o singular nos casos regulares (ações -> acao, civis -> civil, contratos -> contrato)
+    private static String reduzir(String palavra) {
+        if (palavra.length() <= 3) {
+            return palavra;
+        }
+        if (palavra.endsWith("oes") || palavra.endsWith("aes")) {
+            return palavra.substring(0, palavra.length() - 3) + "ao";
+        }
+        if (palavra.endsWith("ais")) {
+            return palavra.substring(0, palavra.length() - 2) + "l";
+        }
+        if (palavra.endsWith("is") && palavra.length() > 4) {
+            return palavra.substring(0, palavra.length() - 1) + "l";
+        }
+        if (palavra.endsWith("s") && !palavra.endsWith("ss")) {
+            return palavra.substring(0, palavra.length() - 1);
+        }
+        return palavra;
+    }
+}
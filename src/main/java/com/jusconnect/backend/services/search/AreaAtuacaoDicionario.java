@@ -0,0 +1,160 @@
+package com.jusconnect.backend.services.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jusconnect.backend.models.AreaAtuacao;
+import com.jusconnect.backend.repositories.AdvogadoRepository;
+import com.jusconnect.backend.repositories.AreaAtuacaoRepository;
+import com.jusconnect.backend.repositories.projections.AdvogadoIndiceProjection;
+
+/**
+ * Dicionário em memória das áreas de atuação canônicas.
+ *
+ * Resolve um nome livre ("Trabalhista", "trabalhista ") para uma única área pelo nome normalizado,
+ * criando a área na primeira ocorrência. Os nomes ficam internados, então todas as referências
+ * a uma área compartilham a mesma String.
+ *
+ * A área nova é gravada numa transação própria, fora do mapa: só entra no dicionário um id já
+ * confirmado no banco, mesmo que a transação de quem pediu a área seja desfeita depois.
+ */
+@Component
+public class AreaAtuacaoDicionario {
+
+    private static final Logger log = LoggerFactory.getLogger(AreaAtuacaoDicionario.class);
+
+    public record Area(Long id, String nome) {}
+
+    private final AreaAtuacaoRepository areaAtuacaoRepository;
+    private final AdvogadoRepository advogadoRepository;
+    private final TransactionTemplate novaTransacao;
+
+    private final Map<String, Area> porNomeNormalizado = new ConcurrentHashMap<>();
+    private final Map<Long, Area> porId = new ConcurrentHashMap<>();
+
+    public AreaAtuacaoDicionario(AreaAtuacaoRepository areaAtuacaoRepository,
+                                 AdvogadoRepository advogadoRepository,
+                                 TransactionTemplate transactionTemplate) {
+        this.areaAtuacaoRepository = areaAtuacaoRepository;
+        this.advogadoRepository = advogadoRepository;
+        this.novaTransacao = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.novaTransacao.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Carrega o dicionário e migra advogados que ainda não têm áreas associadas, a partir do texto livre
+     * de area_de_atuacao. Roda antes da carga dos índices de busca.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void carregarEMigrar() {
+        areaAtuacaoRepository.findAll().forEach(this::registrar);
+
+        List<AdvogadoIndiceProjection> semAreas = advogadoRepository.findAllSemAreas();
+        for (AdvogadoIndiceProjection advogado : semAreas) {
+            List<Area> areas = resolver(List.of(advogado.getAreaDeAtuacao()));
+            if (areas.isEmpty()) {
+                continue;
+            }
+            advogadoRepository.vincularArea(advogado.getId(), areas.get(0).id());
+            advogadoRepository.atualizarRotuloArea(advogado.getId(), rotulo(areas));
+        }
+        if (!semAreas.isEmpty()) {
+            log.info("Áreas de atuação migradas para {} advogados", semAreas.size());
+        }
+    }
+
+    // Área existente pelo nome, sem criar (usada nos filtros de busca)
+    public Area buscar(String nome) {
+        String chave = AreaAtuacao.normalizar(nome);
+        if (chave == null) {
+            return null;
+        }
+        Area area = porNomeNormalizado.get(chave);
+        if (area == null) {
+            // Pode ter sido criada por outra instância depois da carga
+            area = areaAtuacaoRepository.findByNomeNormalizado(chave)
+                    .map(AreaAtuacaoDicionario::paraArea)
+                    .map(encontrada -> guardar(chave, encontrada))
+                    .orElse(null);
+        }
+        return area;
+    }
+
+    public Area buscarPorId(Long id) {
+        return porId.get(id);
+    }
+
+    // Resolve os nomes para áreas canônicas, criando as que não existem; ignora vazios e repetidos
+    public List<Area> resolver(Collection<String> nomes) {
+        Map<String, Area> resolvidas = new LinkedHashMap<>();
+        for (String nome : nomes) {
+            String chave = AreaAtuacao.normalizar(nome);
+            if (chave != null && !resolvidas.containsKey(chave)) {
+                Area area = porNomeNormalizado.get(chave);
+                if (area == null) {
+                    // Consulta e INSERT fora do mapa, para não segurar o lock do ConcurrentHashMap durante I/O
+                    area = guardar(chave, areaAtuacaoRepository.findByNomeNormalizado(chave)
+                            .map(AreaAtuacaoDicionario::paraArea)
+                            .orElseGet(() -> criar(nome.trim().replaceAll("\\s+", " "), chave)));
+                }
+                resolvidas.put(chave, area);
+            }
+        }
+        return new ArrayList<>(resolvidas.values());
+    }
+
+    public static String rotulo(List<Area> areas) {
+        return areas.stream().map(Area::nome).collect(Collectors.joining(", "));
+    }
+
+    private Area criar(String nome, String nomeNormalizado) {
+        try {
+            return novaTransacao.execute(status -> paraArea(areaAtuacaoRepository.saveAndFlush(AreaAtuacao.builder()
+                    .nome(nome)
+                    .nomeNormalizado(nomeNormalizado)
+                    .build())));
+        } catch (DataIntegrityViolationException e) {
+            // Outra instância criou a mesma área em paralelo
+            return areaAtuacaoRepository.findByNomeNormalizado(nomeNormalizado)
+                    .map(AreaAtuacaoDicionario::paraArea)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    // Quem chegou primeiro ao mapa vence; as demais threads passam a usar a mesma instância
+    private Area guardar(String chave, Area area) {
+        Area existente = porNomeNormalizado.putIfAbsent(chave.intern(), area);
+        if (existente != null) {
+            return existente;
+        }
+        porId.putIfAbsent(area.id(), area);
+        return area;
+    }
+
+    private void registrar(AreaAtuacao area) {
+        Area canonica = paraArea(area);
+        porNomeNormalizado.put(area.getNomeNormalizado().intern(), canonica);
+        porId.put(canonica.id(), canonica);
+    }
+
+    private static Area paraArea(AreaAtuacao area) {
+        return new Area(area.getId(), area.getNome().intern());
+    }
+}
@@ -0,0 +1,28 @@
+package com.jusconnect.backend.services.search;
+
+import java.util.List;
+
+import com.jusconnect.backend.models.Advogado;
+
+/**
+ * Busca textual ranqueada sobre nome, área de atuação e autodescrição dos advogados.
+ * A implementação depende do banco: tsvector + GIN no PostgreSQL ou índice invertido em memória no H2
+ * (propriedade advogados.busca-textual.modo).
+ */
+public interface BuscaTextualAdvogados {
+
+    record Resultado(long id, double relevancia) {}
+
+    /**
+     * Retorna até {@code limite} resultados por relevância decrescente e id crescente,
+     * posteriores ao par (cursorRelevancia, cursorId) quando informado.
+     */
+    List<Resultado> buscar(String consulta, Double cursorRelevancia, Long cursorId, int limite);
+
+    // Implementações mantidas pelo próprio banco não precisam ser avisadas das alterações
+    default void indexar(Advogado advogado) {
+    }
+
+    default void remover(Long advogadoId) {
+    }
+}
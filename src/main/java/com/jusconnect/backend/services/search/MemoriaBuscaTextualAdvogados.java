@@ -0,0 +1,219 @@
+package com.jusconnect.backend.services.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.jusconnect.backend.models.Advogado;
+import com.jusconnect.backend.repositories.AdvogadoRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Índice invertido em memória usado quando o banco não oferece busca textual (perfil H2).
+ *
+ * Cada termo aponta para os advogados que o contêm, com a frequência ponderada pelo campo
+ * (nome 3, área 2, autodescrição 1). A consulta exige todos os termos e percorre apenas a menor
+ * lista de postagens; a relevância é a soma de frequência ponderada × idf.
+ *
+ * A reconstrução monta os mapas novos fora do lock, a partir do banco, e só os troca pelos atuais
+ * sob o lock de escrita. Indexações e remoções recebidas enquanto ela lia o banco são registradas
+ * e reaplicadas sobre os mapas novos antes da troca, como em {@link AdvogadoSearchIndex}.
+ */
+@Component
+@ConditionalOnProperty(name = "advogados.busca-textual.modo", havingValue = "memoria", matchIfMissing = true)
+@RequiredArgsConstructor
+public class MemoriaBuscaTextualAdvogados implements BuscaTextualAdvogados {
+
+    private static final double PESO_NOME = 3.0;
+    private static final double PESO_AREA = 2.0;
+    private static final double PESO_AUTODESCRICAO = 1.0;
+
+    private static final Comparator<Resultado> POR_RELEVANCIA =
+            Comparator.comparingDouble(Resultado::relevancia).reversed().thenComparingLong(Resultado::id);
+
+    private final AdvogadoRepository advogadoRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, Map<Long, Double>> postagens = new HashMap<>();
+    private Map<Long, Set<String>> termosPorAdvogado = new HashMap<>();
+
+    // Alterações recebidas durante uma reconstrução, guardadas com o lock de escrita (valor null = remoção).
+    // A leitura do banco pode ter acontecido antes delas; são reaplicadas sobre os mapas novos na troca.
+    private Map<Long, Map<String, Double>> alteracoesDuranteReconstrucao;
+    private final Object reconstrucao = new Object();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${advogados.indice.rebuild-interval-ms:300000}",
+               initialDelayString = "${advogados.indice.rebuild-interval-ms:300000}")
+    public void reconstruir() {
+        synchronized (reconstrucao) {
+            lock.writeLock().lock();
+            try {
+                alteracoesDuranteReconstrucao = new HashMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            try {
+                Map<String, Map<Long, Double>> novasPostagens = new HashMap<>();
+                Map<Long, Set<String>> novosTermos = new HashMap<>();
+                for (Advogado advogado : advogadoRepository.findAll()) {
+                    indexarEm(novasPostagens, novosTermos, advogado.getId(), frequencias(advogado));
+                }
+
+                lock.writeLock().lock();
+                try {
+                    alteracoesDuranteReconstrucao.forEach((id, frequencias) -> {
+                        removerDe(novasPostagens, novosTermos, id);
+                        if (frequencias != null) {
+                            indexarEm(novasPostagens, novosTermos, id, frequencias);
+                        }
+                    });
+                    postagens = novasPostagens;
+                    termosPorAdvogado = novosTermos;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    alteracoesDuranteReconstrucao = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void indexar(Advogado advogado) {
+        Map<String, Double> frequencias = frequencias(advogado);
+        lock.writeLock().lock();
+        try {
+            registrarDuranteReconstrucao(advogado.getId(), frequencias);
+            removerDe(postagens, termosPorAdvogado, advogado.getId());
+            indexarEm(postagens, termosPorAdvogado, advogado.getId(), frequencias);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remover(Long advogadoId) {
+        lock.writeLock().lock();
+        try {
+            registrarDuranteReconstrucao(advogadoId, null);
+            removerDe(postagens, termosPorAdvogado, advogadoId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Deve ser chamado com o lock de escrita
+    private void registrarDuranteReconstrucao(Long advogadoId, Map<String, Double> frequencias) {
+        if (alteracoesDuranteReconstrucao != null) {
+            alteracoesDuranteReconstrucao.put(advogadoId, frequencias);
+        }
+    }
+
+    @Override
+    public List<Resultado> buscar(String consulta, Double cursorRelevancia, Long cursorId, int limite) {
+        Set<String> termos = new LinkedHashSet<>(AnalisadorTexto.termos(consulta));
+        if (termos.isEmpty() || limite <= 0) {
+            return Collections.emptyList();
+        }
+
+        List<Resultado> resultados = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Double>> listas = new ArrayList<>(termos.size());
+            List<Double> idfs = new ArrayList<>(termos.size());
+            int total = termosPorAdvogado.size();
+            for (String termo : termos) {
+                Map<Long, Double> lista = postagens.get(termo);
+                if (lista == null) {
+                    return Collections.emptyList();
+                }
+                listas.add(lista);
+                idfs.add(Math.log(1.0 + (double) total / lista.size()));
+            }
+
+            Map<Long, Double> menor = listas.stream().min(Comparator.comparingInt(Map::size)).get();
+            for (Long id : menor.keySet()) {
+                double relevancia = 0;
+                boolean contemTodos = true;
+                for (int i = 0; i < listas.size() && contemTodos; i++) {
+                    Double frequencia = listas.get(i).get(id);
+                    if (frequencia == null) {
+                        contemTodos = false;
+                    } else {
+                        relevancia += frequencia * idfs.get(i);
+                    }
+                }
+                if (contemTodos && aposCursor(relevancia, id, cursorRelevancia, cursorId)) {
+                    resultados.add(new Resultado(id, relevancia));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        resultados.sort(POR_RELEVANCIA);
+        return resultados.size() > limite ? new ArrayList<>(resultados.subList(0, limite)) : resultados;
+    }
+
+    private static boolean aposCursor(double relevancia, long id, Double cursorRelevancia, Long cursorId) {
+        if (cursorRelevancia == null) {
+            return true;
+        }
+        int comparacao = Double.compare(relevancia, cursorRelevancia);
+        return comparacao < 0 || (comparacao == 0 && cursorId != null && id > cursorId);
+    }
+
+    // Frequência ponderada de cada termo do advogado
+    private static Map<String, Double> frequencias(Advogado advogado) {
+        Map<String, Double> frequencias = new HashMap<>();
+        AnalisadorTexto.termos(advogado.getNome()).forEach(t -> frequencias.merge(t, PESO_NOME, Double::sum));
+        AnalisadorTexto.termos(advogado.getArea_de_atuacao()).forEach(t -> frequencias.merge(t, PESO_AREA, Double::sum));
+        AnalisadorTexto.termos(advogado.getAutodescricao())
+                .forEach(t -> frequencias.merge(t, PESO_AUTODESCRICAO, Double::sum));
+        return frequencias;
+    }
+
+    private static void indexarEm(Map<String, Map<Long, Double>> postagens, Map<Long, Set<String>> termosPorAdvogado,
+                                  Long advogadoId, Map<String, Double> frequencias) {
+        frequencias.forEach((termo, frequencia) ->
+                postagens.computeIfAbsent(termo, k -> new HashMap<>()).put(advogadoId, frequencia));
+        termosPorAdvogado.put(advogadoId, frequencias.keySet());
+    }
+
+    private static void removerDe(Map<String, Map<Long, Double>> postagens, Map<Long, Set<String>> termosPorAdvogado,
+                                  Long advogadoId) {
+        Set<String> termos = termosPorAdvogado.remove(advogadoId);
+        if (termos == null) {
+            return;
+        }
+        for (String termo : termos) {
+            Map<Long, Double> lista = postagens.get(termo);
+            if (lista != null) {
+                lista.remove(advogadoId);
+                if (lista.isEmpty()) {
+                    postagens.remove(termo);
+                }
+            }
+        }
+    }
+}
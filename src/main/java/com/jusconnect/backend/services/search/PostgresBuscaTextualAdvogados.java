@@ -0,0 +1,53 @@
+package com.jusconnect.backend.services.search;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.jusconnect.backend.repositories.AdvogadoBuscaTextualRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Busca textual no PostgreSQL com a configuração de stemming portuguese.
+ * O vetor é uma coluna gerada (nome com peso A, área B, autodescrição C), sempre consistente com a linha,
+ * e o índice GIN evita varrer a tabela inteira.
+ */
+@Component
+@ConditionalOnProperty(name = "advogados.busca-textual.modo", havingValue = "postgres")
+@RequiredArgsConstructor
+public class PostgresBuscaTextualAdvogados implements BuscaTextualAdvogados {
+
+    private final AdvogadoBuscaTextualRepository buscaTextualRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // O ddl-auto não conhece colunas geradas nem índices GIN, então eles são criados aqui de forma idempotente
+    @EventListener(ApplicationReadyEvent.class)
+    public void criarEstrutura() {
+        jdbcTemplate.execute("""
+                ALTER TABLE advogados ADD COLUMN IF NOT EXISTS busca_textual tsvector
+                GENERATED ALWAYS AS (
+                    setweight(to_tsvector('portuguese', coalesce(nome, '')), 'A') ||
+                    setweight(to_tsvector('portuguese', coalesce(area_de_atuacao, '')), 'B') ||
+                    setweight(to_tsvector('portuguese', coalesce(autodescricao, '')), 'C')
+                ) STORED
+                """);
+        jdbcTemplate.execute(
+                "CREATE INDEX IF NOT EXISTS idx_advogados_busca_textual ON advogados USING GIN (busca_textual)");
+    }
+
+    @Override
+    public List<Resultado> buscar(String consulta, Double cursorRelevancia, Long cursorId, int limite) {
+        return (cursorRelevancia == null
+                ? buscaTextualRepository.buscar(consulta, limite)
+                : buscaTextualRepository.buscarAposCursor(consulta, cursorRelevancia, cursorId, limite))
+            .stream()
+            .map(r -> new Resultado(r.getId(), r.getRelevancia()))
+            .collect(Collectors.toList());
+    }
+}
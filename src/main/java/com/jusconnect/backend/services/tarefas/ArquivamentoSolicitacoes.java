@@ -0,0 +1,145 @@
+package com.jusconnect.backend.services.tarefas;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.jusconnect.backend.enums.StatusSolicitacao;
+import com.jusconnect.backend.repositories.SolicitacaoRepository;
+import com.jusconnect.backend.repositories.projections.SolicitacaoEstadoProjection;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Move as solicitações encerradas antigas para solicitacoes_historico, mantendo a tabela principal e
+ * os índices das caixas pequenos. Recusadas, canceladas e expiradas saem depois de dias-encerradas;
+ * aceitas, que o cliente e o advogado ainda consultam por mais tempo, depois de dias-aceitas.
+ * Lotes limitados, cada um copiado e apagado numa transação curta, sob a trava "arquivamento-solicitacoes",
+ * renovada antes de cada lote; se ela for perdida, a execução para e a instância que a assumiu continua.
+ */
+@Component
+public class ArquivamentoSolicitacoes implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ArquivamentoSolicitacoes.class);
+
+    static final String TAREFA = "arquivamento-solicitacoes";
+
+    private static final Set<StatusSolicitacao> ENCERRADAS =
+            EnumSet.of(StatusSolicitacao.RECUSADA, StatusSolicitacao.CANCELADA, StatusSolicitacao.EXPIRADA);
+
+    private record Resultado(int movidas, boolean travaPerdida) {}
+
+    private final SolicitacaoRepository solicitacaoRepository;
+    private final TravasTarefas travasTarefas;
+    private final Duration idadeEncerradas;
+    private final Duration idadeAceitas;
+    private final int tamanhoLote;
+    private final Duration duracaoTrava;
+
+    private final AtomicLong arquivadas = new AtomicLong();
+    private volatile DistributionSummary arquivadasPorExecucao;
+
+    public ArquivamentoSolicitacoes(SolicitacaoRepository solicitacaoRepository,
+                                    TravasTarefas travasTarefas,
+                                    @Value("${solicitacoes.arquivamento.dias-encerradas:90}") long diasEncerradas,
+                                    @Value("${solicitacoes.arquivamento.dias-aceitas:365}") long diasAceitas,
+                                    @Value("${solicitacoes.arquivamento.tamanho-lote:500}") int tamanhoLote,
+                                    @Value("${solicitacoes.arquivamento.trava-segundos:300}") long travaSegundos) {
+        this.solicitacaoRepository = solicitacaoRepository;
+        this.travasTarefas = travasTarefas;
+        this.idadeEncerradas = Duration.ofDays(diasEncerradas);
+        this.idadeAceitas = Duration.ofDays(diasAceitas);
+        this.tamanhoLote = tamanhoLote;
+        this.duracaoTrava = Duration.ofSeconds(travaSegundos);
+    }
+
+    @Scheduled(fixedDelayString = "${solicitacoes.arquivamento.intervalo-ms:21600000}",
+            initialDelayString = "${solicitacoes.arquivamento.intervalo-ms:21600000}")
+    public void executar() {
+        arquivar();
+    }
+
+    /**
+     * Arquiva as encerradas e aceitas mais antigas que as idades configuradas. Retorna quantas foram movidas.
+     * Não faz nada se outra instância detém a trava.
+     */
+    public int arquivar() {
+        LocalDateTime agora = LocalDateTime.now();
+        int total = 0;
+        try {
+            for (StatusSolicitacao status : ENCERRADAS) {
+                Resultado resultado = arquivar(status, agora.minus(idadeEncerradas));
+                total += resultado.movidas();
+                if (resultado.travaPerdida()) {
+                    return registrar(total);
+                }
+            }
+            total += arquivar(StatusSolicitacao.ACEITA, agora.minus(idadeAceitas)).movidas();
+            return registrar(total);
+        } finally {
+            // Só remove a trava se ela ainda for desta instância
+            travasTarefas.liberar(TAREFA);
+        }
+    }
+
+    private int registrar(int total) {
+        arquivadas.addAndGet(total);
+        if (arquivadasPorExecucao != null) {
+            arquivadasPorExecucao.record(total);
+        }
+        if (total > 0) {
+            log.info("Arquivamento de solicitações: {} movidas para o histórico", total);
+        }
+        return total;
+    }
+
+    private Resultado arquivar(StatusSolicitacao status, LocalDateTime limite) {
+        int total = 0;
+        while (true) {
+            // Adquire ou renova antes do lote: sem a trava, outra instância pode estar movendo as mesmas linhas
+            if (!travasTarefas.adquirir(TAREFA, duracaoTrava)) {
+                if (total > 0) {
+                    log.info("Arquivamento de solicitações interrompido: trava assumida por outra instância");
+                }
+                return new Resultado(total, true);
+            }
+            // Usa o mesmo índice (status, data_criacao, id) da expiração
+            List<Long> ids = solicitacaoRepository
+                    .findEstadosCriadosAntes(status, limite, Limit.of(tamanhoLote)).stream()
+                    .map(SolicitacaoEstadoProjection::getId)
+                    .collect(Collectors.toList());
+            if (ids.isEmpty()) {
+                return new Resultado(total, false);
+            }
+            total += solicitacaoRepository.arquivar(ids, status, LocalDateTime.now());
+
+            if (ids.size() < tamanhoLote) {
+                return new Resultado(total, false);
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        arquivadasPorExecucao = DistributionSummary.builder("solicitacoes.arquivamento.por-execucao")
+                .description("Solicitações movidas para o histórico em cada execução da tarefa")
+                .register(registry);
+        FunctionCounter.builder("solicitacoes.arquivamento.arquivadas", arquivadas, AtomicLong::get)
+                .description("Solicitações movidas para o histórico por esta instância")
+                .register(registry);
+    }
+}
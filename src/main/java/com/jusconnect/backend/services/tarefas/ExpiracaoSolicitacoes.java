@@ -0,0 +1,225 @@
+package com.jusconnect.backend.services.tarefas;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jusconnect.backend.enums.StatusSolicitacao;
+import com.jusconnect.backend.repositories.SolicitacaoRepository;
+import com.jusconnect.backend.repositories.projections.SolicitacaoEstadoProjection;
+import com.jusconnect.backend.services.eventos.CanalSolicitacoesPublicas;
+import com.jusconnect.backend.services.eventos.EventoSolicitacaoPublica;
+import com.jusconnect.backend.services.reservas.ReservasSolicitacoes;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Expira as solicitações que ficaram PENDENTE além da idade configurada, tirando-as do feed público.
+ * Trabalha em lotes: cada lote seleciona as pendentes mais antigas e as atualiza num UPDATE curto e
+ * condicional, sem segurar locks sobre a tabela inteira. Só as que o UPDATE de fato alterou saem do feed e
+ * perdem a reserva: uma solicitação respondida entre a seleção e o UPDATE continua como está.
+ * Só a instância com a trava "expiracao-solicitacoes" executa, renovando a trava antes de cada lote.
+ */
+@Component
+public class ExpiracaoSolicitacoes implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpiracaoSolicitacoes.class);
+
+    static final String TAREFA = "expiracao-solicitacoes";
+
+    private static final String RESTRICAO_STATUS = "solicitacoes_status_check";
+
+    private final SolicitacaoRepository solicitacaoRepository;
+    private final TravasTarefas travasTarefas;
+    private final ReservasSolicitacoes reservasSolicitacoes;
+    private final CanalSolicitacoesPublicas canalSolicitacoesPublicas;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean postgres;
+    private final Duration idade;
+    private final int tamanhoLote;
+    private final Duration duracaoTrava;
+
+    private final AtomicLong expiradas = new AtomicLong();
+    private final AtomicLong execucoes = new AtomicLong();
+    private final AtomicLong ignoradas = new AtomicLong();
+    private volatile DistributionSummary expiradasPorExecucao;
+
+    public ExpiracaoSolicitacoes(SolicitacaoRepository solicitacaoRepository,
+                                 TravasTarefas travasTarefas,
+                                 ReservasSolicitacoes reservasSolicitacoes,
+                                 CanalSolicitacoesPublicas canalSolicitacoesPublicas,
+                                 JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 EntityManagerFactory entityManagerFactory,
+                                 @Value("${solicitacoes.expiracao.idade-dias:30}") long idadeDias,
+                                 @Value("${solicitacoes.expiracao.tamanho-lote:500}") int tamanhoLote,
+                                 @Value("${solicitacoes.expiracao.trava-segundos:300}") long travaSegundos) {
+        this.solicitacaoRepository = solicitacaoRepository;
+        this.travasTarefas = travasTarefas;
+        this.reservasSolicitacoes = reservasSolicitacoes;
+        this.canalSolicitacoesPublicas = canalSolicitacoesPublicas;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.postgres = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+        this.idade = Duration.ofDays(idadeDias);
+        this.tamanhoLote = tamanhoLote;
+        this.duracaoTrava = Duration.ofSeconds(travaSegundos);
+    }
+
+    // O ddl-auto não altera o CHECK do status criado antes de EXPIRADA existir. Ele só é trocado quando falta
+    // algum valor; o H2 é sempre em memória e cria a tabela já com todos.
+    @EventListener(ApplicationReadyEvent.class)
+    public void atualizarRestricaoStatus() {
+        if (!postgres || restricaoStatusCompleta()) {
+            return;
+        }
+        String valores = Arrays.stream(StatusSolicitacao.values())
+                .map(s -> "'" + s.name() + "'")
+                .collect(Collectors.joining(", "));
+        // Remoção e criação na mesma transação: nenhuma escrita vê a tabela sem o CHECK. NOT VALID dispensa
+        // a varredura enquanto o ACCESS EXCLUSIVE está seguro.
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("ALTER TABLE solicitacoes DROP CONSTRAINT IF EXISTS " + RESTRICAO_STATUS);
+            jdbcTemplate.execute("ALTER TABLE solicitacoes ADD CONSTRAINT " + RESTRICAO_STATUS
+                    + " CHECK (status IN (" + valores + ")) NOT VALID");
+        });
+        // A validação só bloqueia alterações de esquema; leituras e escritas seguem durante a varredura
+        jdbcTemplate.execute("ALTER TABLE solicitacoes VALIDATE CONSTRAINT " + RESTRICAO_STATUS);
+        log.info("Restrição {} atualizada com os status {}", RESTRICAO_STATUS, valores);
+    }
+
+    private boolean restricaoStatusCompleta() {
+        List<String> definicao = jdbcTemplate.queryForList(
+                "SELECT pg_get_constraintdef(oid) FROM pg_constraint "
+                        + "WHERE conrelid = 'solicitacoes'::regclass AND conname = '" + RESTRICAO_STATUS + "'",
+                String.class);
+        return !definicao.isEmpty() && Arrays.stream(StatusSolicitacao.values())
+                .allMatch(s -> definicao.get(0).contains("'" + s.name() + "'"));
+    }
+
+    @Scheduled(fixedDelayString = "${solicitacoes.expiracao.intervalo-ms:3600000}",
+            initialDelayString = "${solicitacoes.expiracao.intervalo-ms:3600000}")
+    public void executar() {
+        expirar();
+    }
+
+    /**
+     * Expira as pendentes criadas antes de agora menos a idade configurada. Retorna quantas foram expiradas.
+     * Não faz nada se outra instância detém a trava.
+     */
+    public int expirar() {
+        LocalDateTime limite = LocalDateTime.now().minus(idade);
+        int total = 0;
+
+        try {
+            for (boolean primeiroLote = true; ; primeiroLote = false) {
+                // Adquire ou renova antes do lote: sem a trava, outra instância pode estar expirando as mesmas linhas
+                if (!travasTarefas.adquirir(TAREFA, duracaoTrava)) {
+                    if (primeiroLote) {
+                        ignoradas.incrementAndGet();
+                        return 0;
+                    }
+                    log.info("Expiração de solicitações interrompida: trava assumida por outra instância");
+                    break;
+                }
+
+                List<SolicitacaoEstadoProjection> lote = solicitacaoRepository.findEstadosCriadosAntes(
+                        StatusSolicitacao.PENDENTE, limite, Limit.of(tamanhoLote));
+                if (lote.isEmpty()) {
+                    break;
+                }
+
+                List<Long> ids = lote.stream().map(SolicitacaoEstadoProjection::getId).collect(Collectors.toList());
+                Set<Long> alteradas = new HashSet<>(expirarLote(ids));
+                total += alteradas.size();
+
+                List<Long> publicas = lote.stream()
+                        .filter(SolicitacaoEstadoProjection::getPublica)
+                        .map(SolicitacaoEstadoProjection::getId)
+                        .filter(alteradas::contains)
+                        .collect(Collectors.toList());
+                reservasSolicitacoes.remover(publicas);
+                publicas.forEach(id -> canalSolicitacoesPublicas.publicar(EventoSolicitacaoPublica.removida(id)));
+
+                // Lote incompleto: não há mais pendentes antigas
+                if (lote.size() < tamanhoLote) {
+                    break;
+                }
+            }
+        } finally {
+            // Só remove a trava se ela ainda for desta instância
+            travasTarefas.liberar(TAREFA);
+        }
+
+        expiradas.addAndGet(total);
+        execucoes.incrementAndGet();
+        if (expiradasPorExecucao != null) {
+            expiradasPorExecucao.record(total);
+        }
+        if (total > 0) {
+            log.info("Expiração de solicitações: {} pendentes criadas antes de {} expiradas", total, limite);
+        }
+        return total;
+    }
+
+    // UPDATE condicional do lote; retorna os ids que ele alterou. No PostgreSQL o próprio UPDATE os devolve
+    // (RETURNING); nos demais bancos eles são relidos pela data de resposta gravada, única por lote
+    private List<Long> expirarLote(List<Long> ids) {
+        LocalDateTime agora = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        if (postgres) {
+            String marcadores = ids.stream().map(id -> "?").collect(Collectors.joining(", "));
+            Object[] parametros = Stream.concat(
+                    Stream.of(StatusSolicitacao.EXPIRADA.name(), Timestamp.valueOf(agora)),
+                    Stream.concat(ids.stream(), Stream.of(StatusSolicitacao.PENDENTE.name()))).toArray();
+            return jdbcTemplate.queryForList("UPDATE solicitacoes SET status = ?, data_resposta = ? "
+                    + "WHERE id IN (" + marcadores + ") AND status = ? RETURNING id", Long.class, parametros);
+        }
+        solicitacaoRepository.expirarSePendentes(ids, StatusSolicitacao.EXPIRADA, agora, StatusSolicitacao.PENDENTE);
+        return solicitacaoRepository.findIdsExpiradosEm(ids, StatusSolicitacao.EXPIRADA, agora);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        expiradasPorExecucao = DistributionSummary.builder("solicitacoes.expiracao.por-execucao")
+                .description("Solicitações expiradas em cada execução da tarefa")
+                .register(registry);
+        FunctionCounter.builder("solicitacoes.expiracao.expiradas", expiradas, AtomicLong::get)
+                .description("Solicitações pendentes expiradas por esta instância")
+                .register(registry);
+        FunctionCounter.builder("solicitacoes.expiracao.execucoes", execucoes, AtomicLong::get)
+                .tag("resultado", "executada")
+                .description("Execuções da tarefa de expiração")
+                .register(registry);
+        FunctionCounter.builder("solicitacoes.expiracao.execucoes", ignoradas, AtomicLong::get)
+                .tag("resultado", "trava-ocupada")
+                .description("Execuções da tarefa de expiração")
+                .register(registry);
+    }
+}
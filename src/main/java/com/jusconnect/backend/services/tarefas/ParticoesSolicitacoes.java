@@ -0,0 +1,223 @@
+package com.jusconnect.backend.services.tarefas;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Particionamento mensal de solicitacoes por data_criacao no PostgreSQL.
+ *
+ * O ddl-auto cria a tabela comum; na primeira inicialização ela é convertida, numa única transação,
+ * em tabela particionada por RANGE (data_criacao) com uma partição por mês (solicitacoes_pAAAAMM),
+ * preservando linhas, CHECKs, chaves estrangeiras e índices. A chave primária passa a ser (id, data_criacao),
+ * como o PostgreSQL exige; a unicidade do id continua garantida pela sequência.
+ *
+ * Diariamente, sob a trava "particoes-solicitacoes", são criadas as partições dos próximos meses e removidas
+ * as que saíram da retenção. Antes de remover, o que ainda restar nelas vai para solicitacoes_historico.
+ * A partição padrão (solicitacoes_default) recebe os INSERTs de um mês cuja partição ainda não existe, se a
+ * tarefa deixar de rodar na virada do mês; quando a partição é criada, essas linhas são movidas para ela.
+ * No H2 (modo diferente de "postgres") a tabela continua única.
+ *
+ * As caixas só descartam partições quando filtradas por criadaDe/criadaAte ou a partir de uma página com cursor
+ * (que limita apenas o fim do intervalo). A primeira página sem filtro consulta o índice de todas as partições
+ * dentro da retenção, assim como as buscas só por id.
+ */
+@Component
+@ConditionalOnProperty(name = "solicitacoes.particionamento.modo", havingValue = "postgres")
+public class ParticoesSolicitacoes {
+
+    private static final Logger log = LoggerFactory.getLogger(ParticoesSolicitacoes.class);
+
+    static final String TAREFA = "particoes-solicitacoes";
+    static final String PADRAO = "solicitacoes_default";
+
+    private static final DateTimeFormatter SUFIXO = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern NOME_PARTICAO = Pattern.compile("solicitacoes_p(\\d{6})");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TravasTarefas travasTarefas;
+    private final int mesesFuturos;
+    private final int retencaoMeses;
+
+    // Depender da EntityManagerFactory garante que o ddl-auto já criou a tabela
+    public ParticoesSolicitacoes(JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 TravasTarefas travasTarefas,
+                                 EntityManagerFactory entityManagerFactory,
+                                 @Value("${solicitacoes.particionamento.meses-futuros:3}") int mesesFuturos,
+                                 @Value("${solicitacoes.particionamento.retencao-meses:24}") int retencaoMeses) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.travasTarefas = travasTarefas;
+        this.mesesFuturos = mesesFuturos;
+        this.retencaoMeses = retencaoMeses;
+    }
+
+    // Antes de o servidor aceitar requisições: os INSERTs do mês já caem na partição certa
+    @PostConstruct
+    public void inicializar() {
+        // Caso comum, tabela já convertida: só a leitura do catálogo, sem lock sobre solicitacoes
+        if (!particionada()) {
+            transactionTemplate.executeWithoutResult(status -> converterSeNecessario());
+        }
+        // Sem a trava, outra instância está criando as partições; até lá os INSERTs vão para a padrão
+        comTrava(this::criarParticoesFuturas);
+    }
+
+    @Scheduled(cron = "${solicitacoes.particionamento.cron:0 0 3 * * *}")
+    public void manter() {
+        comTrava(() -> {
+            criarParticoesFuturas();
+            removerExpiradas();
+        });
+    }
+
+    private void comTrava(Runnable tarefa) {
+        if (!travasTarefas.adquirir(TAREFA, Duration.ofMinutes(10))) {
+            return;
+        }
+        try {
+            tarefa.run();
+        } finally {
+            travasTarefas.liberar(TAREFA);
+        }
+    }
+
+    private boolean particionada() {
+        return "p".equals(jdbcTemplate.queryForObject(
+                "SELECT relkind::text FROM pg_class WHERE oid = 'solicitacoes'::regclass", String.class));
+    }
+
+    private void converterSeNecessario() {
+        // O lock serializa instâncias iniciando juntas; a segunda, ao re-checar, já encontra a tabela particionada
+        jdbcTemplate.execute("LOCK TABLE solicitacoes IN ACCESS EXCLUSIVE MODE");
+        if (particionada()) {
+            return;
+        }
+
+        List<String> indices = jdbcTemplate.queryForList(
+                "SELECT indexdef FROM pg_indexes WHERE schemaname = current_schema() "
+                        + "AND tablename = 'solicitacoes' AND indexname LIKE 'idx_%'", String.class);
+        // Com o nome original, para o ddl-auto reconhecê-las nas próximas inicializações
+        List<String> chavesEstrangeiras = jdbcTemplate.queryForList(
+                "SELECT 'CONSTRAINT ' || quote_ident(conname) || ' ' || pg_get_constraintdef(oid) FROM pg_constraint "
+                        + "WHERE conrelid = 'solicitacoes'::regclass AND contype = 'f'", String.class);
+
+        jdbcTemplate.execute("CREATE TABLE solicitacoes_particionada "
+                + "(LIKE solicitacoes INCLUDING DEFAULTS INCLUDING CONSTRAINTS) PARTITION BY RANGE (data_criacao)");
+        jdbcTemplate.execute("ALTER TABLE solicitacoes_particionada ADD PRIMARY KEY (id, data_criacao)");
+
+        LocalDateTime maisAntiga = jdbcTemplate.queryForObject(
+                "SELECT MIN(data_criacao) FROM solicitacoes", LocalDateTime.class);
+        YearMonth inicio = maisAntiga != null ? YearMonth.from(maisAntiga) : YearMonth.now();
+        for (YearMonth mes = inicio; !mes.isAfter(YearMonth.now().plusMonths(mesesFuturos)); mes = mes.plusMonths(1)) {
+            jdbcTemplate.execute("CREATE TABLE " + nomeParticao(mes) + " PARTITION OF solicitacoes_particionada "
+                    + intervalo(mes));
+        }
+        jdbcTemplate.execute("CREATE TABLE " + PADRAO + " PARTITION OF solicitacoes_particionada DEFAULT");
+
+        int copiadas = jdbcTemplate.update("INSERT INTO solicitacoes_particionada SELECT * FROM solicitacoes");
+        jdbcTemplate.execute("DROP TABLE solicitacoes");
+        jdbcTemplate.execute("ALTER TABLE solicitacoes_particionada RENAME TO solicitacoes");
+        chavesEstrangeiras.forEach(fk -> jdbcTemplate.execute("ALTER TABLE solicitacoes ADD " + fk));
+        // Índices no pai são criados em cada partição, atual e futura
+        indices.forEach(jdbcTemplate::execute);
+
+        log.info("Tabela solicitacoes convertida em particionada por mês ({} linhas, desde {})", copiadas, inicio);
+    }
+
+    private void criarParticoesFuturas() {
+        // Tabelas convertidas antes da partição padrão existir também a recebem
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + PADRAO + " PARTITION OF solicitacoes DEFAULT");
+        YearMonth atual = YearMonth.now();
+        for (int i = 0; i <= mesesFuturos; i++) {
+            criarParticao(atual.plusMonths(i));
+        }
+    }
+
+    private void removerExpiradas() {
+        YearMonth limite = YearMonth.now().minusMonths(retencaoMeses);
+        for (String particao : particoes()) {
+            Optional<YearMonth> mes = mesDaParticao(particao);
+            if (mes.isEmpty() || !mes.get().isBefore(limite)) {
+                continue;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.execute("ALTER TABLE solicitacoes DETACH PARTITION " + particao);
+                // Normalmente vazia, pois o arquivamento já levou as encerradas; o que restar não se perde
+                int preservadas = jdbcTemplate.update("""
+                        INSERT INTO solicitacoes_historico
+                            (id, descricao, status, publica, data_criacao, data_resposta, cliente_id, advogado_id, arquivada_em)
+                        SELECT id, descricao, status, publica, data_criacao, data_resposta, cliente_id, advogado_id, now()
+                        FROM %s
+                        ON CONFLICT (id) DO NOTHING
+                        """.formatted(particao));
+                jdbcTemplate.execute("DROP TABLE " + particao);
+                log.info("Partição {} removida ({} linhas movidas para o histórico)", particao, preservadas);
+            });
+        }
+    }
+
+    private void criarParticao(YearMonth mes) {
+        String particao = nomeParticao(mes);
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT to_regclass('" + particao + "') IS NOT NULL", Boolean.class))) {
+            return;
+        }
+        String noMes = "data_criacao >= '" + mes.atDay(1) + "' AND data_criacao < '" + mes.plusMonths(1).atDay(1) + "'";
+
+        transactionTemplate.executeWithoutResult(status -> {
+            boolean atrasada = Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM " + PADRAO + " WHERE " + noMes + ")", Boolean.class));
+            if (!atrasada) {
+                jdbcTemplate.execute("CREATE TABLE " + particao + " PARTITION OF solicitacoes " + intervalo(mes));
+                return;
+            }
+            // O PostgreSQL não cria a partição enquanto a padrão tiver linhas do intervalo:
+            // ela nasce avulsa, recebe as linhas e só então é anexada
+            jdbcTemplate.execute("CREATE TABLE " + particao
+                    + " (LIKE solicitacoes INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+            int movidas = jdbcTemplate.update("WITH movidas AS (DELETE FROM " + PADRAO + " WHERE " + noMes
+                    + " RETURNING *) INSERT INTO " + particao + " SELECT * FROM movidas");
+            jdbcTemplate.execute("ALTER TABLE solicitacoes ATTACH PARTITION " + particao + " " + intervalo(mes));
+            log.warn("Partição {} criada com atraso: {} linhas movidas da partição padrão", particao, movidas);
+        });
+    }
+
+    private static String nomeParticao(YearMonth mes) {
+        return "solicitacoes_p" + mes.format(SUFIXO);
+    }
+
+    private static String intervalo(YearMonth mes) {
+        return "FOR VALUES FROM ('" + mes.atDay(1) + "') TO ('" + mes.plusMonths(1).atDay(1) + "')";
+    }
+
+    private List<String> particoes() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = 'solicitacoes'::regclass", String.class);
+    }
+
+    static Optional<YearMonth> mesDaParticao(String particao) {
+        Matcher m = NOME_PARTICAO.matcher(particao);
+        return m.matches() ? Optional.of(YearMonth.parse(m.group(1), SUFIXO)) : Optional.empty();
+    }
+}
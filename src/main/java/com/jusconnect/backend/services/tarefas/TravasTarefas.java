@@ -0,0 +1,52 @@
+package com.jusconnect.backend.services.tarefas;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.jusconnect.backend.repositories.TravaTarefaRepository;
+
+/**
+ * Travas com prazo no banco para tarefas agendadas que devem rodar em uma só instância.
+ * Mesma disputa das reservas de solicitação: UPDATE condicional para trava expirada ou própria e,
+ * se não há linha, INSERT protegido pela chave primária. O prazo cobre a queda da instância que
+ * detinha a trava; quem executa renova a trava durante o trabalho.
+ */
+@Component
+public class TravasTarefas {
+
+    private final TravaTarefaRepository repository;
+
+    // Identifica esta instância como dona das travas
+    private final String instancia = UUID.randomUUID().toString();
+
+    public TravasTarefas(TravaTarefaRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Adquire ou renova a trava por mais {@code duracao}. Retorna false se outra instância a detém.
+     */
+    public boolean adquirir(String tarefa, Duration duracao) {
+        LocalDateTime agora = LocalDateTime.now();
+        LocalDateTime expiraEm = agora.plus(duracao);
+        return repository.assumirSeLivre(tarefa, instancia, expiraEm, agora) == 1
+                || inserir(tarefa, expiraEm);
+    }
+
+    public void liberar(String tarefa) {
+        repository.liberar(tarefa, instancia);
+    }
+
+    private boolean inserir(String tarefa, LocalDateTime expiraEm) {
+        try {
+            return repository.inserir(tarefa, instancia, expiraEm) == 1;
+        } catch (DataIntegrityViolationException e) {
+            // Outra instância criou a trava entre o UPDATE e o INSERT
+            return false;
+        }
+    }
+}
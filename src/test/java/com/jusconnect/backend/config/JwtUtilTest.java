@@ -0,0 +1,98 @@
+package com.jusconnect.backend.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do JwtUtil e do cache de tokens verificados")
+class JwtUtilTest {
+
+    private static final String SECRET = "uma-chave-secreta-bem-grande-para-testes-0123456789";
+
+    @Test
+    @DisplayName("Deve reutilizar o principal em cache na segunda verificação")
+    void deveUsarCacheNaSegundaVerificacao() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 3600, 100);
+        String token = jwtUtil.generateTokenForAdvogado(7L, "advogado@mail.com");
+
+        UsuarioAutenticado primeiro = jwtUtil.parseUsuario(token);
+        UsuarioAutenticado segundo = jwtUtil.parseUsuario(token);
+
+        assertNotNull(primeiro);
+        assertSame(primeiro, segundo);
+        assertEquals(7L, segundo.getAdvogadoId());
+        assertEquals(1, jwtUtil.getTokenCache().getHits());
+        assertEquals(1, jwtUtil.getTokenCache().getMisses());
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o tamanho máximo do cache")
+    void deveRespeitarTamanhoMaximo() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 3600, 2);
+
+        for (long id = 1; id <= 3; id++) {
+            assertNotNull(jwtUtil.parseUsuario(jwtUtil.generateTokenForCliente(id, "cliente" + id + "@mail.com")));
+        }
+
+        assertEquals(2, jwtUtil.getTokenCache().size());
+        assertEquals(1, jwtUtil.getTokenCache().getEvictions());
+    }
+
+    @Test
+    @DisplayName("Ao passar do limite deve manter o token usado mais recentemente")
+    void deveManterTokenUsadoRecentemente() throws InterruptedException {
+        TokenCache cache = new TokenCache(2);
+        long expiraEm = System.currentTimeMillis() + 60_000;
+        UsuarioAutenticado usado = new UsuarioAutenticado("a@mail.com", UsuarioAutenticado.ROLE_CLIENTE, 1L);
+
+        cache.put("a", usado, expiraEm);
+        Thread.sleep(1);
+        cache.put("b", new UsuarioAutenticado("b@mail.com", UsuarioAutenticado.ROLE_CLIENTE, 2L), expiraEm);
+        Thread.sleep(1);
+        assertSame(usado, cache.get("a"));
+        cache.put("c", new UsuarioAutenticado("c@mail.com", UsuarioAutenticado.ROLE_CLIENTE, 3L), expiraEm);
+
+        assertEquals(2, cache.size());
+        assertSame(usado, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    @DisplayName("Sob rotatividade deve manter o token usado com frequência e remover os que não voltam")
+    void deveManterTokenFrequenteSobRotatividade() {
+        TokenCache cache = new TokenCache(64);
+        long expiraEm = System.currentTimeMillis() + 60_000;
+        UsuarioAutenticado frequente = new UsuarioAutenticado("f@mail.com", UsuarioAutenticado.ROLE_CLIENTE, 1L);
+        cache.put("frequente", frequente, expiraEm);
+        for (int i = 0; i < 63; i++) {
+            cache.put("antigo-" + i, new UsuarioAutenticado("a@mail.com", UsuarioAutenticado.ROLE_CLIENTE, 2L), expiraEm);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            cache.put("novo-" + i, new UsuarioAutenticado("n@mail.com", UsuarioAutenticado.ROLE_CLIENTE, 3L), expiraEm);
+            if (i % 4 == 0) {
+                assertSame(frequente, cache.get("frequente"));
+            }
+        }
+
+        assertEquals(64, cache.size());
+        assertEquals(10_000, cache.getEvictions());
+        // A amostra parte de posições aleatórias: nenhum token antigo fica preso fora dela
+        for (int i = 0; i < 63; i++) {
+            assertNull(cache.get("antigo-" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar token expirado nem inválido")
+    void naoDeveAceitarTokenExpiradoOuInvalido() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, -10, 100);
+        String expirado = jwtUtil.generateTokenForCliente(1L, "cliente@mail.com");
+
+        assertNull(jwtUtil.parseUsuario(expirado));
+        assertNull(jwtUtil.parseUsuario("token-invalido"));
+        assertEquals(0, jwtUtil.getTokenCache().size());
+    }
+}
@@ -0,0 +1,40 @@
+package com.jusconnect.backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do limitador de tentativas de login")
+class LoginRateLimiterTest {
+
+    @Test
+    @DisplayName("Deve bloquear o CPF após esgotar a capacidade")
+    void deveBloquearCpfAposCapacidade() {
+        LoginRateLimiter limiter = new LoginRateLimiter(3, 1, 100, 100, 1000, 15);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("12345678909", "10.0.0." + i));
+        }
+
+        assertTrue(limiter.tryAcquire("12345678909", "10.0.0.9") > 0);
+        // Outro CPF não é afetado
+        assertEquals(0, limiter.tryAcquire("12345678912", "10.0.0.9"));
+    }
+
+    @Test
+    @DisplayName("Deve bloquear o IP independentemente do CPF")
+    void deveBloquearIp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LoginRateLimiter limiter = new LoginRateLimiter(100, 100, 2, 1, 1000, 15);
+        limiter.bindTo(registry);
+
+        assertEquals(0, limiter.tryAcquire("11111111111", "10.0.0.1"));
+        assertEquals(0, limiter.tryAcquire("22222222222", "10.0.0.1"));
+        assertTrue(limiter.tryAcquire("33333333333", "10.0.0.1") > 0);
+
+        assertEquals(1.0, registry.get("auth.login.throttle")
+                .tag("key", "ip").tag("result", "rejected").functionCounter().count());
+    }
+}
@@ -0,0 +1,70 @@
+package com.jusconnect.backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do pool dedicado de hashing de senha")
+class PasswordHashingExecutorTest {
+
+    @Test
+    @DisplayName("Deve codificar e validar senha no pool dedicado")
+    void deveCodificarEValidar() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(
+                new BCryptPasswordEncoder(4), registry, 1, 4, 5000, 1);
+
+        String hash = executor.encode("123456");
+
+        assertTrue(executor.matches("123456", hash));
+        assertFalse(executor.matches("outra", hash));
+        assertEquals(1, registry.get("password.hash.duration").tag("operation", "encode").timer().count());
+        executor.destroy();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar imediatamente quando a fila estiver cheia")
+    void deveRejeitarQuandoSaturado() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch ocupado = new CountDownLatch(1);
+        BCryptPasswordEncoder lento = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                ocupado.countDown();
+                try {
+                    liberar.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(lento, registry, 1, 1, 5000, 2);
+
+        // Uma tarefa em execução e outra ocupando a única vaga da fila
+        CompletableFuture<String> emExecucao = CompletableFuture.supplyAsync(() -> executor.encode("a"));
+        assertTrue(ocupado.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> naFila = CompletableFuture.supplyAsync(() -> executor.encode("b"));
+        while (registry.get("password.hash.queue.size").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        PasswordHashingRejectedException ex = assertThrows(PasswordHashingRejectedException.class,
+                () -> executor.encode("c"));
+        assertEquals(2, ex.getRetryAfterSeconds());
+        assertEquals(1, registry.get("password.hash.rejected").counter().count());
+
+        liberar.countDown();
+        assertNotNull(emExecucao.get(5, TimeUnit.SECONDS));
+        assertNotNull(naFila.get(5, TimeUnit.SECONDS));
+        executor.destroy();
+    }
+}
@@ -271,6 +271,27 @@ class AdvogadoControllerTest {
 					.andExpect(status().isUnauthorized());
         }
 
+        @Test
+        @DisplayName("Scenario: Deve retornar 401 com token inválido")
+        void deveRetornar401ComTokenInvalido() throws Exception {
+            mockMvc.perform(get("/advogados/me")
+                            .header("Authorization", "Bearer token-invalido"))
+                    .andExpect(status().isUnauthorized());
+
+            verify(advogadoService, never()).visualizarPerfil(any());
+        }
+
+        @Test
+        @DisplayName("Scenario: Deve retornar 401 com token de cliente")
+        void deveRetornar401ComTokenDeCliente() throws Exception {
+            String tokenCliente = jwtUtil.generateTokenForCliente(1L, "cliente@mailclient.xyz");
+
+            mockMvc.perform(get("/advogados/me")
+                            .header("Authorization", "Bearer " + tokenCliente))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(content().string("Token não contém identificador de advogado"));
+        }
+
         @Test
         @DisplayName("Scenario: Deve retornar 404 quando advogado não encontrado")
         void deveRetornar404QuandoNaoEncontrado() throws Exception {
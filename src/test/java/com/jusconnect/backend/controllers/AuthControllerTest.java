@@ -5,8 +5,9 @@ import com.jusconnect.backend.config.JwtUtil;
 import com.jusconnect.backend.dtos.LoginRequestDTO;
 import com.jusconnect.backend.models.Advogado;
 import com.jusconnect.backend.models.Cliente;
-import com.jusconnect.backend.repositories.AdvogadoRepository;
 import com.jusconnect.backend.repositories.ClienteRepository;
+import com.jusconnect.backend.repositories.CredencialRepository;
+import com.jusconnect.backend.repositories.projections.CredencialProjection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -20,9 +21,11 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
-import java.util.Optional;
+import java.util.List;
 
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -39,10 +42,10 @@ class AuthControllerTest {
     private ObjectMapper objectMapper;
 
     @MockitoBean
-    private ClienteRepository clienteRepository;
+    private CredencialRepository credencialRepository;
 
     @MockitoBean
-    private AdvogadoRepository advogadoRepository;
+    private ClienteRepository clienteRepository;
 
     @MockitoBean
     private BCryptPasswordEncoder passwordEncoder;
@@ -76,6 +79,23 @@ class AuthControllerTest {
                 .build();
     }
 
+    private CredencialProjection credencialAdvogado() {
+        return credencial("ADVOGADO", advogado.getId(), advogado.getEmail(), advogado.getSenha());
+    }
+
+    private CredencialProjection credencialCliente() {
+        return credencial("CLIENTE", cliente.getId(), cliente.getEmail(), cliente.getSenha());
+    }
+
+    private static CredencialProjection credencial(String role, Long id, String email, String senha) {
+        return new CredencialProjection() {
+            public String getRole() { return role; }
+            public Long getId() { return id; }
+            public String getEmail() { return email; }
+            public String getSenha() { return senha; }
+        };
+    }
+
     @Nested
     @DisplayName("TC05: Feature - Login advogado")
     class LoginAdvogado {
@@ -93,8 +113,7 @@ class AuthControllerTest {
                     .senha("123456")
                     .build();
 
-            when(advogadoRepository.findByCpf("12345678912")).thenReturn(Optional.of(advogado));
-            when(clienteRepository.findByCpf("12345678912")).thenReturn(Optional.empty());
+            when(credencialRepository.findByCpf("12345678912")).thenReturn(List.of(credencialAdvogado()));
             when(passwordEncoder.matches("123456", advogado.getSenha())).thenReturn(true);
 
             // Then o sistema autentica sua sessão e o usuário está logado
@@ -116,8 +135,7 @@ class AuthControllerTest {
                     .senha("senhaErrada")
                     .build();
 
-            when(advogadoRepository.findByCpf("12345678912")).thenReturn(Optional.of(advogado));
-            when(clienteRepository.findByCpf("12345678912")).thenReturn(Optional.empty());
+            when(credencialRepository.findByCpf("12345678912")).thenReturn(List.of(credencialAdvogado()));
             when(passwordEncoder.matches("senhaErrada", advogado.getSenha())).thenReturn(false);
 
             // Then o sistema exibe "Senha errada"
@@ -138,8 +156,7 @@ class AuthControllerTest {
                     .senha("123456")
                     .build();
 
-            when(advogadoRepository.findByCpf("99999999999")).thenReturn(Optional.empty());
-            when(clienteRepository.findByCpf("99999999999")).thenReturn(Optional.empty());
+            when(credencialRepository.findByCpf("99999999999")).thenReturn(List.of());
 
             // Then o sistema exibe "CPF não cadastrado"
             mockMvc.perform(post("/auth/login")
@@ -167,8 +184,7 @@ class AuthControllerTest {
                     .senha("123456")
                     .build();
 
-            when(clienteRepository.findByCpf("12345678909")).thenReturn(Optional.of(cliente));
-            when(advogadoRepository.findByCpf("12345678909")).thenReturn(Optional.empty());
+            when(credencialRepository.findByCpf("12345678909")).thenReturn(List.of(credencialCliente()));
             when(passwordEncoder.matches("123456", cliente.getSenha())).thenReturn(true);
 
             // Then o sistema autentica sua sessão e o usuário está logado
@@ -190,8 +206,7 @@ class AuthControllerTest {
                     .senha("senhaErrada")
                     .build();
 
-            when(clienteRepository.findByCpf("12345678909")).thenReturn(Optional.of(cliente));
-            when(advogadoRepository.findByCpf("12345678909")).thenReturn(Optional.empty());
+            when(credencialRepository.findByCpf("12345678909")).thenReturn(List.of(credencialCliente()));
             when(passwordEncoder.matches("senhaErrada", cliente.getSenha())).thenReturn(false);
 
             // Then o sistema exibe "Senha errada"
@@ -212,8 +227,7 @@ class AuthControllerTest {
                     .senha("123456")
                     .build();
 
-            when(clienteRepository.findByCpf("99999999999")).thenReturn(Optional.empty());
-            when(advogadoRepository.findByCpf("99999999999")).thenReturn(Optional.empty());
+            when(credencialRepository.findByCpf("99999999999")).thenReturn(List.of());
 
             // Then o sistema exibe "CPF não cadastrado"
             mockMvc.perform(post("/auth/login")
@@ -224,6 +238,52 @@ class AuthControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Rehash transparente no login")
+    class RehashSenha {
+
+        @Test
+        @DisplayName("Deve substituir senha em texto puro por hash BCrypt após login")
+        void deveAtualizarSenhaEmTextoPuro() throws Exception {
+            LoginRequestDTO loginRequest = LoginRequestDTO.builder()
+                    .cpf("12345678909")
+                    .senha("123456")
+                    .build();
+
+            when(credencialRepository.findByCpf("12345678909"))
+                    .thenReturn(List.of(credencial("CLIENTE", 1L, cliente.getEmail(), "123456")));
+            when(passwordEncoder.encode("123456")).thenReturn("$2a$10$novoHash");
+
+            mockMvc.perform(post("/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(loginRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.role").value("CLIENTE"));
+
+            verify(clienteRepository).atualizarSenha(1L, "$2a$10$novoHash");
+        }
+
+        @Test
+        @DisplayName("Não deve regerar hash já atualizado")
+        void naoDeveAtualizarHashAtual() throws Exception {
+            LoginRequestDTO loginRequest = LoginRequestDTO.builder()
+                    .cpf("12345678909")
+                    .senha("123456")
+                    .build();
+
+            when(credencialRepository.findByCpf("12345678909")).thenReturn(List.of(credencialCliente()));
+            when(passwordEncoder.matches("123456", cliente.getSenha())).thenReturn(true);
+            when(passwordEncoder.upgradeEncoding(cliente.getSenha())).thenReturn(false);
+
+            mockMvc.perform(post("/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(loginRequest)))
+                    .andExpect(status().isOk());
+
+            verify(clienteRepository, never()).atualizarSenha(any(), anyString());
+        }
+    }
+
     @Nested
     @DisplayName("Testes de Validação")
     class ValidacaoCampos {
@@ -2,6 +2,7 @@ package com.jusconnect.backend.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jusconnect.backend.config.JwtUtil;
+import com.jusconnect.backend.config.PasswordHashingRejectedException;
 import com.jusconnect.backend.dtos.ClienteRequestDTO;
 import com.jusconnect.backend.dtos.ClienteResponseDTO;
 import com.jusconnect.backend.dtos.ClienteUpdateDTO;
@@ -135,6 +136,29 @@ class ClienteControllerTest {
                     .andExpect(status().isBadRequest())
                     .andExpect(content().string("CPF já cadastrado"));
         }
+
+        @Test
+        @DisplayName("Scenario: Cadastro recusado por sobrecarga no hash de senhas")
+        void deveRetornarServicoIndisponivelQuandoHashSobrecarregado() throws Exception {
+            ClienteRequestDTO request = ClienteRequestDTO.builder()
+                    .nome("Artur Sousa")
+                    .cpf("12345678909")
+                    .email("usuario@mailclient.xyz")
+                    .telefone("83912341234")
+                    .senha("123456")
+                    .build();
+
+            when(clienteService.cadastrarCliente(any(ClienteRequestDTO.class)))
+                    .thenThrow(new PasswordHashingRejectedException("Servidor ocupado", 2));
+
+            // Then a resposta vem do ValidationExceptionHandler, não do catch genérico do controller
+            mockMvc.perform(post("/clientes")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "2"))
+                    .andExpect(content().string("Servidor ocupado"));
+        }
     }
 
     @Nested
@@ -2,10 +2,21 @@ package com.jusconnect.backend.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jusconnect.backend.config.JwtUtil;
+import com.jusconnect.backend.dtos.ContagemSolicitacoesDTO;
+import com.jusconnect.backend.dtos.DecisaoRespostaDTO;
+import com.jusconnect.backend.dtos.FiltroSolicitacoesDTO;
+import com.jusconnect.backend.dtos.PaginaResponseDTO;
+import com.jusconnect.backend.dtos.ReservaSolicitacaoDTO;
+import com.jusconnect.backend.dtos.RespostaLoteRequestDTO;
+import com.jusconnect.backend.dtos.ResultadoDestinatarioDTO;
+import com.jusconnect.backend.dtos.ResultadoRespostaDTO;
+import com.jusconnect.backend.dtos.SolicitacaoMultiplaRequestDTO;
 import com.jusconnect.backend.dtos.SolicitacaoRequestDTO;
 import com.jusconnect.backend.dtos.SolicitacaoResponseDTO;
 import com.jusconnect.backend.dtos.SolicitacaoUpdateDTO;
 import com.jusconnect.backend.enums.StatusSolicitacao;
+import com.jusconnect.backend.services.exceptions.SolicitacaoJaRespondidaException;
+import com.jusconnect.backend.services.exceptions.SolicitacaoReservadaException;
 import com.jusconnect.backend.services.interfaces.SolicitacaoServiceInterface;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,11 +31,14 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -169,16 +183,58 @@ class SolicitacaoControllerTest {
                             .build()
             );
 
-            when(solicitacaoService.listarSolicitacoesCliente(1L)).thenReturn(solicitacoes);
+            when(solicitacaoService.listarSolicitacoesCliente(eq(1L), any(FiltroSolicitacoesDTO.class)))
+                    .thenReturn(PaginaResponseDTO.<SolicitacaoResponseDTO>builder().itens(solicitacoes).build());
 
             // Then o Sistema exibe as solicitações prévias e seus status
             mockMvc.perform(get("/solicitacoes/minhas")
                             .header("Authorization", "Bearer " + tokenCliente))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$[0].id").value(1))
-                    .andExpect(jsonPath("$[0].status").value("PENDENTE"))
-                    .andExpect(jsonPath("$[1].id").value(2))
-                    .andExpect(jsonPath("$[1].status").value("ACEITA"));
+                    .andExpect(jsonPath("$.itens[0].id").value(1))
+                    .andExpect(jsonPath("$.itens[0].status").value("PENDENTE"))
+                    .andExpect(jsonPath("$.itens[1].id").value(2))
+                    .andExpect(jsonPath("$.itens[1].status").value("ACEITA"));
+        }
+
+        @Test
+        @DisplayName("Deve repassar os filtros de status, datas e cursor ao serviço")
+        void deveRepassarFiltrosAoServico() throws Exception {
+            when(solicitacaoService.listarSolicitacoesCliente(eq(1L), any(FiltroSolicitacoesDTO.class)))
+                    .thenReturn(PaginaResponseDTO.<SolicitacaoResponseDTO>builder()
+                            .itens(List.of(solicitacaoResponse))
+                            .proximoCursor("proximo")
+                            .build());
+
+            mockMvc.perform(get("/solicitacoes/minhas")
+                            .header("Authorization", "Bearer " + tokenCliente)
+                            .param("status", "PENDENTE", "ACEITA")
+                            .param("criadaDe", "2025-01-01")
+                            .param("criadaAte", "2025-01-31")
+                            .param("tamanho", "10")
+                            .param("cursor", "abc"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.proximoCursor").value("proximo"));
+
+            verify(solicitacaoService).listarSolicitacoesCliente(1L, FiltroSolicitacoesDTO.builder()
+                    .status(List.of(StatusSolicitacao.PENDENTE, StatusSolicitacao.ACEITA))
+                    .criadaDe(LocalDate.of(2025, 1, 1))
+                    .criadaAte(LocalDate.of(2025, 1, 31))
+                    .tamanho(10)
+                    .cursor("abc")
+                    .build());
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 para cursor inválido")
+        void deveRetornar400ParaCursorInvalido() throws Exception {
+            when(solicitacaoService.listarSolicitacoesCliente(eq(1L), any(FiltroSolicitacoesDTO.class)))
+                    .thenThrow(new IllegalArgumentException("Cursor inválido"));
+
+            mockMvc.perform(get("/solicitacoes/minhas")
+                            .header("Authorization", "Bearer " + tokenCliente)
+                            .param("cursor", "lixo"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().string("Cursor inválido"));
         }
     }
 
@@ -193,14 +249,15 @@ class SolicitacaoControllerTest {
             // When o usuário estiver na sua home
             
             List<SolicitacaoResponseDTO> solicitacoes = Arrays.asList(solicitacaoResponse);
-            when(solicitacaoService.listarSolicitacoesAdvogado(2L)).thenReturn(solicitacoes);
+            when(solicitacaoService.listarSolicitacoesAdvogado(eq(2L), any(FiltroSolicitacoesDTO.class)))
+                    .thenReturn(PaginaResponseDTO.<SolicitacaoResponseDTO>builder().itens(solicitacoes).build());
 
             // Then o sistema deve exibir as solicitações enviadas pra ele
             mockMvc.perform(get("/solicitacoes/para-mim")
                             .header("Authorization", "Bearer " + tokenAdvogado))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$[0].id").value(1))
-                    .andExpect(jsonPath("$[0].advogadoId").value(2));
+                    .andExpect(jsonPath("$.itens[0].id").value(1))
+                    .andExpect(jsonPath("$.itens[0].advogadoId").value(2));
         }
 
         @Test
@@ -216,12 +273,13 @@ class SolicitacaoControllerTest {
                     .clienteNome("Artur Sousa")
                     .build();
 
-            when(solicitacaoService.listarSolicitacoesPublicas()).thenReturn(Arrays.asList(solPublica));
+            when(solicitacaoService.listarSolicitacoesPublicas(eq(2L), any(FiltroSolicitacoesDTO.class)))
+                    .thenReturn(PaginaResponseDTO.<SolicitacaoResponseDTO>builder().itens(Arrays.asList(solPublica)).build());
 
             mockMvc.perform(get("/solicitacoes/publicas")
                             .header("Authorization", "Bearer " + tokenAdvogado))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$[0].publica").value(true));
+                    .andExpect(jsonPath("$.itens[0].publica").value(true));
         }
 
         @Test
@@ -231,6 +289,25 @@ class SolicitacaoControllerTest {
                             .header("Authorization", "Bearer " + tokenCliente))
                     .andExpect(status().isForbidden());
         }
+
+        @Test
+        @DisplayName("Deve abrir o stream SSE de solicitações públicas para advogados")
+        void deveAbrirStreamDeSolicitacoesPublicas() throws Exception {
+            mockMvc.perform(get("/solicitacoes/publicas/stream")
+                            .header("Authorization", "Bearer " + tokenAdvogado)
+                            .accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(status().isOk())
+                    .andExpect(request().asyncStarted());
+        }
+
+        @Test
+        @DisplayName("Deve impedir cliente de acompanhar o stream de solicitações públicas")
+        void deveImpedirClienteAcompanharStream() throws Exception {
+            mockMvc.perform(get("/solicitacoes/publicas/stream")
+                            .header("Authorization", "Bearer " + tokenCliente)
+                            .accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(status().isForbidden());
+        }
     }
 
     @Nested
@@ -309,6 +386,256 @@ class SolicitacaoControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.status").value("RECUSADA"));
         }
+
+        @Test
+        @DisplayName("Deve retornar 409 quando outro advogado respondeu antes")
+        void deveRetornar409QuandoOutroAdvogadoRespondeuAntes() throws Exception {
+            SolicitacaoUpdateDTO updateRequest = SolicitacaoUpdateDTO.builder()
+                    .status(StatusSolicitacao.ACEITA)
+                    .build();
+
+            when(solicitacaoService.responderSolicitacao(eq(1L), eq(2L), any(SolicitacaoUpdateDTO.class)))
+                    .thenThrow(new SolicitacaoJaRespondidaException("Esta solicitação já foi respondida"));
+
+            mockMvc.perform(put("/solicitacoes/1/responder")
+                            .header("Authorization", "Bearer " + tokenAdvogado)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(updateRequest)))
+                    .andExpect(status().isConflict())
+                    .andExpect(content().string("Esta solicitação já foi respondida"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Reserva de solicitações públicas")
+    class ReservarSolicitacao {
+
+        @Test
+        @DisplayName("Deve permitir advogado reservar solicitação pública")
+        void devePermitirAdvogadoReservar() throws Exception {
+            LocalDateTime expiraEm = LocalDateTime.now().plusMinutes(10);
+            when(solicitacaoService.reservarSolicitacao(3L, 2L)).thenReturn(ReservaSolicitacaoDTO.builder()
+                    .solicitacaoId(3L)
+                    .advogadoId(2L)
+                    .expiraEm(expiraEm)
+                    .build());
+
+            mockMvc.perform(post("/solicitacoes/3/reserva")
+                            .header("Authorization", "Bearer " + tokenAdvogado))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.solicitacaoId").value(3))
+                    .andExpect(jsonPath("$.advogadoId").value(2));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 409 quando outro advogado detém a reserva")
+        void deveRetornar409QuandoReservadaPorOutro() throws Exception {
+            when(solicitacaoService.reservarSolicitacao(3L, 2L))
+                    .thenThrow(new SolicitacaoReservadaException("Esta solicitação está reservada por outro advogado"));
+
+            mockMvc.perform(post("/solicitacoes/3/reserva")
+                            .header("Authorization", "Bearer " + tokenAdvogado))
+                    .andExpect(status().isConflict())
+                    .andExpect(content().string("Esta solicitação está reservada por outro advogado"));
+        }
+
+        @Test
+        @DisplayName("Deve impedir cliente de reservar solicitação")
+        void deveImpedirClienteReservar() throws Exception {
+            mockMvc.perform(post("/solicitacoes/3/reserva")
+                            .header("Authorization", "Bearer " + tokenCliente))
+                    .andExpect(status().isForbidden());
+
+            verify(solicitacaoService, never()).reservarSolicitacao(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Histórico de solicitações")
+    class Historico {
+
+        @Test
+        @DisplayName("Deve listar o histórico do cliente ou do advogado conforme o token")
+        void deveListarHistoricoPorPerfil() throws Exception {
+            PaginaResponseDTO<SolicitacaoResponseDTO> pagina = PaginaResponseDTO.<SolicitacaoResponseDTO>builder()
+                    .itens(List.of(solicitacaoResponse))
+                    .build();
+            when(solicitacaoService.listarHistoricoCliente(eq(1L), any(FiltroSolicitacoesDTO.class))).thenReturn(pagina);
+            when(solicitacaoService.listarHistoricoAdvogado(eq(2L), any(FiltroSolicitacoesDTO.class))).thenReturn(pagina);
+
+            mockMvc.perform(get("/solicitacoes/historico")
+                            .header("Authorization", "Bearer " + tokenCliente))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.itens[0].id").value(1));
+            mockMvc.perform(get("/solicitacoes/historico")
+                            .header("Authorization", "Bearer " + tokenAdvogado)
+                            .param("status", "ACEITA"))
+                    .andExpect(status().isOk());
+
+            verify(solicitacaoService).listarHistoricoCliente(eq(1L), any(FiltroSolicitacoesDTO.class));
+            verify(solicitacaoService).listarHistoricoAdvogado(eq(2L),
+                    argThat(f -> f.getStatus().equals(List.of(StatusSolicitacao.ACEITA))));
+        }
+
+        @Test
+        @DisplayName("Deve negar o histórico a token sem perfil de cliente ou advogado")
+        void deveNegarTokenSemPerfil() throws Exception {
+            String tokenSemId = jwtUtil.generateTokenForCliente(null, "sem-id@mail.com");
+
+            mockMvc.perform(get("/solicitacoes/historico")
+                            .header("Authorization", "Bearer " + tokenSemId))
+                    .andExpect(status().isForbidden());
+
+            verify(solicitacaoService, never()).listarHistoricoCliente(any(), any());
+            verify(solicitacaoService, never()).listarHistoricoAdvogado(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Contagem por status")
+    class Contagem {
+
+        @Test
+        @DisplayName("Deve contar as solicitações do cliente ou do advogado conforme o token")
+        void deveContarPorPerfil() throws Exception {
+            ContagemSolicitacoesDTO contagem = ContagemSolicitacoesDTO.builder()
+                    .porStatus(Map.of(StatusSolicitacao.PENDENTE, 3L, StatusSolicitacao.ACEITA, 12L))
+                    .total(15)
+                    .build();
+            when(solicitacaoService.contarSolicitacoesCliente(1L)).thenReturn(contagem);
+            when(solicitacaoService.contarSolicitacoesAdvogado(2L)).thenReturn(contagem);
+
+            mockMvc.perform(get("/solicitacoes/contagem")
+                            .header("Authorization", "Bearer " + tokenCliente))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.porStatus.PENDENTE").value(3))
+                    .andExpect(jsonPath("$.total").value(15));
+            mockMvc.perform(get("/solicitacoes/contagem")
+                            .header("Authorization", "Bearer " + tokenAdvogado))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.porStatus.ACEITA").value(12));
+
+            verify(solicitacaoService).contarSolicitacoesCliente(1L);
+            verify(solicitacaoService).contarSolicitacoesAdvogado(2L);
+        }
+
+        @Test
+        @DisplayName("Deve negar a contagem a token sem perfil de cliente ou advogado")
+        void deveNegarTokenSemPerfil() throws Exception {
+            String tokenSemId = jwtUtil.generateTokenForCliente(null, "sem-id@mail.com");
+
+            mockMvc.perform(get("/solicitacoes/contagem")
+                            .header("Authorization", "Bearer " + tokenSemId))
+                    .andExpect(status().isForbidden());
+
+            verify(solicitacaoService, never()).contarSolicitacoesCliente(any());
+            verify(solicitacaoService, never()).contarSolicitacoesAdvogado(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Envio a vários advogados")
+    class CriarSolicitacoesEmLote {
+
+        @Test
+        @DisplayName("Deve usar o cliente do token e retornar o resultado de cada advogado")
+        void deveCriarParaVariosAdvogados() throws Exception {
+            SolicitacaoMultiplaRequestDTO request = SolicitacaoMultiplaRequestDTO.builder()
+                    .advogadoIds(List.of(2L, 3L))
+                    .descricao("Preciso de ajuda com processo trabalhista")
+                    .build();
+            when(solicitacaoService.criarSolicitacoes(any(SolicitacaoMultiplaRequestDTO.class))).thenReturn(List.of(
+                    ResultadoDestinatarioDTO.builder().advogadoId(2L).sucesso(true).codigo(201)
+                            .solicitacao(solicitacaoResponse).build(),
+                    ResultadoDestinatarioDTO.builder().advogadoId(3L).sucesso(false).codigo(404)
+                            .erro("Advogado não encontrado").build()));
+
+            mockMvc.perform(post("/solicitacoes/em-lote")
+                            .header("Authorization", "Bearer " + tokenCliente)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].codigo").value(201))
+                    .andExpect(jsonPath("$[0].solicitacao.id").value(1))
+                    .andExpect(jsonPath("$[1].codigo").value(404))
+                    .andExpect(jsonPath("$[1].solicitacao").doesNotExist());
+
+            verify(solicitacaoService).criarSolicitacoes(argThat(r -> r.getClienteId().equals(1L)));
+        }
+
+        @Test
+        @DisplayName("Deve impedir advogado de enviar solicitações")
+        void deveImpedirAdvogadoCriarEmLote() throws Exception {
+            SolicitacaoMultiplaRequestDTO request = SolicitacaoMultiplaRequestDTO.builder()
+                    .advogadoIds(List.of(3L))
+                    .descricao("Descrição")
+                    .build();
+
+            mockMvc.perform(post("/solicitacoes/em-lote")
+                            .header("Authorization", "Bearer " + tokenAdvogado)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isForbidden());
+
+            verify(solicitacaoService, never()).criarSolicitacoes(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Resposta em lote")
+    class ResponderEmLote {
+
+        @Test
+        @DisplayName("Deve retornar o resultado de cada decisão na ordem enviada")
+        void deveRetornarResultadoPorDecisao() throws Exception {
+            RespostaLoteRequestDTO request = RespostaLoteRequestDTO.builder()
+                    .decisoes(List.of(
+                            new DecisaoRespostaDTO(1L, StatusSolicitacao.ACEITA),
+                            new DecisaoRespostaDTO(2L, StatusSolicitacao.RECUSADA)))
+                    .build();
+            when(solicitacaoService.responderEmLote(eq(2L), any())).thenReturn(List.of(
+                    ResultadoRespostaDTO.builder().solicitacaoId(1L).sucesso(true).codigo(200)
+                            .status(StatusSolicitacao.ACEITA).build(),
+                    ResultadoRespostaDTO.builder().solicitacaoId(2L).sucesso(false).codigo(409)
+                            .erro("Esta solicitação já foi respondida").build()));
+
+            mockMvc.perform(put("/solicitacoes/responder-em-lote")
+                            .header("Authorization", "Bearer " + tokenAdvogado)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].sucesso").value(true))
+                    .andExpect(jsonPath("$[0].status").value("ACEITA"))
+                    .andExpect(jsonPath("$[1].sucesso").value(false))
+                    .andExpect(jsonPath("$[1].codigo").value(409));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar lote vazio")
+        void deveRejeitarLoteVazio() throws Exception {
+            mockMvc.perform(put("/solicitacoes/responder-em-lote")
+                            .header("Authorization", "Bearer " + tokenAdvogado)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new RespostaLoteRequestDTO(List.of()))))
+                    .andExpect(status().isBadRequest());
+
+            verify(solicitacaoService, never()).responderEmLote(any(), any());
+        }
+
+        @Test
+        @DisplayName("Deve impedir cliente de responder em lote")
+        void deveImpedirClienteResponderEmLote() throws Exception {
+            RespostaLoteRequestDTO request = new RespostaLoteRequestDTO(
+                    List.of(new DecisaoRespostaDTO(1L, StatusSolicitacao.ACEITA)));
+
+            mockMvc.perform(put("/solicitacoes/responder-em-lote")
+                            .header("Authorization", "Bearer " + tokenCliente)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isForbidden());
+
+            verify(solicitacaoService, never()).responderEmLote(any(), any());
+        }
     }
 
     @Nested
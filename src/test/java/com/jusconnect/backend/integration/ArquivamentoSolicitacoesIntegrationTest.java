@@ -0,0 +1,143 @@
+package com.jusconnect.backend.integration;
+
+import com.jusconnect.backend.config.JwtUtil;
+import com.jusconnect.backend.enums.StatusSolicitacao;
+import com.jusconnect.backend.models.Advogado;
+import com.jusconnect.backend.models.Cliente;
+import com.jusconnect.backend.models.Solicitacao;
+import com.jusconnect.backend.services.interfaces.AdvogadoServiceInterface;
+import com.jusconnect.backend.services.interfaces.ClienteServiceInterface;
+import com.jusconnect.backend.services.tarefas.ArquivamentoSolicitacoes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "solicitacoes.arquivamento.dias-encerradas=90",
+        "solicitacoes.arquivamento.dias-aceitas=365",
+        "solicitacoes.arquivamento.tamanho-lote=1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Teste de Integração - Arquivamento de solicitações encerradas")
+class ArquivamentoSolicitacoesIntegrationTest extends IntegracaoBase {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ArquivamentoSolicitacoes arquivamentoSolicitacoes;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ClienteServiceInterface clienteService;
+
+    @Autowired
+    private AdvogadoServiceInterface advogadoService;
+
+    private Cliente cliente;
+    private Advogado advogado;
+
+    @BeforeEach
+    void setUp() {
+        cliente = salvarCliente();
+        advogado = salvarAdvogado();
+    }
+
+    @Test
+    @DisplayName("Move as encerradas antigas para o histórico, que continua legível por cliente e advogado")
+    void deveArquivarEncerradasAntigas() throws Exception {
+        Long recusada = salvar(StatusSolicitacao.RECUSADA, 100);
+        Long cancelada = salvar(StatusSolicitacao.CANCELADA, 120);
+        Long aceitaAntiga = salvar(StatusSolicitacao.ACEITA, 400);
+        Long aceitaRecente = salvar(StatusSolicitacao.ACEITA, 100);
+        Long canceladaRecente = salvar(StatusSolicitacao.CANCELADA, 10);
+        Long pendente = salvar(StatusSolicitacao.PENDENTE, 400);
+
+        assertEquals(3, arquivamentoSolicitacoes.arquivar());
+
+        assertFalse(solicitacaoRepository.existsById(recusada));
+        assertFalse(solicitacaoRepository.existsById(cancelada));
+        assertFalse(solicitacaoRepository.existsById(aceitaAntiga));
+        assertTrue(solicitacaoRepository.existsById(aceitaRecente));
+        assertTrue(solicitacaoRepository.existsById(canceladaRecente));
+        assertTrue(solicitacaoRepository.existsById(pendente));
+        assertEquals(StatusSolicitacao.ACEITA, historicoRepository.findById(aceitaAntiga).orElseThrow().getStatus());
+
+        String tokenCliente = jwtUtil.generateTokenForCliente(cliente.getId(), cliente.getEmail());
+        mockMvc.perform(get("/solicitacoes/historico")
+                        .header("Authorization", "Bearer " + tokenCliente)
+                        .param("tamanho", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(2))
+                .andExpect(jsonPath("$.itens[0].id").value(recusada))
+                .andExpect(jsonPath("$.itens[0].clienteNome").value("Cliente"))
+                .andExpect(jsonPath("$.proximoCursor").isNotEmpty());
+
+        String tokenAdvogado = jwtUtil.generateTokenForAdvogado(advogado.getId(), advogado.getEmail());
+        mockMvc.perform(get("/solicitacoes/historico")
+                        .header("Authorization", "Bearer " + tokenAdvogado)
+                        .param("status", "ACEITA"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(1))
+                .andExpect(jsonPath("$.itens[0].id").value(aceitaAntiga))
+                .andExpect(jsonPath("$.itens[0].clienteEmail").value("cliente@mailclient.xyz"));
+    }
+
+    @Test
+    @DisplayName("Remove o histórico do cliente junto com a conta")
+    void deveRemoverHistoricoAoDeletarCliente() {
+        salvar(StatusSolicitacao.RECUSADA, 100);
+        salvar(StatusSolicitacao.ACEITA, 400);
+        assertEquals(2, arquivamentoSolicitacoes.arquivar());
+
+        clienteService.deletarPerfil(cliente.getId());
+
+        assertFalse(clienteRepository.existsById(cliente.getId()));
+        assertEquals(0, historicoRepository.count());
+    }
+
+    @Test
+    @DisplayName("Remove o histórico do advogado junto com a conta")
+    void deveRemoverHistoricoAoDeletarAdvogado() {
+        salvar(StatusSolicitacao.CANCELADA, 120);
+        salvar(StatusSolicitacao.ACEITA, 400);
+        assertEquals(2, arquivamentoSolicitacoes.arquivar());
+
+        advogadoService.deletarPerfil(advogado.getId());
+
+        assertFalse(advogadoRepository.existsById(advogado.getId()));
+        assertEquals(0, historicoRepository.count());
+    }
+
+    private Long salvar(StatusSolicitacao status, int diasAtras) {
+        Long id = solicitacaoRepository.save(Solicitacao.builder()
+                .descricao("Solicitação")
+                .status(status)
+                .publica(false)
+                .cliente(cliente)
+                .advogado(advogado)
+                .build()).getId();
+        jdbcTemplate.update("UPDATE solicitacoes SET data_criacao = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(diasAtras)), id);
+        return id;
+    }
+}
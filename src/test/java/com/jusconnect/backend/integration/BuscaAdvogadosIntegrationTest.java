@@ -0,0 +1,151 @@
+package com.jusconnect.backend.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jusconnect.backend.models.Advogado;
+import com.jusconnect.backend.repositories.AreaAtuacaoRepository;
+import com.jusconnect.backend.repositories.projections.ContagemAreaProjection;
+import com.jusconnect.backend.repositories.projections.ContagemFaixaProjection;
+import com.jusconnect.backend.services.search.AdvogadoSearchIndex;
+import com.jusconnect.backend.services.search.AreaAtuacaoDicionario;
+import com.jusconnect.backend.services.search.MemoriaBuscaTextualAdvogados;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Teste de Integração - Busca e paginação de advogados")
+class BuscaAdvogadosIntegrationTest extends IntegracaoBase {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AdvogadoSearchIndex advogadoSearchIndex;
+
+    @Autowired
+    private MemoriaBuscaTextualAdvogados buscaTextualAdvogados;
+
+    @Autowired
+    private AreaAtuacaoDicionario areaAtuacaoDicionario;
+
+    @Autowired
+    private AreaAtuacaoRepository areaAtuacaoRepository;
+
+    private Advogado a;
+    private Advogado b;
+    private Advogado c;
+
+    @BeforeEach
+    void setUp() {
+        a = salvarAdvogado("11111111111", "a@mailclient.xyz");
+        b = salvarAdvogado("22222222222", "b@mailclient.xyz");
+        c = salvarAdvogado("33333333333", "c@mailclient.xyz");
+        // Os repositórios são alterados diretamente, então os índices de busca precisam ser recarregados
+        advogadoSearchIndex.reconstruir();
+        buscaTextualAdvogados.reconstruir();
+    }
+
+    @Test
+    @DisplayName("Continua paginando quando um advogado do índice já saiu do banco, sem alterar o índice na leitura")
+    void deveManterCursorComIdRemovidoDoBanco() throws Exception {
+        // Removido por outra instância: o índice desta ainda o conhece
+        advogadoRepository.deleteById(a.getId());
+
+        JsonNode primeira = objectMapper.readTree(mockMvc.perform(get("/advogados").param("tamanho", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(1))
+                .andExpect(jsonPath("$.itens[0].id").value(b.getId()))
+                .andExpect(jsonPath("$.proximoCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString());
+
+        mockMvc.perform(get("/advogados")
+                        .param("tamanho", "2")
+                        .param("cursor", primeira.get("proximoCursor").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(1))
+                .andExpect(jsonPath("$.itens[0].id").value(c.getId()))
+                .andExpect(jsonPath("$.proximoCursor").doesNotExist());
+
+        assertTrue(advogadoSearchIndex.buscar(List.of(), null, null, null, 10).stream()
+                .anyMatch(entrada -> entrada.id() == a.getId()));
+    }
+
+    @Test
+    @DisplayName("As contagens do banco, usadas enquanto o índice carrega, coincidem com as do índice")
+    void deveContarFacetasNoBancoComoOIndice() {
+        List<AreaAtuacaoDicionario.Area> areas =
+                areaAtuacaoDicionario.resolver(List.of("Direito civil", "Direito criminal"));
+        Long civil = areas.get(0).id();
+        Long criminal = areas.get(1).id();
+        LocalDateTime agora = LocalDateTime.now();
+        salvarComAreas("44444444444", agora.minusMonths(2), civil);
+        salvarComAreas("55555555555", agora.minusMonths(13), civil, criminal);
+        salvarComAreas("66666666666", agora.minusMonths(30), criminal);
+        advogadoSearchIndex.reconstruir();
+
+        LocalDateTime corte = agora.minusMonths(1);
+        LocalDateTime[] limites = {
+                agora.minusMonths(6), agora.minusMonths(12), agora.minusMonths(24), agora.minusMonths(60)
+        };
+
+        Map<Long, Integer> porArea = porArea(advogadoRepository.countPorAreaCadastradosAte(corte));
+        assertEquals(Map.of(civil, 2, criminal, 2), porArea);
+        assertEquals(advogadoSearchIndex.buscarComFacetas(List.of(), corte, null, null, 0, limites).facetas().porArea(),
+                porArea);
+        assertEquals(advogadoSearchIndex.buscarComFacetas(List.of(), null, null, null, 0, limites).facetas().porArea(),
+                porArea(advogadoRepository.countPorArea()));
+
+        // Os três advogados do setUp, sem área, entram só na contagem sem filtro de área
+        int[] todas = porFaixa(advogadoRepository.countPorFaixaCadastro(limites[0], limites[1], limites[2], limites[3]));
+        assertArrayEquals(new int[]{4, 0, 1, 1, 0}, todas);
+        assertArrayEquals(advogadoSearchIndex.buscarComFacetas(List.of(), null, null, null, 0, limites).facetas().porFaixa(),
+                todas);
+
+        int[] civis = porFaixa(advogadoRepository.countPorFaixaCadastroNasAreas(
+                limites[0], limites[1], limites[2], limites[3], List.of(civil)));
+        assertArrayEquals(new int[]{1, 0, 1, 0, 0}, civis);
+        assertArrayEquals(advogadoSearchIndex.buscarComFacetas(List.of(civil), null, null, null, 0, limites).facetas()
+                .porFaixa(), civis);
+    }
+
+    private void salvarComAreas(String cpf, LocalDateTime dataCadastro, Long... areas) {
+        Advogado advogado = advogado(cpf, cpf + "@mailclient.xyz");
+        advogado.setDataCadastro(dataCadastro);
+        advogado.setAreas(new HashSet<>(areaAtuacaoRepository.findAllById(Arrays.asList(areas))));
+        advogadoRepository.save(advogado);
+    }
+
+    private static Map<Long, Integer> porArea(List<ContagemAreaProjection> contagens) {
+        Map<Long, Integer> porArea = new HashMap<>();
+        contagens.forEach(contagem -> porArea.put(contagem.getAreaId(), contagem.getQuantidade().intValue()));
+        return porArea;
+    }
+
+    private static int[] porFaixa(List<ContagemFaixaProjection> contagens) {
+        int[] porFaixa = new int[5];
+        contagens.forEach(contagem -> porFaixa[contagem.getFaixa()] = contagem.getQuantidade().intValue());
+        return porFaixa;
+    }
+}
@@ -0,0 +1,78 @@
+package com.jusconnect.backend.integration;
+
+import com.jusconnect.backend.config.JwtUtil;
+import com.jusconnect.backend.enums.StatusSolicitacao;
+import com.jusconnect.backend.models.Advogado;
+import com.jusconnect.backend.models.Cliente;
+import com.jusconnect.backend.models.Solicitacao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Teste de Integração - Contagem de solicitações por status")
+class ContagemSolicitacoesIntegrationTest extends IntegracaoBase {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private Cliente cliente;
+    private Advogado advogado;
+
+    @BeforeEach
+    void setUp() {
+        cliente = salvarCliente();
+        advogado = salvarAdvogado();
+    }
+
+    @Test
+    @DisplayName("Conta por status as solicitações do cliente e as direcionadas ao advogado")
+    void deveContarPorStatus() throws Exception {
+        salvar(StatusSolicitacao.PENDENTE, advogado);
+        salvar(StatusSolicitacao.PENDENTE, advogado);
+        salvar(StatusSolicitacao.ACEITA, advogado);
+        salvar(StatusSolicitacao.PENDENTE, null);
+
+        String tokenCliente = jwtUtil.generateTokenForCliente(cliente.getId(), cliente.getEmail());
+        mockMvc.perform(get("/solicitacoes/contagem")
+                        .header("Authorization", "Bearer " + tokenCliente))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.porStatus.PENDENTE").value(3))
+                .andExpect(jsonPath("$.porStatus.ACEITA").value(1))
+                .andExpect(jsonPath("$.porStatus.RECUSADA").value(0))
+                .andExpect(jsonPath("$.porStatus.EXPIRADA").value(0))
+                .andExpect(jsonPath("$.total").value(4));
+
+        // A pública sem advogado não entra na caixa dele
+        String tokenAdvogado = jwtUtil.generateTokenForAdvogado(advogado.getId(), advogado.getEmail());
+        mockMvc.perform(get("/solicitacoes/contagem")
+                        .header("Authorization", "Bearer " + tokenAdvogado))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.porStatus.PENDENTE").value(2))
+                .andExpect(jsonPath("$.porStatus.ACEITA").value(1))
+                .andExpect(jsonPath("$.total").value(3));
+    }
+
+    private void salvar(StatusSolicitacao status, Advogado destinatario) {
+        solicitacaoRepository.save(Solicitacao.builder()
+                .descricao("Solicitação")
+                .status(status)
+                .publica(destinatario == null)
+                .cliente(cliente)
+                .advogado(destinatario)
+                .build());
+    }
+}
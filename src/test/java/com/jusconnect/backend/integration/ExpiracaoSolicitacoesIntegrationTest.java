@@ -0,0 +1,94 @@
+package com.jusconnect.backend.integration;
+
+import com.jusconnect.backend.enums.StatusSolicitacao;
+import com.jusconnect.backend.models.Cliente;
+import com.jusconnect.backend.models.Solicitacao;
+import com.jusconnect.backend.models.TravaTarefa;
+import com.jusconnect.backend.services.tarefas.ExpiracaoSolicitacoes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "solicitacoes.expiracao.idade-dias=30",
+        "solicitacoes.expiracao.tamanho-lote=2"
+})
+@ActiveProfiles("test")
+@DisplayName("Teste de Integração - Expiração de solicitações pendentes")
+class ExpiracaoSolicitacoesIntegrationTest extends IntegracaoBase {
+
+    @Autowired
+    private ExpiracaoSolicitacoes expiracaoSolicitacoes;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Cliente cliente;
+
+    @BeforeEach
+    void setUp() {
+        cliente = salvarCliente();
+    }
+
+    @Test
+    @DisplayName("Expira em lotes apenas as pendentes mais antigas que a idade configurada")
+    void deveExpirarPendentesAntigas() {
+        Long antiga1 = salvar(StatusSolicitacao.PENDENTE, 40);
+        Long antiga2 = salvar(StatusSolicitacao.PENDENTE, 35);
+        Long antiga3 = salvar(StatusSolicitacao.PENDENTE, 31);
+        Long recente = salvar(StatusSolicitacao.PENDENTE, 5);
+        Long aceita = salvar(StatusSolicitacao.ACEITA, 60);
+
+        expiracaoSolicitacoes.executar();
+
+        assertEquals(StatusSolicitacao.EXPIRADA, status(antiga1));
+        assertEquals(StatusSolicitacao.EXPIRADA, status(antiga2));
+        assertEquals(StatusSolicitacao.EXPIRADA, status(antiga3));
+        assertNotNull(solicitacaoRepository.findById(antiga1).orElseThrow().getDataResposta());
+        assertEquals(StatusSolicitacao.PENDENTE, status(recente));
+        assertEquals(StatusSolicitacao.ACEITA, status(aceita));
+        // A trava é liberada ao fim da execução
+        assertEquals(0, travaTarefaRepository.count());
+    }
+
+    @Test
+    @DisplayName("Não executa enquanto outra instância detém a trava")
+    void naoDeveExecutarSemTrava() {
+        Long antiga = salvar(StatusSolicitacao.PENDENTE, 40);
+        travaTarefaRepository.save(TravaTarefa.builder()
+                .nome("expiracao-solicitacoes")
+                .dono("outra-instancia")
+                .expiraEm(LocalDateTime.now().plusMinutes(5))
+                .build());
+
+        expiracaoSolicitacoes.executar();
+
+        assertEquals(StatusSolicitacao.PENDENTE, status(antiga));
+    }
+
+    private Long salvar(StatusSolicitacao status, int diasAtras) {
+        Long id = solicitacaoRepository.save(Solicitacao.builder()
+                .descricao("Solicitação")
+                .status(status)
+                .publica(true)
+                .cliente(cliente)
+                .build()).getId();
+        // data_criacao é preenchida no @PrePersist; a idade é ajustada direto na tabela
+        jdbcTemplate.update("UPDATE solicitacoes SET data_criacao = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(diasAtras)), id);
+        return id;
+    }
+
+    private StatusSolicitacao status(Long id) {
+        return solicitacaoRepository.findById(id).orElseThrow().getStatus();
+    }
+}
@@ -6,6 +6,8 @@ import com.jusconnect.backend.enums.StatusSolicitacao;
 import com.jusconnect.backend.repositories.AdvogadoRepository;
 import com.jusconnect.backend.repositories.ClienteRepository;
 import com.jusconnect.backend.repositories.SolicitacaoRepository;
+import com.jusconnect.backend.services.search.AdvogadoSearchIndex;
+import com.jusconnect.backend.services.search.MemoriaBuscaTextualAdvogados;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -15,6 +17,8 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.List;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -40,6 +44,12 @@ class FluxoCompletoIntegrationTest {
     @Autowired
     private SolicitacaoRepository solicitacaoRepository;
 
+    @Autowired
+    private AdvogadoSearchIndex advogadoSearchIndex;
+
+    @Autowired
+    private MemoriaBuscaTextualAdvogados buscaTextualAdvogados;
+
     private static String tokenCliente;
     private static String tokenAdvogado;
     private static Long clienteId;
@@ -51,6 +61,9 @@ class FluxoCompletoIntegrationTest {
         solicitacaoRepository.deleteAll();
         clienteRepository.deleteAll();
         advogadoRepository.deleteAll();
+        // Os repositórios são limpos diretamente, então os índices de busca precisam ser recarregados
+        advogadoSearchIndex.reconstruir();
+        buscaTextualAdvogados.reconstruir();
     }
 
     @Test
@@ -226,9 +239,9 @@ class FluxoCompletoIntegrationTest {
         mockMvc.perform(get("/solicitacoes/minhas")
                         .header("Authorization", "Bearer " + tokenCliente))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(solicitacaoId))
-                .andExpect(jsonPath("$[0].status").value("PENDENTE"))
-                .andExpect(jsonPath("$[0].descricao").value("Preciso de ajuda com processo trabalhista"));
+                .andExpect(jsonPath("$.itens[0].id").value(solicitacaoId))
+                .andExpect(jsonPath("$.itens[0].status").value("PENDENTE"))
+                .andExpect(jsonPath("$.itens[0].descricao").value("Preciso de ajuda com processo trabalhista"));
     }
 
     @Test
@@ -242,8 +255,8 @@ class FluxoCompletoIntegrationTest {
         mockMvc.perform(get("/solicitacoes/para-mim")
                         .header("Authorization", "Bearer " + tokenAdvogado))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(solicitacaoId))
-                .andExpect(jsonPath("$[0].advogadoId").value(advogadoId));
+                .andExpect(jsonPath("$.itens[0].id").value(solicitacaoId))
+                .andExpect(jsonPath("$.itens[0].advogadoId").value(advogadoId));
     }
 
     @Test
@@ -359,4 +372,211 @@ class FluxoCompletoIntegrationTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(content().string(org.hamcrest.Matchers.containsString("solicitações aceitas")));
     }
-}
\ No newline at end of file
+
+    @Test
+    @Order(12)
+    @DisplayName("Fluxo: Busca de advogados por área de atuação e tempo na plataforma")
+    void deveBuscarAdvogadosPorAreaETempo() throws Exception {
+        deveRealizarLoginClienteEAdvogado();
+
+        // Área é comparada sem diferenciar maiúsculas e espaços nas bordas
+        mockMvc.perform(get("/advogados")
+                        .param("areaAtuacao", "  DIREITO CRIMINAL ")
+                        .header("Authorization", "Bearer " + tokenCliente))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(1))
+                .andExpect(jsonPath("$.itens[0].id").value(advogadoId));
+
+        mockMvc.perform(get("/advogados")
+                        .param("areaAtuacao", "Direito de família")
+                        .header("Authorization", "Bearer " + tokenCliente))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(0));
+
+        // Advogado recém-cadastrado não atende a um tempo mínimo de 1 mês
+        mockMvc.perform(get("/advogados")
+                        .param("tempoMinMeses", "1")
+                        .header("Authorization", "Bearer " + tokenCliente))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(0));
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Fluxo: Diretório de advogados paginado por cursor")
+    void devePaginarDiretorioDeAdvogados() throws Exception {
+        deveRealizarLoginClienteEAdvogado();
+
+        for (String nome : new String[]{"Ana", "Bruno"}) {
+            AdvogadoRequestDTO request = AdvogadoRequestDTO.builder()
+                    .nome(nome)
+                    .cpf(nome.equals("Ana") ? "11111111111" : "22222222222")
+                    .email(nome.toLowerCase() + "@mailclient.xyz")
+                    .telefone("83988061717")
+                    .area_de_atuacao("Direito civil")
+                    .autodescricao("Advogado(a) " + nome)
+                    .senha("123456")
+                    .build();
+            mockMvc.perform(post("/advogados")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        MvcResult primeiraPagina = mockMvc.perform(get("/advogados")
+                        .param("tamanho", "2")
+                        .header("Authorization", "Bearer " + tokenCliente))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(2))
+                .andExpect(jsonPath("$.itens[0].nome").value("Ana"))
+                .andExpect(jsonPath("$.itens[1].nome").value("Bruno"))
+                .andExpect(jsonPath("$.proximoCursor").exists())
+                .andReturn();
+
+        String cursor = objectMapper.readTree(primeiraPagina.getResponse().getContentAsString())
+                .get("proximoCursor").asText();
+
+        mockMvc.perform(get("/advogados")
+                        .param("tamanho", "2")
+                        .param("cursor", cursor)
+                        .header("Authorization", "Bearer " + tokenCliente))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(1))
+                .andExpect(jsonPath("$.itens[0].nome").value("João"))
+                .andExpect(jsonPath("$.proximoCursor").doesNotExist());
+
+        mockMvc.perform(get("/advogados")
+                        .param("cursor", "cursor-invalido")
+                        .header("Authorization", "Bearer " + tokenCliente))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Fluxo: Busca textual de advogados ranqueada e paginada")
+    void deveBuscarAdvogadosPorTexto() throws Exception {
+        deveRealizarLoginClienteEAdvogado();
+
+        AdvogadoRequestDTO request = AdvogadoRequestDTO.builder()
+                .nome("Carla Trabalhista")
+                .cpf("33333333333")
+                .email("carla@mailclient.xyz")
+                .telefone("83988061717")
+                .area_de_atuacao("Direito do trabalho")
+                .autodescricao("Atuo em ações trabalhistas rurais e divórcios consensuais")
+                .senha("123456")
+                .build();
+        mockMvc.perform(post("/advogados")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        // Acentos e plural não impedem a correspondência
+        mockMvc.perform(get("/advogados/busca")
+                        .param("q", "divorcio consensual")
+                        .header("Authorization", "Bearer " + tokenCliente))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(1))
+                .andExpect(jsonPath("$.itens[0].nome").value("Carla Trabalhista"));
+
+        // Mesma relevância (termo na área dos dois): desempate por id, paginado por cursor
+        MvcResult primeiraPagina = mockMvc.perform(get("/advogados/busca")
+                        .param("q", "direito")
+                        .param("tamanho", "1")
+                        .header("Authorization", "Bearer " + tokenCliente))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(1))
+                .andExpect(jsonPath("$.itens[0].id").value(advogadoId))
+                .andExpect(jsonPath("$.proximoCursor").exists())
+                .andReturn();
+
+        String cursor = objectMapper.readTree(primeiraPagina.getResponse().getContentAsString())
+                .get("proximoCursor").asText();
+
+        mockMvc.perform(get("/advogados/busca")
+                        .param("q", "direito")
+                        .param("tamanho", "1")
+                        .param("cursor", cursor)
+                        .header("Authorization", "Bearer " + tokenCliente))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(1))
+                .andExpect(jsonPath("$.itens[0].nome").value("Carla Trabalhista"))
+                .andExpect(jsonPath("$.proximoCursor").doesNotExist());
+
+        mockMvc.perform(get("/advogados/busca")
+                        .param("q", "   ")
+                        .header("Authorization", "Bearer " + tokenCliente))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/advogados/busca")
+                        .param("q", "trabalhista")
+                        .header("Authorization", "Bearer " + tokenAdvogado))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("Fluxo: Áreas de atuação canônicas e filtro por várias áreas")
+    void deveFiltrarPorVariasAreasCanonicas() throws Exception {
+        deveRealizarLoginClienteEAdvogado();
+
+        // Grafias diferentes da mesma área são unificadas na forma já cadastrada
+        AdvogadoRequestDTO request = AdvogadoRequestDTO.builder()
+                .nome("Dani")
+                .cpf("44444444444")
+                .email("dani@mailclient.xyz")
+                .telefone("83988061717")
+                .area_de_atuacao("  direito   CRIMINAL ")
+                .areas_de_atuacao(List.of("Direito Previdenciário", "direito previdenciário"))
+                .autodescricao("Atuo na área penal e previdenciária")
+                .senha("123456")
+                .build();
+        mockMvc.perform(post("/advogados")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.area_de_atuacao").value("Direito criminal, Direito Previdenciário"));
+
+        mockMvc.perform(get("/advogados")
+                        .param("areaAtuacao", "DIREITO PREVIDENCIÁRIO")
+                        .header("Authorization", "Bearer " + tokenCliente))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(1))
+                .andExpect(jsonPath("$.itens[0].nome").value("Dani"));
+
+        mockMvc.perform(get("/advogados")
+                        .param("areaAtuacao", "Direito criminal")
+                        .param("areaAtuacao", "Direito previdenciário")
+                        .header("Authorization", "Bearer " + tokenCliente))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(2))
+                .andExpect(jsonPath("$.itens[0].nome").value("Dani"))
+                .andExpect(jsonPath("$.itens[1].nome").value("João"));
+
+        // Facetas: cada área conta os advogados dela; todos estão na faixa mais recente
+        mockMvc.perform(get("/advogados")
+                        .param("areaAtuacao", "Direito previdenciário")
+                        .param("facetas", "true")
+                        .header("Authorization", "Bearer " + tokenCliente))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(1))
+                .andExpect(jsonPath("$.facetas.areas.length()").value(2))
+                .andExpect(jsonPath("$.facetas.areas[0].valor").value("Direito criminal"))
+                .andExpect(jsonPath("$.facetas.areas[0].quantidade").value(2))
+                .andExpect(jsonPath("$.facetas.areas[1].valor").value("Direito Previdenciário"))
+                .andExpect(jsonPath("$.facetas.areas[1].quantidade").value(1))
+                .andExpect(jsonPath("$.facetas.tempoNaPlataforma[0].valor").value("Menos de 6 meses"))
+                .andExpect(jsonPath("$.facetas.tempoNaPlataforma[0].quantidade").value(1));
+
+        mockMvc.perform(get("/advogados")
+                        .header("Authorization", "Bearer " + tokenCliente))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.facetas").doesNotExist());
+
+        mockMvc.perform(get("/advogados")
+                        .param("areaAtuacao", "Área inexistente")
+                        .header("Authorization", "Bearer " + tokenCliente))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(0));
+    }
+}
@@ -0,0 +1,94 @@
+package com.jusconnect.backend.integration;
+
+import com.jusconnect.backend.models.Advogado;
+import com.jusconnect.backend.models.Cliente;
+import com.jusconnect.backend.repositories.AdvogadoRepository;
+import com.jusconnect.backend.repositories.ClienteRepository;
+import com.jusconnect.backend.repositories.ReservaSolicitacaoRepository;
+import com.jusconnect.backend.repositories.SolicitacaoHistoricoRepository;
+import com.jusconnect.backend.repositories.SolicitacaoRepository;
+import com.jusconnect.backend.repositories.TravaTarefaRepository;
+import com.jusconnect.backend.services.reservas.ReservasSolicitacoes;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Base dos testes de integração: limpa as tabelas antes de cada teste e fornece
+ * o cliente e os advogados usados como dados de teste.
+ */
+abstract class IntegracaoBase {
+
+    @Autowired
+    protected ClienteRepository clienteRepository;
+
+    @Autowired
+    protected AdvogadoRepository advogadoRepository;
+
+    @Autowired
+    protected SolicitacaoRepository solicitacaoRepository;
+
+    @Autowired
+    protected SolicitacaoHistoricoRepository historicoRepository;
+
+    @Autowired
+    protected ReservaSolicitacaoRepository reservaRepository;
+
+    @Autowired
+    protected TravaTarefaRepository travaTarefaRepository;
+
+    @Autowired
+    protected ReservasSolicitacoes reservasSolicitacoes;
+
+    // Roda antes do @BeforeEach da subclasse; a ordem respeita as chaves estrangeiras
+    @BeforeEach
+    void limparTabelas() {
+        travaTarefaRepository.deleteAll();
+        historicoRepository.deleteAll();
+        reservaRepository.deleteAll();
+        solicitacaoRepository.deleteAll();
+        clienteRepository.deleteAll();
+        advogadoRepository.deleteAll();
+        // O índice de reservas em memória é compartilhado pelos testes do mesmo contexto
+        reservasSolicitacoes.varrer();
+    }
+
+    protected Cliente salvarCliente() {
+        return clienteRepository.save(Cliente.builder()
+                .nome("Cliente")
+                .cpf("12345678909")
+                .senha("senha")
+                .email("cliente@mailclient.xyz")
+                .telefone("83988061717")
+                .build());
+    }
+
+    protected Advogado salvarAdvogado() {
+        return advogadoRepository.save(advogado("12345678912", "advogado@mailclient.xyz"));
+    }
+
+    protected Advogado salvarAdvogado(String cpf, String email) {
+        return advogadoRepository.save(advogado(cpf, email));
+    }
+
+    protected static Cliente cliente(String cpf) {
+        return Cliente.builder()
+                .nome("Cliente " + cpf)
+                .cpf(cpf)
+                .senha("senha")
+                .email(cpf + "@mailclient.xyz")
+                .telefone("83988061717")
+                .build();
+    }
+
+    protected static Advogado advogado(String cpf, String email) {
+        return Advogado.builder()
+                .nome("Advogado " + cpf)
+                .cpf(cpf)
+                .senha("senha")
+                .email(email)
+                .telefone("83988061717")
+                .autodescricao("Advogado de teste")
+                .area_de_atuacao("Direito civil")
+                .build();
+    }
+}
@@ -0,0 +1,147 @@
+package com.jusconnect.backend.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jusconnect.backend.config.JwtUtil;
+import com.jusconnect.backend.dtos.SolicitacaoUpdateDTO;
+import com.jusconnect.backend.enums.StatusSolicitacao;
+import com.jusconnect.backend.models.Advogado;
+import com.jusconnect.backend.models.Cliente;
+import com.jusconnect.backend.models.ReservaSolicitacao;
+import com.jusconnect.backend.models.Solicitacao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Teste de Integração - Reserva de solicitações públicas")
+class ReservaSolicitacaoIntegrationTest extends IntegracaoBase {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private Long solicitacaoId;
+    private String tokenAdvogadoA;
+    private String tokenAdvogadoB;
+
+    @BeforeEach
+    void setUp() {
+        Cliente cliente = salvarCliente();
+        solicitacaoId = solicitacaoRepository.save(Solicitacao.builder()
+                .descricao("Solicitação pública")
+                .status(StatusSolicitacao.PENDENTE)
+                .publica(true)
+                .cliente(cliente)
+                .build()).getId();
+
+        Advogado a = salvarAdvogado("11111111111", "a@mailclient.xyz");
+        Advogado b = salvarAdvogado("22222222222", "b@mailclient.xyz");
+        tokenAdvogadoA = jwtUtil.generateTokenForAdvogado(a.getId(), a.getEmail());
+        tokenAdvogadoB = jwtUtil.generateTokenForAdvogado(b.getId(), b.getEmail());
+    }
+
+    @Test
+    @DisplayName("Reserva é exclusiva, aparece em /publicas e bloqueia respostas de outros advogados")
+    void deveReservarComExclusividade() throws Exception {
+        mockMvc.perform(post("/solicitacoes/" + solicitacaoId + "/reserva")
+                        .header("Authorization", "Bearer " + tokenAdvogadoA))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.solicitacaoId").value(solicitacaoId));
+
+        mockMvc.perform(post("/solicitacoes/" + solicitacaoId + "/reserva")
+                        .header("Authorization", "Bearer " + tokenAdvogadoB))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(get("/solicitacoes/publicas")
+                        .header("Authorization", "Bearer " + tokenAdvogadoB))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens[0].reservada").value(true))
+                .andExpect(jsonPath("$.itens[0].reservadaPorMim").value(false));
+
+        mockMvc.perform(get("/solicitacoes/publicas")
+                        .header("Authorization", "Bearer " + tokenAdvogadoA))
+                .andExpect(jsonPath("$.itens[0].reservadaPorMim").value(true));
+
+        mockMvc.perform(put("/solicitacoes/" + solicitacaoId + "/responder")
+                        .header("Authorization", "Bearer " + tokenAdvogadoB)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(aceitar())))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(put("/solicitacoes/" + solicitacaoId + "/responder")
+                        .header("Authorization", "Bearer " + tokenAdvogadoA)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(aceitar())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("ACEITA"));
+
+        // A reserva deixa de existir quando a solicitação sai do feed
+        assertFalse(reservaRepository.existsById(solicitacaoId));
+    }
+
+    @Test
+    @DisplayName("Reserva expirada é varrida e pode ser assumida por outro advogado")
+    void deveLiberarReservaExpirada() throws Exception {
+        mockMvc.perform(post("/solicitacoes/" + solicitacaoId + "/reserva")
+                        .header("Authorization", "Bearer " + tokenAdvogadoA))
+                .andExpect(status().isOk());
+
+        // Simula a passagem do tempo
+        ReservaSolicitacao reserva = reservaRepository.findById(solicitacaoId).orElseThrow();
+        reserva.setExpiraEm(LocalDateTime.now().minusMinutes(1));
+        reservaRepository.save(reserva);
+        reservasSolicitacoes.varrer();
+
+        assertFalse(reservaRepository.existsById(solicitacaoId));
+        mockMvc.perform(get("/solicitacoes/publicas")
+                        .header("Authorization", "Bearer " + tokenAdvogadoB))
+                .andExpect(jsonPath("$.itens[0].reservada").doesNotExist());
+
+        mockMvc.perform(post("/solicitacoes/" + solicitacaoId + "/reserva")
+                        .header("Authorization", "Bearer " + tokenAdvogadoB))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Advogado pode liberar a própria reserva")
+    void deveLiberarReserva() throws Exception {
+        mockMvc.perform(post("/solicitacoes/" + solicitacaoId + "/reserva")
+                        .header("Authorization", "Bearer " + tokenAdvogadoA))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/solicitacoes/" + solicitacaoId + "/reserva")
+                        .header("Authorization", "Bearer " + tokenAdvogadoB))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(delete("/solicitacoes/" + solicitacaoId + "/reserva")
+                        .header("Authorization", "Bearer " + tokenAdvogadoA))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/solicitacoes/" + solicitacaoId + "/reserva")
+                        .header("Authorization", "Bearer " + tokenAdvogadoB))
+                .andExpect(status().isOk());
+    }
+
+    private static SolicitacaoUpdateDTO aceitar() {
+        return SolicitacaoUpdateDTO.builder().status(StatusSolicitacao.ACEITA).build();
+    }
+}
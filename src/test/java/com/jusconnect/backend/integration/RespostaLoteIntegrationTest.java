@@ -0,0 +1,133 @@
+package com.jusconnect.backend.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jusconnect.backend.config.JwtUtil;
+import com.jusconnect.backend.dtos.DecisaoRespostaDTO;
+import com.jusconnect.backend.dtos.RespostaLoteRequestDTO;
+import com.jusconnect.backend.enums.StatusSolicitacao;
+import com.jusconnect.backend.models.Advogado;
+import com.jusconnect.backend.models.Cliente;
+import com.jusconnect.backend.models.Solicitacao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Teste de Integração - Resposta em lote de solicitações")
+class RespostaLoteIntegrationTest extends IntegracaoBase {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private Cliente cliente;
+    private Advogado advogadoA;
+    private Advogado advogadoB;
+    private String tokenAdvogadoA;
+
+    @BeforeEach
+    void setUp() {
+        cliente = salvarCliente();
+        advogadoA = salvarAdvogado("11111111111", "a@mailclient.xyz");
+        advogadoB = salvarAdvogado("22222222222", "b@mailclient.xyz");
+        tokenAdvogadoA = jwtUtil.generateTokenForAdvogado(advogadoA.getId(), advogadoA.getEmail());
+    }
+
+    @Test
+    @DisplayName("Aplica as decisões válidas e informa o motivo de cada falha")
+    void deveResponderEmLoteComResultadosIndividuais() throws Exception {
+        Long publica = salvar(true, null, StatusSolicitacao.PENDENTE);
+        Long direcionada = salvar(false, advogadoA, StatusSolicitacao.PENDENTE);
+        Long deOutro = salvar(false, advogadoB, StatusSolicitacao.PENDENTE);
+        Long respondida = salvar(true, null, StatusSolicitacao.ACEITA);
+        Long reservada = salvar(true, null, StatusSolicitacao.PENDENTE);
+        reservasSolicitacoes.reservar(reservada, advogadoB.getId());
+
+        RespostaLoteRequestDTO request = new RespostaLoteRequestDTO(List.of(
+                new DecisaoRespostaDTO(publica, StatusSolicitacao.ACEITA),
+                new DecisaoRespostaDTO(direcionada, StatusSolicitacao.RECUSADA),
+                new DecisaoRespostaDTO(deOutro, StatusSolicitacao.ACEITA),
+                new DecisaoRespostaDTO(respondida, StatusSolicitacao.ACEITA),
+                new DecisaoRespostaDTO(reservada, StatusSolicitacao.ACEITA),
+                new DecisaoRespostaDTO(Long.MAX_VALUE, StatusSolicitacao.ACEITA),
+                new DecisaoRespostaDTO(publica, StatusSolicitacao.RECUSADA),
+                new DecisaoRespostaDTO(direcionada, StatusSolicitacao.PENDENTE)));
+
+        mockMvc.perform(put("/solicitacoes/responder-em-lote")
+                        .header("Authorization", "Bearer " + tokenAdvogadoA)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(8))
+                .andExpect(jsonPath("$[0].codigo").value(200))
+                .andExpect(jsonPath("$[0].status").value("ACEITA"))
+                .andExpect(jsonPath("$[1].codigo").value(200))
+                .andExpect(jsonPath("$[1].status").value("RECUSADA"))
+                .andExpect(jsonPath("$[2].codigo").value(400))
+                .andExpect(jsonPath("$[3].codigo").value(409))
+                .andExpect(jsonPath("$[4].codigo").value(409))
+                .andExpect(jsonPath("$[5].codigo").value(404))
+                .andExpect(jsonPath("$[6].codigo").value(400))
+                .andExpect(jsonPath("$[6].erro").value("Solicitação repetida no lote"))
+                .andExpect(jsonPath("$[7].codigo").value(400));
+
+        Solicitacao aceita = solicitacaoRepository.findComParticipantesById(publica).orElseThrow();
+        assertEquals(StatusSolicitacao.ACEITA, aceita.getStatus());
+        assertEquals(advogadoA.getId(), aceita.getAdvogado().getId());
+        assertNotNull(aceita.getDataResposta());
+        assertEquals(StatusSolicitacao.RECUSADA, solicitacaoRepository.findById(direcionada).orElseThrow().getStatus());
+        assertEquals(StatusSolicitacao.PENDENTE, solicitacaoRepository.findById(deOutro).orElseThrow().getStatus());
+        assertEquals(StatusSolicitacao.PENDENTE, solicitacaoRepository.findById(reservada).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("O UPDATE condicional barra a reserva que o índice em memória ainda não conhece")
+    void deveRespeitarReservaGravadaPorOutroNo() throws Exception {
+        Long publica = salvar(true, null, StatusSolicitacao.PENDENTE);
+        // Reserva gravada direto na tabela, como se viesse de outro nó antes da próxima varredura
+        reservaRepository.inserir(publica, advogadoB.getId(), LocalDateTime.now().plusMinutes(5));
+
+        RespostaLoteRequestDTO request = new RespostaLoteRequestDTO(
+                List.of(new DecisaoRespostaDTO(publica, StatusSolicitacao.ACEITA)));
+
+        mockMvc.perform(put("/solicitacoes/responder-em-lote")
+                        .header("Authorization", "Bearer " + tokenAdvogadoA)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].sucesso").value(false))
+                .andExpect(jsonPath("$[0].codigo").value(409));
+
+        assertEquals(StatusSolicitacao.PENDENTE, solicitacaoRepository.findById(publica).orElseThrow().getStatus());
+    }
+
+    private Long salvar(boolean publica, Advogado advogado, StatusSolicitacao status) {
+        return solicitacaoRepository.save(Solicitacao.builder()
+                .descricao("Solicitação")
+                .status(status)
+                .publica(publica)
+                .cliente(cliente)
+                .advogado(advogado)
+                .build()).getId();
+    }
+}
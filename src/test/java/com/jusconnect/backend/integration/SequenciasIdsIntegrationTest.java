@@ -0,0 +1,60 @@
+package com.jusconnect.backend.integration;
+
+import com.jusconnect.backend.config.SequenciasIds;
+import com.jusconnect.backend.models.Cliente;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Teste de Integração - Ids por sequência")
+class SequenciasIdsIntegrationTest extends IntegracaoBase {
+
+    @Autowired
+    private SequenciasIds sequenciasIds;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Ids de um lote saem do mesmo bloco da sequência")
+    void deveNumerarLoteEmSequencia() {
+        List<Cliente> novos = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            novos.add(cliente(String.format("%011d", i + 1)));
+        }
+
+        List<Long> ids = clienteRepository.saveAll(novos).stream().map(Cliente::getId).sorted().toList();
+
+        assertEquals(10, ids.size());
+        assertTrue(ids.get(9) - ids.get(0) < SequenciasIds.ALOCACAO);
+    }
+
+    @Test
+    @DisplayName("Alinhamento avança a sequência para além de ids gravados pela antiga coluna IDENTITY")
+    void deveAlinharSequenciaAoMaiorId() {
+        Long legado = clienteRepository.save(cliente("00000000001")).getId() + 10 * SequenciasIds.ALOCACAO;
+        jdbcTemplate.update("INSERT INTO clientes (id, nome, cpf, senha, email, telefone) VALUES (?, ?, ?, ?, ?, ?)",
+                legado, "Legado", "00000000002", "senha", "legado@mailclient.xyz", "83988061717");
+
+        sequenciasIds.alinhar();
+
+        // Só blocos novos, alocados depois do alinhamento, passam do id legado
+        List<Cliente> novos = new ArrayList<>();
+        for (int i = 0; i < SequenciasIds.ALOCACAO; i++) {
+            novos.add(cliente(String.format("%011d", i + 3)));
+        }
+        List<Cliente> salvos = clienteRepository.saveAll(novos);
+        assertTrue(salvos.stream().noneMatch(c -> c.getId().equals(legado)));
+        assertTrue(salvos.get(salvos.size() - 1).getId() > legado);
+    }
+}
@@ -0,0 +1,110 @@
+package com.jusconnect.backend.integration;
+
+import com.jusconnect.backend.dtos.SolicitacaoUpdateDTO;
+import com.jusconnect.backend.enums.StatusSolicitacao;
+import com.jusconnect.backend.models.Advogado;
+import com.jusconnect.backend.models.Cliente;
+import com.jusconnect.backend.models.Solicitacao;
+import com.jusconnect.backend.services.exceptions.SolicitacaoJaRespondidaException;
+import com.jusconnect.backend.services.interfaces.SolicitacaoServiceInterface;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Teste de Integração - Respostas concorrentes a solicitações públicas")
+class SolicitacaoConcorrenciaIntegrationTest extends IntegracaoBase {
+
+    private static final int ADVOGADOS = 8;
+
+    @Autowired
+    private SolicitacaoServiceInterface solicitacaoService;
+
+    @Test
+    @DisplayName("Apenas um advogado consegue aceitar; os demais recebem conflito")
+    void deveAceitarApenasUmaRespostaConcorrente() throws Exception {
+        Cliente cliente = salvarCliente();
+        Long solicitacaoId = solicitacaoRepository.save(Solicitacao.builder()
+                .descricao("Solicitação disputada")
+                .status(StatusSolicitacao.PENDENTE)
+                .publica(true)
+                .cliente(cliente)
+                .build()).getId();
+
+        // Inseridos num único batch
+        List<Advogado> novos = new ArrayList<>();
+        for (int i = 0; i < ADVOGADOS; i++) {
+            novos.add(advogado(String.format("%011d", i + 1), "advogado" + i + "@mailclient.xyz"));
+        }
+        List<Long> advogados = advogadoRepository.saveAll(novos).stream().map(Advogado::getId).toList();
+
+        SolicitacaoUpdateDTO aceitar = SolicitacaoUpdateDTO.builder().status(StatusSolicitacao.ACEITA).build();
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(ADVOGADOS);
+        try {
+            List<Future<Long>> respostas = new ArrayList<>();
+            for (Long advogadoId : advogados) {
+                respostas.add(executor.submit(() -> {
+                    largada.await();
+                    try {
+                        solicitacaoService.responderSolicitacao(solicitacaoId, advogadoId, aceitar);
+                        return advogadoId;
+                    } catch (SolicitacaoJaRespondidaException e) {
+                        return null;
+                    }
+                }));
+            }
+            largada.countDown();
+
+            List<Long> vencedores = new ArrayList<>();
+            for (Future<Long> resposta : respostas) {
+                Long vencedor = resposta.get(30, TimeUnit.SECONDS);
+                if (vencedor != null) {
+                    vencedores.add(vencedor);
+                }
+            }
+
+            assertEquals(1, vencedores.size());
+            Solicitacao gravada = solicitacaoRepository.findComParticipantesById(solicitacaoId).orElseThrow();
+            assertEquals(StatusSolicitacao.ACEITA, gravada.getStatus());
+            assertEquals(vencedores.get(0), gravada.getAdvogado().getId());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Cancelamento não sobrescreve uma resposta já gravada")
+    void naoDeveCancelarSolicitacaoJaRespondida() {
+        Cliente cliente = salvarCliente();
+        Advogado advogado = salvarAdvogado();
+        Long solicitacaoId = solicitacaoRepository.save(Solicitacao.builder()
+                .descricao("Solicitação")
+                .status(StatusSolicitacao.PENDENTE)
+                .publica(true)
+                .cliente(cliente)
+                .build()).getId();
+
+        // A resposta do advogado é gravada entre a leitura e a escrita do cancelamento
+        assertEquals(1, solicitacaoRepository.responderSePendente(solicitacaoId, advogado, advogado.getId(),
+                StatusSolicitacao.ACEITA, LocalDateTime.now(), StatusSolicitacao.PENDENTE));
+
+        assertEquals(0, solicitacaoRepository.cancelarSePendente(solicitacaoId, cliente.getId(),
+                StatusSolicitacao.CANCELADA, LocalDateTime.now(), StatusSolicitacao.PENDENTE));
+        assertEquals(StatusSolicitacao.ACEITA, solicitacaoRepository.findById(solicitacaoId).orElseThrow().getStatus());
+    }
+}
@@ -0,0 +1,169 @@
+package com.jusconnect.backend.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jusconnect.backend.config.JwtUtil;
+import com.jusconnect.backend.enums.StatusSolicitacao;
+import com.jusconnect.backend.models.Advogado;
+import com.jusconnect.backend.models.Cliente;
+import com.jusconnect.backend.models.Solicitacao;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Teste de Integração - Quantidade de consultas nas listagens de solicitações")
+class SolicitacaoConsultasIntegrationTest extends IntegracaoBase {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Listagens executam o mesmo número de consultas para poucas ou muitas solicitações")
+    void deveManterQuantidadeDeConsultasConstante() throws Exception {
+        Advogado advogado = salvarAdvogado();
+
+        List<Long> poucas = contarConsultas(criarSolicitacoes(2, advogado));
+        List<Long> muitas = contarConsultas(criarSolicitacoes(40, advogado));
+
+        assertEquals(poucas, muitas);
+        muitas.forEach(quantidade -> assertTrue(quantidade <= 2, "Consultas por listagem: " + quantidade));
+    }
+
+    @Test
+    @DisplayName("Caixa do cliente filtra por status e data e pagina da mais recente para a mais antiga")
+    void deveFiltrarEPaginarCaixaDoCliente() throws Exception {
+        Advogado advogado = salvarAdvogado();
+        String tokenCliente = criarSolicitacoes(5, advogado);
+        List<Solicitacao> criadas = solicitacaoRepository.findAll(Sort.by("id"));
+        criadas.get(1).setStatus(StatusSolicitacao.ACEITA);
+        criadas.get(3).setStatus(StatusSolicitacao.RECUSADA);
+        solicitacaoRepository.saveAll(criadas);
+
+        List<Long> idsDesc = criadas.stream().map(Solicitacao::getId).sorted(Comparator.reverseOrder()).toList();
+
+        // Filtro por mais de um status
+        mockMvc.perform(get("/solicitacoes/minhas")
+                        .header("Authorization", "Bearer " + tokenCliente)
+                        .param("status", "ACEITA", "RECUSADA"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(2))
+                .andExpect(jsonPath("$.itens[0].status").value("RECUSADA"))
+                .andExpect(jsonPath("$.itens[1].status").value("ACEITA"));
+
+        // Intervalo de datas sem solicitações
+        String amanha = LocalDate.now().plusDays(1).toString();
+        mockMvc.perform(get("/solicitacoes/minhas")
+                        .header("Authorization", "Bearer " + tokenCliente)
+                        .param("criadaDe", amanha))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(0))
+                .andExpect(jsonPath("$.proximoCursor").doesNotExist());
+
+        // Percorre todas as páginas pelo cursor
+        List<Long> vistos = new ArrayList<>();
+        String cursor = null;
+        do {
+            var requisicao = get("/solicitacoes/minhas")
+                    .header("Authorization", "Bearer " + tokenCliente)
+                    .param("criadaAte", LocalDate.now().toString())
+                    .param("tamanho", "2");
+            if (cursor != null) {
+                requisicao.param("cursor", cursor);
+            }
+            JsonNode pagina = objectMapper.readTree(mockMvc.perform(requisicao)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            pagina.get("itens").forEach(item -> vistos.add(item.get("id").asLong()));
+            cursor = pagina.hasNonNull("proximoCursor") ? pagina.get("proximoCursor").asText() : null;
+        } while (cursor != null);
+
+        assertEquals(idsDesc, vistos);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para cursor inválido")
+    void deveRejeitarCursorInvalido() throws Exception {
+        Advogado advogado = salvarAdvogado();
+        String tokenCliente = criarSolicitacoes(1, advogado);
+
+        mockMvc.perform(get("/solicitacoes/minhas")
+                        .header("Authorization", "Bearer " + tokenCliente)
+                        .param("cursor", "nao-e-um-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // Cria um cliente com n solicitações: metade direcionadas ao advogado e metade públicas
+    private String criarSolicitacoes(int n, Advogado advogado) {
+        Cliente cliente = clienteRepository.save(cliente(String.format("%011d", n)));
+
+        List<Solicitacao> solicitacoes = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            boolean publica = i % 2 == 0;
+            solicitacoes.add(Solicitacao.builder()
+                    .descricao("Solicitação " + i)
+                    .status(StatusSolicitacao.PENDENTE)
+                    .publica(publica)
+                    .cliente(cliente)
+                    .advogado(publica ? null : advogado)
+                    .build());
+        }
+        solicitacaoRepository.saveAll(solicitacoes);
+
+        return jwtUtil.generateTokenForCliente(cliente.getId(), cliente.getEmail());
+    }
+
+    private List<Long> contarConsultas(String tokenCliente) throws Exception {
+        Advogado advogado = advogadoRepository.findAll().get(0);
+        String tokenAdvogado = jwtUtil.generateTokenForAdvogado(advogado.getId(), advogado.getEmail());
+
+        List<Long> quantidades = new ArrayList<>();
+        quantidades.add(consultasDe("/solicitacoes/minhas", tokenCliente));
+        quantidades.add(consultasDe("/solicitacoes/para-mim", tokenAdvogado));
+        quantidades.add(consultasDe("/solicitacoes/publicas", tokenAdvogado));
+        return quantidades;
+    }
+
+    private long consultasDe(String url, String token) throws Exception {
+        statistics.clear();
+        mockMvc.perform(get(url).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,82 @@
+package com.jusconnect.backend.integration;
+
+import com.jusconnect.backend.dtos.ResultadoDestinatarioDTO;
+import com.jusconnect.backend.dtos.SolicitacaoMultiplaRequestDTO;
+import com.jusconnect.backend.enums.StatusSolicitacao;
+import com.jusconnect.backend.models.Advogado;
+import com.jusconnect.backend.models.Cliente;
+import com.jusconnect.backend.models.Solicitacao;
+import com.jusconnect.backend.services.interfaces.SolicitacaoServiceInterface;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Teste de Integração - Envio de solicitação a vários advogados")
+class SolicitacaoEmLoteIntegrationTest extends IntegracaoBase {
+
+    @Autowired
+    private SolicitacaoServiceInterface solicitacaoService;
+
+    private Cliente cliente;
+
+    @BeforeEach
+    void setUp() {
+        cliente = salvarCliente();
+    }
+
+    @Test
+    @DisplayName("Cria uma solicitação direcionada por advogado válido e informa o motivo das recusas")
+    void deveCriarParaCadaAdvogadoValido() {
+        Advogado a = salvarAdvogado("11111111111", "a@mailclient.xyz");
+        Advogado b = salvarAdvogado("22222222222", "b@mailclient.xyz");
+        Advogado comPendente = salvarAdvogado("33333333333", "c@mailclient.xyz");
+        solicitacaoRepository.save(Solicitacao.builder()
+                .descricao("Anterior")
+                .status(StatusSolicitacao.PENDENTE)
+                .publica(false)
+                .cliente(cliente)
+                .advogado(comPendente)
+                .build());
+
+        List<ResultadoDestinatarioDTO> resultados = solicitacaoService.criarSolicitacoes(
+                SolicitacaoMultiplaRequestDTO.builder()
+                        .clienteId(cliente.getId())
+                        .descricao("Revisão de contrato de aluguel")
+                        .advogadoIds(List.of(a.getId(), comPendente.getId(), Long.MAX_VALUE, b.getId(), a.getId()))
+                        .build());
+
+        assertEquals(List.of(201, 400, 404, 201, 400),
+                resultados.stream().map(ResultadoDestinatarioDTO::getCodigo).toList());
+        assertEquals(a.getId(), resultados.get(0).getSolicitacao().getAdvogadoId());
+        assertEquals(b.getId(), resultados.get(3).getSolicitacao().getAdvogadoId());
+        assertFalse(resultados.get(0).getSolicitacao().getPublica());
+
+        assertTrue(solicitacaoRepository.existsByClienteIdAndAdvogadoIdAndStatus(
+                cliente.getId(), a.getId(), StatusSolicitacao.PENDENTE));
+        assertTrue(solicitacaoRepository.existsByClienteIdAndAdvogadoIdAndStatus(
+                cliente.getId(), b.getId(), StatusSolicitacao.PENDENTE));
+        assertEquals(3, solicitacaoRepository.count());
+    }
+
+    @Test
+    @DisplayName("Falha inteira quando o cliente não existe")
+    void deveFalharParaClienteInexistente() {
+        SolicitacaoMultiplaRequestDTO request = SolicitacaoMultiplaRequestDTO.builder()
+                .clienteId(Long.MAX_VALUE)
+                .descricao("Descrição")
+                .advogadoIds(List.of(1L))
+                .build();
+
+        assertThrows(EntityNotFoundException.class, () -> solicitacaoService.criarSolicitacoes(request));
+    }
+}
@@ -0,0 +1,130 @@
+package com.jusconnect.backend.services.eventos;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do stream SSE de solicitações públicas")
+class SolicitacoesPublicasStreamTest {
+
+    // Entrega síncrona, para que o teste veja os envios logo após publicar
+    private static final Executor DIRETO = Runnable::run;
+
+    @Test
+    @DisplayName("Deve entregar o evento com id e nome aos assinantes")
+    void deveEntregarEvento() {
+        SolicitacoesPublicasStream stream = new SolicitacoesPublicasStream(8, 10, 10, 0, DIRETO);
+        EmitterGravador emitter = new EmitterGravador();
+        stream.assinar(emitter, null);
+
+        stream.entregar(criada(1L));
+        stream.entregar(EventoSolicitacaoPublica.removida(1L));
+
+        assertEquals(2, emitter.enviados.size());
+        assertTrue(emitter.enviados.get(0).contains("id:1-c"));
+        assertTrue(emitter.enviados.get(0).contains("event:criada"));
+        assertTrue(emitter.enviados.get(1).contains("id:1-r"));
+        assertTrue(emitter.enviados.get(1).contains("event:removida"));
+    }
+
+    @Test
+    @DisplayName("Deve reenviar apenas os eventos posteriores ao Last-Event-ID")
+    void deveRetomarPeloUltimoEvento() {
+        SolicitacoesPublicasStream stream = new SolicitacoesPublicasStream(8, 10, 10, 0, DIRETO);
+        stream.entregar(criada(1L));
+        stream.entregar(criada(2L));
+        stream.entregar(criada(3L));
+
+        EmitterGravador emitter = new EmitterGravador();
+        stream.assinar(emitter, "1-c");
+
+        assertEquals(2, emitter.enviados.size());
+        assertTrue(emitter.enviados.get(0).contains("id:2-c"));
+        assertTrue(emitter.enviados.get(1).contains("id:3-c"));
+    }
+
+    @Test
+    @DisplayName("Deve pedir reinício quando o Last-Event-ID saiu do histórico")
+    void devePedirReinicioParaIdDesconhecido() {
+        SolicitacoesPublicasStream stream = new SolicitacoesPublicasStream(8, 2, 10, 0, DIRETO);
+        stream.entregar(criada(1L));
+        stream.entregar(criada(2L));
+        stream.entregar(criada(3L));
+
+        EmitterGravador emitter = new EmitterGravador();
+        stream.assinar(emitter, "1-c");
+
+        assertEquals(1, emitter.enviados.size());
+        assertTrue(emitter.enviados.get(0).contains("event:" + SolicitacoesPublicasStream.EVENTO_REINICIO));
+    }
+
+    @Test
+    @DisplayName("Deve desconectar o assinante cuja fila encheu")
+    void deveDesconectarAssinanteLento() {
+        // Entregador que nunca drena: simula um cliente que não consome
+        List<Runnable> pendentes = new ArrayList<>();
+        SolicitacoesPublicasStream stream = new SolicitacoesPublicasStream(2, 10, 10, 0, pendentes::add);
+        EmitterGravador emitter = new EmitterGravador();
+        stream.assinar(emitter, null);
+
+        stream.entregar(criada(1L));
+        stream.entregar(criada(2L));
+        assertEquals(1, stream.getAssinantes());
+
+        stream.entregar(criada(3L));
+        assertEquals(0, stream.getAssinantes());
+        assertTrue(emitter.completado);
+    }
+
+    @Test
+    @DisplayName("Deve recusar assinantes acima do limite")
+    void deveRecusarAcimaDoLimite() {
+        SolicitacoesPublicasStream stream = new SolicitacoesPublicasStream(8, 10, 1, 0, DIRETO);
+        stream.assinar(new EmitterGravador(), null);
+
+        assertThrows(IllegalStateException.class, () -> stream.assinar(new EmitterGravador(), null));
+    }
+
+    @Test
+    @DisplayName("Deve enviar heartbeat como comentário SSE")
+    void deveEnviarHeartbeat() {
+        SolicitacoesPublicasStream stream = new SolicitacoesPublicasStream(8, 10, 10, 0, DIRETO);
+        EmitterGravador emitter = new EmitterGravador();
+        stream.assinar(emitter, null);
+
+        stream.enviarHeartbeat();
+
+        assertEquals(List.of(":heartbeat\n\n"), emitter.enviados);
+    }
+
+    private static EventoSolicitacaoPublica criada(Long id) {
+        return new EventoSolicitacaoPublica(id + "-c", EventoSolicitacaoPublica.Tipo.CRIADA, id,
+                "Solicitação " + id, LocalDateTime.of(2025, 6, 1, 12, 0));
+    }
+
+    // Guarda o texto de cada evento enviado em vez de escrever numa resposta HTTP
+    private static class EmitterGravador extends SseEmitter {
+
+        private final List<String> enviados = new ArrayList<>();
+        private boolean completado;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            StringBuilder texto = new StringBuilder();
+            builder.build().forEach(parte -> texto.append(parte.getData() instanceof String s ? s : "<dados>"));
+            enviados.add(texto.toString());
+        }
+
+        @Override
+        public void complete() {
+            completado = true;
+        }
+    }
+}
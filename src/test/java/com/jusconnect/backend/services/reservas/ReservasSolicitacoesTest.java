@@ -0,0 +1,51 @@
+package com.jusconnect.backend.services.reservas;
+
+import com.jusconnect.backend.models.ReservaSolicitacao;
+import com.jusconnect.backend.repositories.ReservaSolicitacaoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes do índice de reservas de solicitações")
+class ReservasSolicitacoesTest {
+
+    private ReservaSolicitacaoRepository repository;
+    private ReservasSolicitacoes reservas;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ReservaSolicitacaoRepository.class);
+        when(repository.findById(1L)).thenReturn(Optional.of(ReservaSolicitacao.builder()
+                .solicitacaoId(1L)
+                .advogadoId(7L)
+                .expiraEm(LocalDateTime.now().plusMinutes(5))
+                .build()));
+        reservas = new ReservasSolicitacoes(repository, 10);
+    }
+
+    @Test
+    @DisplayName("Consulta a tabela enquanto a primeira varredura não carregou o índice")
+    void deveConsultarTabelaAntesDaPrimeiraVarredura() {
+        assertEquals(7L, reservas.ativa(1L).orElseThrow().advogadoId());
+        verify(repository).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Depois da varredura responde só pelo índice")
+    void deveResponderPeloIndiceAposVarredura() {
+        when(repository.findAtivas(any(LocalDateTime.class))).thenReturn(List.of());
+
+        reservas.varrer();
+
+        assertTrue(reservas.ativa(1L).isEmpty());
+        verify(repository, never()).findById(1L);
+    }
+}
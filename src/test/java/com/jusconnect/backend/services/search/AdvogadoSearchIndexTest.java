@@ -0,0 +1,297 @@
+package com.jusconnect.backend.services.search;
+
+import com.jusconnect.backend.models.Advogado;
+import com.jusconnect.backend.models.AreaAtuacao;
+import com.jusconnect.backend.repositories.AdvogadoRepository;
+import com.jusconnect.backend.repositories.projections.AdvogadoAreaProjection;
+import com.jusconnect.backend.repositories.projections.AdvogadoIndiceProjection;
+import com.jusconnect.backend.repositories.projections.AdvogadoNomeOrdenacaoProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes do índice de busca de advogados")
+class AdvogadoSearchIndexTest {
+
+    private static final long CIVIL = 10L;
+    private static final long CRIMINAL = 20L;
+    private static final long FAMILIA = 30L;
+
+    private static final LocalDateTime AGORA = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private AdvogadoSearchIndex indice;
+
+    @BeforeEach
+    void setUp() {
+        AdvogadoRepository repository = mock(AdvogadoRepository.class);
+        when(repository.findAllParaIndice()).thenReturn(List.of());
+        when(repository.findAllAreasParaIndice()).thenReturn(List.of());
+        indice = new AdvogadoSearchIndex(repository);
+        indice.reconstruir();
+
+        indice.atualizar(advogado(1L, "Carla", AGORA.minusMonths(24), CIVIL));
+        indice.atualizar(advogado(2L, "Ana", AGORA.minusMonths(2), CIVIL, FAMILIA));
+        indice.atualizar(advogado(3L, "Bruno", AGORA.minusMonths(12), CRIMINAL));
+        indice.atualizar(advogado(4L, "Ana", AGORA.minusDays(3), CRIMINAL));
+    }
+
+    @Test
+    @DisplayName("Deve listar todos em ordem de nome e id")
+    void deveListarEmOrdemDeNome() {
+        assertEquals(List.of(2L, 4L, 3L, 1L), ids(indice.buscar(null, null, null, null, 10)));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar pela chave sem acentos nem maiúsculas, a mesma gravada no banco")
+    void deveOrdenarPelaChaveDeOrdenacao() {
+        indice.atualizar(advogado(5L, "Álvaro", AGORA, CIVIL));
+        indice.atualizar(advogado(6L, "de Souza", AGORA, CIVIL));
+
+        // Pela comparação de Strings, "Álvaro" viria depois de todos e "de Souza" depois de "Carla" por acaso
+        assertEquals(List.of(5L, 2L, 4L, 3L, 1L, 6L), ids(indice.buscar(null, null, null, null, 10)));
+        // Cursor com o nome original ou com a chave posiciona no mesmo ponto
+        assertEquals(List.of(2L, 4L), ids(indice.buscar(null, null, "Álvaro", 5L, 2)));
+        assertEquals(List.of(2L, 4L), ids(indice.buscar(null, null, "alvaro", 5L, 2)));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar o fim de uma palavra antes da continuação dela")
+    void deveSepararPalavrasNaOrdenacao() {
+        indice.atualizar(advogado(5L, "Anabela", AGORA, CIVIL));
+        indice.atualizar(advogado(6L, "Ana Souza", AGORA, CIVIL));
+
+        assertEquals(List.of(2L, 4L, 6L, 5L, 3L, 1L), ids(indice.buscar(null, null, null, null, 10)));
+        assertEquals(List.of(5L), ids(indice.buscar(null, null, "Ana Souza", 6L, 1)));
+    }
+
+    @Test
+    @DisplayName("Deve gerar a chave de ordenação só com letras e dígitos ASCII")
+    void deveGerarChaveDeOrdenacao() {
+        assertEquals("alvaro0de0souza", Advogado.chaveOrdenacao(" Álvaro  de\tSouza "));
+        assertEquals("joao0davila02", Advogado.chaveOrdenacao("JOÃO D'Ávila 2"));
+        assertEquals("lukasz0orsted", Advogado.chaveOrdenacao("Łukasz Ørsted"));
+        assertEquals("strasse0aeron", Advogado.chaveOrdenacao("STRAẞE Æron"));
+        assertEquals("", Advogado.chaveOrdenacao(null));
+        assertTrue(Advogado.chaveOrdenacao("Ana Souza").compareTo(Advogado.chaveOrdenacao("Anabela")) < 0);
+        // A chave normalizada de novo não muda: é o que o cursor carrega
+        assertEquals("ana0souza", Advogado.chaveOrdenacao(Advogado.chaveOrdenacao("Ana Souza")));
+    }
+
+    @Test
+    @DisplayName("Deve recalcular na inicialização as chaves ausentes ou de uma regra anterior")
+    void deveAtualizarChavesDeOrdenacao() {
+        AdvogadoRepository repository = mock(AdvogadoRepository.class);
+        List<AdvogadoNomeOrdenacaoProjection> gravadas = List.of(
+                nomeOrdenacaoProjection(1L, "Ana Souza", "anasouza"),
+                nomeOrdenacaoProjection(2L, "Bruno", null),
+                nomeOrdenacaoProjection(3L, "Carla Lima", "carla0lima"));
+        when(repository.findAllNomesOrdenacao()).thenReturn(gravadas);
+
+        new AdvogadoSearchIndex(repository).atualizarNomesOrdenacao();
+
+        verify(repository).atualizarNomeOrdenacao(1L, "ana0souza");
+        verify(repository).atualizarNomeOrdenacao(2L, "bruno");
+        verify(repository, never()).atualizarNomeOrdenacao(eq(3L), anyString());
+    }
+
+    @Test
+    @DisplayName("Deve filtrar por qualquer uma das áreas")
+    void deveFiltrarPorArea() {
+        assertEquals(List.of(2L, 1L), ids(indice.buscar(List.of(CIVIL), null, null, null, 10)));
+        assertEquals(List.of(2L, 4L, 3L), ids(indice.buscar(List.of(FAMILIA, CRIMINAL), null, null, null, 10)));
+        assertEquals(List.of(2L, 1L), ids(indice.buscar(List.of(CIVIL, FAMILIA), null, null, null, 10)));
+        assertTrue(indice.buscar(List.of(99L), null, null, null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar o corte de data de cadastro")
+    void deveAplicarCorteDeData() {
+        assertEquals(List.of(3L, 1L), ids(indice.buscar(null, AGORA.minusMonths(6), null, null, 10)));
+        assertEquals(List.of(1L), ids(indice.buscar(List.of(CIVIL), AGORA.minusMonths(6), null, null, 10)));
+        // Corte seletivo percorre o array ordenado por data
+        assertEquals(List.of(1L), ids(indice.buscar(null, AGORA.minusMonths(18), null, null, 10)));
+    }
+
+    @Test
+    @DisplayName("Deve continuar a partir do cursor")
+    void deveContinuarAPartirDoCursor() {
+        assertEquals(List.of(2L, 4L), ids(indice.buscar(null, null, null, null, 2)));
+        assertEquals(List.of(3L, 1L), ids(indice.buscar(null, null, "Ana", 4L, 2)));
+        assertEquals(List.of(4L), ids(indice.buscar(List.of(CRIMINAL), null, "Ana", 2L, 1)));
+    }
+
+    @Test
+    @DisplayName("Deve refletir alterações e remoções")
+    void deveRefletirAlteracoes() {
+        indice.atualizar(advogado(3L, "Bruno", AGORA.minusMonths(12), CIVIL));
+        indice.remover(1L);
+
+        assertEquals(List.of(2L, 3L), ids(indice.buscar(List.of(CIVIL), null, null, null, 10)));
+        assertEquals(List.of(4L), ids(indice.buscar(List.of(CRIMINAL), null, null, null, 10)));
+    }
+
+    @Test
+    @DisplayName("Alterações incrementais devem chegar ao mesmo índice que a reconstrução completa")
+    void deveEquivalerAReconstrucao() {
+        indice.atualizar(advogado(5L, "Ana", AGORA.minusMonths(12), CIVIL, CRIMINAL));
+        indice.atualizar(advogado(2L, "Zeca", AGORA.minusMonths(2), FAMILIA));
+        indice.remover(3L);
+        indice.atualizar(advogado(6L, "Bia", null));
+        indice.atualizar(advogado(1L, "Carla", AGORA.minusMonths(24), FAMILIA));
+
+        AdvogadoRepository repository = mock(AdvogadoRepository.class);
+        List<AdvogadoIndiceProjection> advogados = List.of(
+                indiceProjection(1L, "Carla", AGORA.minusMonths(24)),
+                indiceProjection(2L, "Zeca", AGORA.minusMonths(2)),
+                indiceProjection(4L, "Ana", AGORA.minusDays(3)),
+                indiceProjection(5L, "Ana", AGORA.minusMonths(12)),
+                indiceProjection(6L, "Bia", null));
+        List<AdvogadoAreaProjection> areas = List.of(
+                areaProjection(1L, FAMILIA), areaProjection(2L, FAMILIA), areaProjection(4L, CRIMINAL),
+                areaProjection(5L, CIVIL), areaProjection(5L, CRIMINAL));
+        when(repository.findAllParaIndice()).thenReturn(advogados);
+        when(repository.findAllAreasParaIndice()).thenReturn(areas);
+        AdvogadoSearchIndex completo = new AdvogadoSearchIndex(repository);
+        completo.reconstruir();
+
+        List<List<Long>> filtros = List.of(List.of(), List.of(CIVIL), List.of(CRIMINAL), List.of(FAMILIA),
+                List.of(CIVIL, FAMILIA));
+        List<LocalDateTime> cortes = Arrays.asList(null, AGORA.minusMonths(6), AGORA.minusMonths(18));
+        LocalDateTime[] limites = {AGORA.minusMonths(6), AGORA.minusMonths(12), AGORA.minusMonths(24)};
+        for (List<Long> filtro : filtros) {
+            for (LocalDateTime corte : cortes) {
+                assertEquals(ids(completo.buscar(filtro, corte, null, null, 10)),
+                        ids(indice.buscar(filtro, corte, null, null, 10)));
+                assertEquals(ids(completo.buscar(filtro, corte, "Ana", 4L, 10)),
+                        ids(indice.buscar(filtro, corte, "Ana", 4L, 10)));
+                assertEquals(facetas(completo, filtro, corte, limites).porArea(),
+                        facetas(indice, filtro, corte, limites).porArea());
+                assertArrayEquals(facetas(completo, filtro, corte, limites).porFaixa(),
+                        facetas(indice, filtro, corte, limites).porFaixa());
+            }
+        }
+        assertEquals(List.of(4L, 5L, 6L, 1L, 2L), ids(indice.buscar(null, null, null, null, 10)));
+    }
+
+    @Test
+    @DisplayName("Deve manter as alterações confirmadas enquanto a reconstrução lia o banco")
+    void deveReaplicarAlteracoesDuranteReconstrucao() {
+        AdvogadoRepository repository = mock(AdvogadoRepository.class);
+        AdvogadoSearchIndex reconstruido = new AdvogadoSearchIndex(repository);
+        AdvogadoIndiceProjection carla = indiceProjection(1L, "Carla");
+        AdvogadoIndiceProjection ana = indiceProjection(2L, "Ana");
+        // A leitura do banco devolve o estado anterior às alterações feitas durante ela
+        when(repository.findAllParaIndice()).thenAnswer(inv -> {
+            reconstruido.remover(1L);
+            reconstruido.atualizar(advogado(2L, "Ana", AGORA, CRIMINAL));
+            return List.of(carla, ana);
+        });
+        when(repository.findAllAreasParaIndice()).thenReturn(List.of());
+
+        reconstruido.reconstruir();
+
+        assertEquals(List.of(2L), ids(reconstruido.buscar(null, null, null, null, 10)));
+        assertEquals(List.of(2L), ids(reconstruido.buscar(List.of(CRIMINAL), null, null, null, 10)));
+
+        // Fora de uma reconstrução nada fica registrado: a próxima volta a refletir só o banco
+        when(repository.findAllParaIndice()).thenReturn(List.of(carla));
+        reconstruido.reconstruir();
+        assertEquals(List.of(1L), ids(reconstruido.buscar(null, null, null, null, 10)));
+    }
+
+    @Test
+    @DisplayName("Deve contar facetas por área e por faixa de tempo")
+    void deveContarFacetas() {
+        LocalDateTime[] limites = {
+                AGORA.minusMonths(6), AGORA.minusMonths(12), AGORA.minusMonths(24), AGORA.minusMonths(60)
+        };
+
+        AdvogadoSearchIndex.Facetas todas = facetas(indice, List.of(), null, limites);
+        assertEquals(Map.of(CIVIL, 2, CRIMINAL, 2, FAMILIA, 1), todas.porArea());
+        assertArrayEquals(new int[]{2, 0, 1, 1, 0}, todas.porFaixa());
+
+        // Áreas respeitam o corte de tempo; faixas respeitam o filtro de áreas
+        assertEquals(Map.of(CIVIL, 1, CRIMINAL, 1), facetas(indice, List.of(), AGORA.minusMonths(6), limites).porArea());
+        assertArrayEquals(new int[]{1, 0, 0, 1, 0}, facetas(indice, List.of(CIVIL), null, limites).porFaixa());
+        assertArrayEquals(new int[]{2, 0, 1, 1, 0}, facetas(indice, List.of(CIVIL, CRIMINAL), null, limites).porFaixa());
+    }
+
+    @Test
+    @DisplayName("Deve montar a mesma página da busca simples enquanto conta as facetas de todo o cadastro")
+    void deveMontarPaginaJuntoComFacetas() {
+        LocalDateTime[] limites = {AGORA.minusMonths(6), AGORA.minusMonths(12)};
+
+        AdvogadoSearchIndex.Pagina pagina = indice.buscarComFacetas(List.of(CIVIL, CRIMINAL), AGORA.minusMonths(1),
+                "Ana", 2L, 1, limites);
+
+        assertEquals(ids(indice.buscar(List.of(CIVIL, CRIMINAL), AGORA.minusMonths(1), "Ana", 2L, 1)),
+                ids(pagina.entradas()));
+        assertEquals(List.of(3L), ids(pagina.entradas()));
+        // O cursor e o limite da página não alteram as contagens
+        assertEquals(Map.of(CIVIL, 2, CRIMINAL, 1, FAMILIA, 1), pagina.facetas().porArea());
+        assertArrayEquals(new int[]{2, 0, 2}, pagina.facetas().porFaixa());
+    }
+
+    private static AdvogadoSearchIndex.Facetas facetas(AdvogadoSearchIndex indice, List<Long> areas,
+                                                       LocalDateTime corte, LocalDateTime[] limites) {
+        return indice.buscarComFacetas(areas, corte, null, null, 0, limites).facetas();
+    }
+
+    private static Advogado advogado(Long id, String nome, LocalDateTime dataCadastro, Long... areas) {
+        Set<AreaAtuacao> areasAtuacao = Arrays.stream(areas)
+                .map(area -> AreaAtuacao.builder().id(area).build())
+                .collect(Collectors.toSet());
+        return Advogado.builder()
+                .id(id)
+                .nome(nome)
+                .areas(areasAtuacao)
+                .dataCadastro(dataCadastro)
+                .build();
+    }
+
+    private static AdvogadoIndiceProjection indiceProjection(Long id, String nome) {
+        return indiceProjection(id, nome, AGORA);
+    }
+
+    private static AdvogadoIndiceProjection indiceProjection(Long id, String nome, LocalDateTime dataCadastro) {
+        AdvogadoIndiceProjection projection = mock(AdvogadoIndiceProjection.class);
+        when(projection.getId()).thenReturn(id);
+        when(projection.getNome()).thenReturn(nome);
+        when(projection.getDataCadastro()).thenReturn(dataCadastro);
+        return projection;
+    }
+
+    private static AdvogadoNomeOrdenacaoProjection nomeOrdenacaoProjection(Long id, String nome, String nomeOrdenacao) {
+        AdvogadoNomeOrdenacaoProjection projection = mock(AdvogadoNomeOrdenacaoProjection.class);
+        when(projection.getId()).thenReturn(id);
+        when(projection.getNome()).thenReturn(nome);
+        when(projection.getNomeOrdenacao()).thenReturn(nomeOrdenacao);
+        return projection;
+    }
+
+    private static AdvogadoAreaProjection areaProjection(Long advogadoId, Long areaId) {
+        AdvogadoAreaProjection projection = mock(AdvogadoAreaProjection.class);
+        when(projection.getAdvogadoId()).thenReturn(advogadoId);
+        when(projection.getAreaId()).thenReturn(areaId);
+        return projection;
+    }
+
+    private static List<Long> ids(List<AdvogadoSearchIndex.Entrada> entradas) {
+        return entradas.stream().map(AdvogadoSearchIndex.Entrada::id).toList();
+    }
+}
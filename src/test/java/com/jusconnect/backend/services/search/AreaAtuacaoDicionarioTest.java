@@ -0,0 +1,87 @@
+package com.jusconnect.backend.services.search;
+
+import com.jusconnect.backend.models.AreaAtuacao;
+import com.jusconnect.backend.repositories.AdvogadoRepository;
+import com.jusconnect.backend.repositories.AreaAtuacaoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes do dicionário de áreas de atuação")
+class AreaAtuacaoDicionarioTest {
+
+    private AreaAtuacaoRepository areaAtuacaoRepository;
+    private PlatformTransactionManager transactionManager;
+    private AreaAtuacaoDicionario dicionario;
+
+    @BeforeEach
+    void setUp() {
+        areaAtuacaoRepository = mock(AreaAtuacaoRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(areaAtuacaoRepository.findByNomeNormalizado("trabalhista")).thenReturn(Optional.empty());
+
+        dicionario = new AreaAtuacaoDicionario(areaAtuacaoRepository, mock(AdvogadoRepository.class),
+                new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("Cria a área nova numa transação própria e reaproveita a mesma instância depois")
+    void deveCriarEmTransacaoPropria() {
+        when(areaAtuacaoRepository.saveAndFlush(any(AreaAtuacao.class))).thenReturn(area(7L, "Trabalhista"));
+
+        List<AreaAtuacaoDicionario.Area> primeira = dicionario.resolver(List.of("Trabalhista", " trabalhista "));
+        List<AreaAtuacaoDicionario.Area> segunda = dicionario.resolver(List.of("TRABALHISTA"));
+
+        assertEquals(1, primeira.size());
+        assertSame(primeira.get(0), segunda.get(0));
+        assertSame(primeira.get(0), dicionario.buscarPorId(7L));
+        verify(areaAtuacaoRepository, times(1)).saveAndFlush(any(AreaAtuacao.class));
+        verify(transactionManager).getTransaction(argThat((TransactionDefinition definicao) ->
+                definicao.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    @DisplayName("Relê a área quando outra instância a criou em paralelo")
+    void deveRelerAreaCriadaEmParalelo() {
+        when(areaAtuacaoRepository.findByNomeNormalizado("trabalhista"))
+                .thenReturn(Optional.empty(), Optional.of(area(9L, "trabalhista")));
+        when(areaAtuacaoRepository.saveAndFlush(any(AreaAtuacao.class)))
+                .thenThrow(new DataIntegrityViolationException("nome_normalizado duplicado"));
+
+        List<AreaAtuacaoDicionario.Area> areas = dicionario.resolver(List.of("Trabalhista"));
+
+        assertEquals(9L, areas.get(0).id());
+        assertSame(areas.get(0), dicionario.buscar("Trabalhista"));
+    }
+
+    @Test
+    @DisplayName("Não guarda nada quando a gravação falha sem que a área exista")
+    void naoDeveGuardarAreaQueNaoFoiGravada() {
+        DataIntegrityViolationException erro = new DataIntegrityViolationException("falha");
+        when(areaAtuacaoRepository.saveAndFlush(any(AreaAtuacao.class))).thenThrow(erro);
+
+        assertSame(erro, assertThrows(DataIntegrityViolationException.class,
+                () -> dicionario.resolver(List.of("Trabalhista"))));
+        assertNull(dicionario.buscar("Trabalhista"));
+    }
+
+    private static AreaAtuacao area(Long id, String nome) {
+        return AreaAtuacao.builder()
+                .id(id)
+                .nome(nome)
+                .nomeNormalizado(AreaAtuacao.normalizar(nome))
+                .build();
+    }
+}
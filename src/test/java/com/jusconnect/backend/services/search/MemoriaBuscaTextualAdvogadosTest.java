@@ -0,0 +1,106 @@
+package com.jusconnect.backend.services.search;
+
+import com.jusconnect.backend.models.Advogado;
+import com.jusconnect.backend.repositories.AdvogadoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes da busca textual em memória")
+class MemoriaBuscaTextualAdvogadosTest {
+
+    private MemoriaBuscaTextualAdvogados busca;
+
+    @BeforeEach
+    void setUp() {
+        AdvogadoRepository repository = mock(AdvogadoRepository.class);
+        when(repository.findAll()).thenReturn(List.of(
+                advogado(1L, "Maria Souza", "Direito de família", "Atuo em divórcios consensuais e guarda"),
+                advogado(2L, "Pedro Lima", "Direito do trabalho", "Ações trabalhistas rurais e urbanas"),
+                advogado(3L, "Trabalhista Silva", "Direito civil", "Contratos e divórcio litigioso")));
+        busca = new MemoriaBuscaTextualAdvogados(repository);
+        busca.reconstruir();
+    }
+
+    @Test
+    @DisplayName("Deve exigir todos os termos ignorando acentos e plural")
+    void deveExigirTodosOsTermos() {
+        assertEquals(List.of(1L), ids(busca.buscar("divórcio consensual", null, null, 10)));
+        assertEquals(List.of(2L), ids(busca.buscar("trabalhista rural", null, null, 10)));
+        assertTrue(busca.buscar("divórcio tributário", null, null, 10).isEmpty());
+        assertTrue(busca.buscar("de do", null, null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve ranquear termos do nome acima da autodescrição")
+    void deveRanquearPorCampo() {
+        assertEquals(List.of(3L, 2L), ids(busca.buscar("trabalhista", null, null, 10)));
+    }
+
+    @Test
+    @DisplayName("Deve paginar a partir do cursor de relevância e id")
+    void devePaginarPorCursor() {
+        List<BuscaTextualAdvogados.Resultado> primeira = busca.buscar("direito", null, null, 2);
+        assertEquals(List.of(1L, 2L), ids(primeira));
+
+        BuscaTextualAdvogados.Resultado ultimo = primeira.get(1);
+        assertEquals(List.of(3L), ids(busca.buscar("direito", ultimo.relevancia(), ultimo.id(), 2)));
+    }
+
+    @Test
+    @DisplayName("Deve refletir atualizações e remoções")
+    void deveRefletirAlteracoes() {
+        busca.indexar(advogado(1L, "Maria Souza", "Direito tributário", "Planejamento tributário"));
+        busca.remover(2L);
+
+        assertEquals(List.of(1L), ids(busca.buscar("tributario", null, null, 10)));
+        assertTrue(busca.buscar("consensual", null, null, 10).isEmpty());
+        assertTrue(busca.buscar("rural", null, null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve manter as alterações feitas enquanto a reconstrução lia o banco")
+    void deveReaplicarAlteracoesDuranteReconstrucao() {
+        AdvogadoRepository repository = mock(AdvogadoRepository.class);
+        MemoriaBuscaTextualAdvogados reconstruida = new MemoriaBuscaTextualAdvogados(repository);
+        Advogado maria = advogado(1L, "Maria Souza", "Direito de família", "Divórcios consensuais");
+        Advogado pedro = advogado(2L, "Pedro Lima", "Direito do trabalho", "Ações trabalhistas");
+        // A leitura do banco devolve o estado anterior às alterações feitas durante ela
+        when(repository.findAll()).thenAnswer(inv -> {
+            reconstruida.remover(1L);
+            reconstruida.indexar(advogado(2L, "Pedro Lima", "Direito tributário", "Planejamento tributário"));
+            return List.of(maria, pedro);
+        });
+
+        reconstruida.reconstruir();
+
+        assertTrue(reconstruida.buscar("consensual", null, null, 10).isEmpty());
+        assertTrue(reconstruida.buscar("trabalhista", null, null, 10).isEmpty());
+        assertEquals(List.of(2L), ids(reconstruida.buscar("tributario", null, null, 10)));
+
+        // Fora de uma reconstrução nada fica registrado: a próxima volta a refletir só o banco
+        when(repository.findAll()).thenReturn(List.of(maria));
+        reconstruida.reconstruir();
+        assertEquals(List.of(1L), ids(reconstruida.buscar("consensual", null, null, 10)));
+        assertTrue(reconstruida.buscar("tributario", null, null, 10).isEmpty());
+    }
+
+    private static Advogado advogado(Long id, String nome, String area, String autodescricao) {
+        return Advogado.builder()
+                .id(id)
+                .nome(nome)
+                .area_de_atuacao(area)
+                .autodescricao(autodescricao)
+                .build();
+    }
+
+    private static List<Long> ids(List<BuscaTextualAdvogados.Resultado> resultados) {
+        return resultados.stream().map(BuscaTextualAdvogados.Resultado::id).toList();
+    }
+}
@@ -0,0 +1,76 @@
+package com.jusconnect.backend.services.tarefas;
+
+import com.jusconnect.backend.enums.StatusSolicitacao;
+import com.jusconnect.backend.repositories.SolicitacaoRepository;
+import com.jusconnect.backend.repositories.projections.SolicitacaoEstadoProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes do arquivamento de solicitações sob a trava")
+class ArquivamentoSolicitacoesTest {
+
+    private SolicitacaoRepository solicitacaoRepository;
+    private TravasTarefas travasTarefas;
+    private ArquivamentoSolicitacoes arquivamento;
+
+    @BeforeEach
+    void setUp() {
+        solicitacaoRepository = mock(SolicitacaoRepository.class);
+        travasTarefas = mock(TravasTarefas.class);
+        List<SolicitacaoEstadoProjection> loteCheio = List.of(estado(1L), estado(2L));
+        when(solicitacaoRepository.findEstadosCriadosAntes(any(StatusSolicitacao.class), any(LocalDateTime.class),
+                any(Limit.class))).thenReturn(loteCheio);
+        when(solicitacaoRepository.arquivar(anyCollection(), any(StatusSolicitacao.class), any(LocalDateTime.class)))
+                .thenReturn(2);
+
+        arquivamento = new ArquivamentoSolicitacoes(solicitacaoRepository, travasTarefas, 90, 365, 2, 300);
+    }
+
+    @Test
+    @DisplayName("Renova a trava antes de cada lote e para tudo quando ela é perdida")
+    void devePararQuandoPerdeATrava() {
+        when(travasTarefas.adquirir(eq(ArquivamentoSolicitacoes.TAREFA), any(Duration.class)))
+                .thenReturn(true, true, false);
+
+        assertEquals(4, arquivamento.arquivar());
+
+        InOrder ordem = inOrder(travasTarefas, solicitacaoRepository);
+        ordem.verify(travasTarefas).adquirir(eq(ArquivamentoSolicitacoes.TAREFA), any(Duration.class));
+        ordem.verify(solicitacaoRepository).arquivar(anyCollection(), any(StatusSolicitacao.class), any(LocalDateTime.class));
+        ordem.verify(travasTarefas).adquirir(eq(ArquivamentoSolicitacoes.TAREFA), any(Duration.class));
+        ordem.verify(solicitacaoRepository).arquivar(anyCollection(), any(StatusSolicitacao.class), any(LocalDateTime.class));
+        ordem.verify(travasTarefas).adquirir(eq(ArquivamentoSolicitacoes.TAREFA), any(Duration.class));
+        // Sem a trava, nenhum outro status é lido nem arquivado
+        verify(solicitacaoRepository, times(2)).arquivar(anyCollection(), any(StatusSolicitacao.class), any(LocalDateTime.class));
+        verify(solicitacaoRepository, never()).findEstadosCriadosAntes(eq(StatusSolicitacao.ACEITA),
+                any(LocalDateTime.class), any(Limit.class));
+        verify(travasTarefas).liberar(ArquivamentoSolicitacoes.TAREFA);
+    }
+
+    @Test
+    @DisplayName("Não lê nem move nada enquanto outra instância detém a trava")
+    void naoDeveArquivarSemTrava() {
+        when(travasTarefas.adquirir(eq(ArquivamentoSolicitacoes.TAREFA), any(Duration.class))).thenReturn(false);
+
+        assertEquals(0, arquivamento.arquivar());
+
+        verifyNoInteractions(solicitacaoRepository);
+    }
+
+    private static SolicitacaoEstadoProjection estado(Long id) {
+        SolicitacaoEstadoProjection estado = mock(SolicitacaoEstadoProjection.class);
+        when(estado.getId()).thenReturn(id);
+        return estado;
+    }
+}
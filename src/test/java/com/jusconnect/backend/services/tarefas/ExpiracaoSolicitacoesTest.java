@@ -0,0 +1,108 @@
+package com.jusconnect.backend.services.tarefas;
+
+import com.jusconnect.backend.enums.StatusSolicitacao;
+import com.jusconnect.backend.repositories.SolicitacaoRepository;
+import com.jusconnect.backend.repositories.projections.SolicitacaoEstadoProjection;
+import com.jusconnect.backend.services.eventos.CanalSolicitacoesPublicas;
+import com.jusconnect.backend.services.eventos.EventoSolicitacaoPublica;
+import com.jusconnect.backend.services.reservas.ReservasSolicitacoes;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes da expiração de solicitações pendentes")
+class ExpiracaoSolicitacoesTest {
+
+    private SolicitacaoRepository solicitacaoRepository;
+    private TravasTarefas travasTarefas;
+    private ReservasSolicitacoes reservasSolicitacoes;
+    private CanalSolicitacoesPublicas canal;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        solicitacaoRepository = mock(SolicitacaoRepository.class);
+        travasTarefas = mock(TravasTarefas.class);
+        reservasSolicitacoes = mock(ReservasSolicitacoes.class);
+        canal = mock(CanalSolicitacoesPublicas.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(travasTarefas.adquirir(eq(ExpiracaoSolicitacoes.TAREFA), any(Duration.class))).thenReturn(true);
+        // Lote incompleto (tamanho 5): 1 e 2 públicas, 3 privada
+        List<SolicitacaoEstadoProjection> lote = List.of(estado(1L, true), estado(2L, true), estado(3L, false));
+        when(solicitacaoRepository.findEstadosCriadosAntes(eq(StatusSolicitacao.PENDENTE), any(LocalDateTime.class),
+                any(Limit.class))).thenReturn(lote);
+    }
+
+    @Test
+    @DisplayName("No PostgreSQL só tira do feed as que o UPDATE ... RETURNING alterou")
+    void devePublicarSoAsAlteradasNoPostgres() {
+        // A 2 foi respondida entre a seleção e o UPDATE
+        when(jdbcTemplate.queryForList(startsWith("UPDATE solicitacoes SET status = ?"), eq(Long.class),
+                any(Object[].class))).thenReturn(List.of(1L, 3L));
+
+        assertEquals(2, expiracao(new PostgreSQLDialect()).expirar());
+
+        verify(reservasSolicitacoes).remover(List.of(1L));
+        verify(canal).publicar(EventoSolicitacaoPublica.removida(1L));
+        verify(canal, never()).publicar(EventoSolicitacaoPublica.removida(2L));
+        verify(solicitacaoRepository, never()).expirarSePendentes(anyCollection(), any(StatusSolicitacao.class),
+                any(LocalDateTime.class), any(StatusSolicitacao.class));
+        verify(travasTarefas).liberar(ExpiracaoSolicitacoes.TAREFA);
+    }
+
+    @Test
+    @DisplayName("Nos demais bancos relê as alteradas pela data de resposta gravada no UPDATE")
+    void deveRelerAsAlteradasNosDemaisBancos() {
+        when(solicitacaoRepository.findIdsExpiradosEm(anyCollection(), eq(StatusSolicitacao.EXPIRADA),
+                any(LocalDateTime.class))).thenReturn(List.of(2L));
+
+        assertEquals(1, expiracao(new H2Dialect()).expirar());
+
+        verify(solicitacaoRepository).expirarSePendentes(eq(List.of(1L, 2L, 3L)), eq(StatusSolicitacao.EXPIRADA),
+                any(LocalDateTime.class), eq(StatusSolicitacao.PENDENTE));
+        verify(reservasSolicitacoes).remover(List.of(2L));
+        verify(canal).publicar(EventoSolicitacaoPublica.removida(2L));
+        verify(canal, never()).publicar(EventoSolicitacaoPublica.removida(1L));
+    }
+
+    @Test
+    @DisplayName("Não lê nem altera nada enquanto outra instância detém a trava")
+    void naoDeveExpirarSemTrava() {
+        when(travasTarefas.adquirir(eq(ExpiracaoSolicitacoes.TAREFA), any(Duration.class))).thenReturn(false);
+
+        assertEquals(0, expiracao(new H2Dialect()).expirar());
+
+        verifyNoInteractions(solicitacaoRepository, reservasSolicitacoes, canal);
+    }
+
+    private ExpiracaoSolicitacoes expiracao(Dialect dialeto) {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class, RETURNS_DEEP_STUBS);
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect())
+                .thenReturn(dialeto);
+        return new ExpiracaoSolicitacoes(solicitacaoRepository, travasTarefas, reservasSolicitacoes, canal,
+                jdbcTemplate, mock(TransactionTemplate.class), entityManagerFactory, 30, 5, 300);
+    }
+
+    private static SolicitacaoEstadoProjection estado(Long id, boolean publica) {
+        SolicitacaoEstadoProjection estado = mock(SolicitacaoEstadoProjection.class);
+        when(estado.getId()).thenReturn(id);
+        when(estado.getPublica()).thenReturn(publica);
+        return estado;
+    }
+}
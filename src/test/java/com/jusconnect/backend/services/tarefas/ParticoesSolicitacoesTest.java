@@ -0,0 +1,166 @@
+package com.jusconnect.backend.services.tarefas;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes das partições mensais de solicitações")
+class ParticoesSolicitacoesTest {
+
+    private static final String ATUAL = "solicitacoes_p" + YearMonth.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private TravasTarefas travasTarefas;
+    private ParticoesSolicitacoes particoes;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        travasTarefas = mock(TravasTarefas.class);
+        // O SQL é verificado pela ordem dos comandos; a transação apenas executa o bloco
+        doAnswer(inv -> {
+            inv.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+        when(travasTarefas.adquirir(eq(ParticoesSolicitacoes.TAREFA), any(Duration.class))).thenReturn(true);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT relkind"), eq(String.class))).thenReturn("p");
+        when(jdbcTemplate.queryForObject(startsWith("SELECT to_regclass"), eq(Boolean.class))).thenReturn(true);
+
+        particoes = new ParticoesSolicitacoes(jdbcTemplate, transactionTemplate, travasTarefas,
+                mock(EntityManagerFactory.class), 3, 24);
+    }
+
+    @Test
+    @DisplayName("Não bloqueia nem converte a tabela já particionada")
+    void deveIgnorarTabelaJaParticionada() {
+        particoes.inicializar();
+        particoes.inicializar();
+
+        verify(jdbcTemplate, never()).execute(startsWith("LOCK TABLE"));
+        verify(jdbcTemplate, never()).execute(contains("solicitacoes_particionada"));
+        verify(jdbcTemplate, times(2)).execute(
+                "CREATE TABLE IF NOT EXISTS solicitacoes_default PARTITION OF solicitacoes DEFAULT");
+    }
+
+    @Test
+    @DisplayName("Desiste da conversão quando outra instância converteu enquanto esperava o lock")
+    void deveRechecarAposLock() {
+        when(jdbcTemplate.queryForObject(startsWith("SELECT relkind"), eq(String.class))).thenReturn("r", "p");
+
+        particoes.inicializar();
+
+        verify(jdbcTemplate).execute("LOCK TABLE solicitacoes IN ACCESS EXCLUSIVE MODE");
+        verify(jdbcTemplate, never()).execute(contains("solicitacoes_particionada"));
+    }
+
+    @Test
+    @DisplayName("Converte a tabela comum copiando as linhas antes de trocar os nomes")
+    void deveConverterTabelaComum() {
+        when(jdbcTemplate.queryForObject(startsWith("SELECT relkind"), eq(String.class))).thenReturn("r", "r");
+
+        particoes.inicializar();
+
+        InOrder ordem = inOrder(jdbcTemplate);
+        ordem.verify(jdbcTemplate).execute("LOCK TABLE solicitacoes IN ACCESS EXCLUSIVE MODE");
+        ordem.verify(jdbcTemplate).execute(startsWith("CREATE TABLE solicitacoes_particionada (LIKE solicitacoes"));
+        ordem.verify(jdbcTemplate).execute(startsWith("CREATE TABLE " + ATUAL + " PARTITION OF solicitacoes_particionada"));
+        ordem.verify(jdbcTemplate).execute("CREATE TABLE solicitacoes_default PARTITION OF solicitacoes_particionada DEFAULT");
+        ordem.verify(jdbcTemplate).update("INSERT INTO solicitacoes_particionada SELECT * FROM solicitacoes");
+        ordem.verify(jdbcTemplate).execute("DROP TABLE solicitacoes");
+        ordem.verify(jdbcTemplate).execute("ALTER TABLE solicitacoes_particionada RENAME TO solicitacoes");
+    }
+
+    @Test
+    @DisplayName("Cria a partição que falta direto quando a partição padrão não tem linhas do mês")
+    void deveCriarParticaoQueFalta() {
+        when(jdbcTemplate.queryForObject("SELECT to_regclass('" + ATUAL + "') IS NOT NULL", Boolean.class))
+                .thenReturn(false);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT EXISTS"), eq(Boolean.class))).thenReturn(false);
+
+        particoes.manter();
+
+        verify(jdbcTemplate).execute(startsWith("CREATE TABLE " + ATUAL + " PARTITION OF solicitacoes FOR VALUES"));
+        verify(jdbcTemplate, never()).execute(contains("ATTACH PARTITION"));
+    }
+
+    @Test
+    @DisplayName("Move as linhas da partição padrão para a partição criada com atraso")
+    void deveMoverLinhasDaParticaoPadrao() {
+        when(jdbcTemplate.queryForObject("SELECT to_regclass('" + ATUAL + "') IS NOT NULL", Boolean.class))
+                .thenReturn(false);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT EXISTS"), eq(Boolean.class))).thenReturn(true);
+
+        particoes.manter();
+
+        InOrder ordem = inOrder(jdbcTemplate);
+        ordem.verify(jdbcTemplate).execute("CREATE TABLE " + ATUAL
+                + " (LIKE solicitacoes INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        ordem.verify(jdbcTemplate).update(argThat((String sql) -> sql.startsWith("WITH movidas AS (DELETE FROM solicitacoes_default")
+                && sql.endsWith("INSERT INTO " + ATUAL + " SELECT * FROM movidas")));
+        ordem.verify(jdbcTemplate).execute(startsWith("ALTER TABLE solicitacoes ATTACH PARTITION " + ATUAL));
+    }
+
+    @Test
+    @DisplayName("Copia o que restou na partição expirada para o histórico antes de removê-la")
+    void deveCopiarRestantesAntesDeRemover() {
+        when(jdbcTemplate.queryForList(startsWith("SELECT c.relname"), eq(String.class)))
+                .thenReturn(List.of("solicitacoes_p200001", "solicitacoes_default", ATUAL));
+
+        particoes.manter();
+
+        InOrder ordem = inOrder(jdbcTemplate);
+        ordem.verify(jdbcTemplate).execute("ALTER TABLE solicitacoes DETACH PARTITION solicitacoes_p200001");
+        ordem.verify(jdbcTemplate).update(argThat((String sql) -> sql.contains("INSERT INTO solicitacoes_historico")
+                && sql.contains("FROM solicitacoes_p200001") && sql.contains("ON CONFLICT (id) DO NOTHING")));
+        ordem.verify(jdbcTemplate).execute("DROP TABLE solicitacoes_p200001");
+        verify(jdbcTemplate, never()).execute(contains("DETACH PARTITION solicitacoes_default"));
+        verify(jdbcTemplate, never()).execute(contains("DETACH PARTITION " + ATUAL));
+        verify(travasTarefas).liberar(ParticoesSolicitacoes.TAREFA);
+    }
+
+    @Test
+    @DisplayName("Não mantém as partições enquanto outra instância detém a trava")
+    void naoDeveManterSemTrava() {
+        when(travasTarefas.adquirir(eq(ParticoesSolicitacoes.TAREFA), any(Duration.class))).thenReturn(false);
+        when(jdbcTemplate.queryForList(startsWith("SELECT c.relname"), eq(String.class)))
+                .thenReturn(List.of("solicitacoes_p200001"));
+
+        particoes.manter();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+        verify(travasTarefas, never()).liberar(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve extrair o mês do nome da partição")
+    void deveExtrairMesDaParticao() {
+        assertEquals(Optional.of(YearMonth.of(2026, 10)), ParticoesSolicitacoes.mesDaParticao("solicitacoes_p202610"));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar tabelas que não seguem o padrão de nome")
+    void deveIgnorarOutrosNomes() {
+        assertTrue(ParticoesSolicitacoes.mesDaParticao("solicitacoes_historico").isEmpty());
+        assertTrue(ParticoesSolicitacoes.mesDaParticao("solicitacoes_default").isEmpty());
+        assertTrue(ParticoesSolicitacoes.mesDaParticao("solicitacoes_p2026").isEmpty());
+    }
+}